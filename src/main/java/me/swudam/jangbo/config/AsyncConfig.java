@@ -0,0 +1,12 @@
+package me.swudam.jangbo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// 비동기 작업(@Async) 활성화
+// - 상인 알림 메일 등 느린 외부 호출을 배치/요청 스레드 밖에서 처리
+// - 실행기는 스프링 부트 기본 applicationTaskExecutor 사용 (spring.task.execution.* 로 조정)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
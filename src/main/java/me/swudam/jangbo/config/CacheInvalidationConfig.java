@@ -0,0 +1,25 @@
+package me.swudam.jangbo.config;
+
+import me.swudam.jangbo.support.CacheInvalidationBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 노드 간 캐시 무효화 채널 구독
+// - 구독 연결은 컨테이너가 관리 (끊기면 재연결)
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+                                                                            CacheInvalidationBus bus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        if (bus.isEnabled()) {
+            container.addMessageListener(bus, new ChannelTopic(bus.getChannel()));
+        }
+        return container;
+    }
+}
@@ -22,7 +22,7 @@ public class CorsConfig {
         ));
         configuration.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Location"));
+        configuration.setExposedHeaders(List.of("Location", "ETag", "X-Guest-Cart-Token")); // 조건부 GET, 게스트 장바구니 토큰
         configuration.setAllowCredentials(true); // withCredentials
         configuration.setMaxAge(3600L);
 
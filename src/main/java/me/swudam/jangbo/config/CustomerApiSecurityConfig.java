@@ -58,6 +58,8 @@ public class CustomerApiSecurityConfig {
                         // 고객 상태 확인/로그아웃은 인증 필요
                         .requestMatchers("/api/customers/me").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/customers/logout").authenticated()
+                        // 게스트 장바구니(Redis)는 비로그인 허용 -> /api/carts/** 보다 먼저 매칭
+                        .requestMatchers("/api/carts/guest/**", "/api/carts/guest").permitAll()
                         .requestMatchers("/api/carts/**").authenticated()
                         .requestMatchers("/api/ai/cart/bulk-add").authenticated()
                         .requestMatchers("/api/reviews/**").authenticated()
@@ -0,0 +1,11 @@
+package me.swudam.jangbo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 배치 작업(@Scheduled) 활성화
+// - 다중 노드 중복 실행은 각 작업에서 RedisJobLock으로 방지
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
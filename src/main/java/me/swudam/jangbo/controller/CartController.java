@@ -6,6 +6,9 @@ import me.swudam.jangbo.dto.cart.*;
 import me.swudam.jangbo.entity.Customer;
 import me.swudam.jangbo.repository.CustomerRepository;
 import me.swudam.jangbo.service.CartService;
+import me.swudam.jangbo.support.ETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.Authentication;
@@ -26,10 +29,22 @@ public class CartController {
     /* 조회 */
     // 장바구니 전체 조회
     // 프론트 기본 장바구니 화면 진입 시 사용
+    // - 조건부 GET: If-None-Match가 현재 ETag와 같으면 본문 없이 304
     @GetMapping
-    public ResponseEntity<CartSummaryResponseDto> getCart() {
+    public ResponseEntity<CartSummaryResponseDto> getCart(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         Long customerId = getCurrentCustomerIDorThrow();
-        return ResponseEntity.ok(cartService.getCartDetail(customerId));
+        // ETag는 본문보다 먼저 계산 (그 사이 변경이 생겨도 다음 요청에서 다시 받도록)
+        String etag = cartService.getCartETag(customerId);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        CartSummaryResponseDto body = cartService.getCartDetail(customerId);
+        if (etag == null) {
+            etag = cartService.getCartETag(customerId); // 장바구니가 방금 생성된 경우
+        }
+        return ResponseEntity.ok().eTag(etag).body(body);
     }
 
     // 선택 항목 요약(합계/수수료/총액)
@@ -113,6 +128,29 @@ public class CartController {
         return ResponseEntity.ok(cartService.clearCart(customerId));
     }
 
+    /* 기기 간 증분 동기화 */
+    // revision 이후 바뀐 줄만 조회
+    // - query: ?since=12 (마지막으로 받은 toRevision, 처음이면 0 -> 전체)
+    // - response: { fromRevision, toRevision, fullSync, added, updated, removedItemIds }
+    @GetMapping("/changes")
+    public ResponseEntity<CartDeltaResponseDto> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since
+    ) {
+        Long customerId = getCurrentCustomerIDorThrow();
+        return ResponseEntity.ok(cartService.getChangesSince(customerId, since));
+    }
+
+    // 다른 기기/오프라인 변경 일괄 반영 (수량은 증감으로 합산, 삭제는 다른 기기 변경이 있으면 보류)
+    // - body: { "baseRevision": 12, "ops": [ { "productId": 10, "delta": 1 }, { "productId": 7, "remove": true } ] }
+    // - response: baseRevision 이후 증분 (반영 결과 포함)
+    @PostMapping("/sync")
+    public ResponseEntity<CartDeltaResponseDto> sync(
+            @RequestBody @Valid CartSyncRequestDto requestDto
+    ) {
+        Long customerId = getCurrentCustomerIDorThrow();
+        return ResponseEntity.ok(cartService.sync(customerId, requestDto));
+    }
+
     /* 내부 유틸 메서드 */
     // 현재 로그인 고객 ID 획득
     // SecurityContext → email(username) → DB 조회 → customerId 반환
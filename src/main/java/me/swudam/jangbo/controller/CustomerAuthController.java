@@ -4,8 +4,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import me.swudam.jangbo.dto.CustomerLoginRequestDto;
 import me.swudam.jangbo.repository.CustomerRepository;
+import me.swudam.jangbo.service.GuestCartService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/customers")
 @RequiredArgsConstructor
@@ -32,11 +35,13 @@ public class CustomerAuthController {
     // SecurityBeansConfig에서 노출한 AuthenticationManager 빈을 주입받음
     private final AuthenticationManager authenticationManager;
     private final CustomerRepository customerRepository; // 로그인 성공 후 고객 정보 내려줄 때 사용
+    private final GuestCartService guestCartService; // 로그인 시 게스트 장바구니 병합
 
     /* 로그인 */
     // - POST /api/customers/login
     // - BODY(JSON): { "email": "user@example.com", "password": "..." }
-    // 응답 성공 200: { "authenticated": true, "email": "user@example.com" }
+    // - HEADER(선택): X-Guest-Cart-Token -> 게스트 장바구니를 고객 장바구니로 병합
+    // 응답 성공 200: { "authenticated": true, "email": "user@example.com", "mergedCartItems": 0 }
 
     // 1. 기본 검증 후 UsernamePasswordAuthenticationToken을 만들어 AuthenticationManager에 위임
     // 2. 인증 성공 시 SecurityContext에 저장 + HttpSession 생성(JSESSIONID)
@@ -45,6 +50,7 @@ public class CustomerAuthController {
     // 주의: 이 엔드포인트는 CSRF 면제 대상이어야 프론트에서 편하게 호출 가능
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody CustomerLoginRequestDto requestDto,
+                                   @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String guestCartToken,
                                    HttpServletRequest httpServletRequest) {
 
 
@@ -72,10 +78,26 @@ public class CustomerAuthController {
                 HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context
         );
 
-        // 5. 응답 바디 구성
+        // 5. 게스트 장바구니 병합 (토큰이 있을 때만, upsert 배치 1회)
+        // - 로그인은 이미 성공했으므로 병합 실패는 기록만 (게스트 장바구니는 Redis에 남아 다음 로그인 때 재시도)
+        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
+        int merged = 0;
+        if (StringUtils.hasText(guestCartToken)) {
+            try {
+                Long customerId = customerRepository.findByEmailIgnoreCase(email)
+                        .orElseThrow(() -> new IllegalArgumentException("고객 정보를 찾을 수 없습니다."))
+                        .getId();
+                merged = guestCartService.mergeIntoCustomerCart(guestCartToken, customerId);
+            } catch (RuntimeException e) {
+                log.warn("guest cart merge failed on login: email={}", email, e);
+            }
+        }
+
+        // 6. 응답 바디 구성
         Map<String, Object> body = new HashMap<>();
         body.put("authenticated", true);
-        body.put("email", ((UserDetails) authentication.getPrincipal()).getUsername());
+        body.put("email", email);
+        body.put("mergedCartItems", merged);
 
         return ResponseEntity.ok(body);
     }
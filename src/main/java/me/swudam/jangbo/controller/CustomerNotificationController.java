@@ -0,0 +1,93 @@
+package me.swudam.jangbo.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.CustomerNotificationPageResponseDto;
+import me.swudam.jangbo.dto.RestockSubscriptionResponseDto;
+import me.swudam.jangbo.entity.Customer;
+import me.swudam.jangbo.repository.CustomerRepository;
+import me.swudam.jangbo.service.RestockNotificationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// 고객 재입고 알림 신청 + 알림함
+@RestController
+@RequestMapping("/api/customers/me")
+@RequiredArgsConstructor
+public class CustomerNotificationController {
+
+    private final RestockNotificationService restockNotificationService;
+    private final CustomerRepository customerRepository;
+
+    // 1. 재입고 알림 신청 (품절 상품만, 이미 신청했으면 그대로)
+    // POST - /api/customers/me/restock-subscriptions/{productId}
+    @PostMapping("/restock-subscriptions/{productId}")
+    public ResponseEntity<?> subscribeRestock(@PathVariable Long productId) {
+        restockNotificationService.subscribe(getCurrentCustomerIDorThrow(), productId);
+        return ResponseEntity.ok(Map.of(
+                "subscribed", true,
+                "message", "재입고 알림이 신청되었습니다."
+        ));
+    }
+
+    // 2. 재입고 알림 취소
+    // DELETE - /api/customers/me/restock-subscriptions/{productId}
+    @DeleteMapping("/restock-subscriptions/{productId}")
+    public ResponseEntity<Void> unsubscribeRestock(@PathVariable Long productId) {
+        restockNotificationService.unsubscribe(getCurrentCustomerIDorThrow(), productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 3. 재입고 알림 신청 목록
+    // GET - /api/customers/me/restock-subscriptions
+    @GetMapping("/restock-subscriptions")
+    public ResponseEntity<List<RestockSubscriptionResponseDto>> restockSubscriptions() {
+        return ResponseEntity.ok(restockNotificationService.getSubscriptions(getCurrentCustomerIDorThrow()));
+    }
+
+    // 4. 알림함 (최신순)
+    // GET - /api/customers/me/notifications?before={nextBefore}&size=20
+    @GetMapping("/notifications")
+    public ResponseEntity<CustomerNotificationPageResponseDto> notifications(
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(restockNotificationService.getNotifications(getCurrentCustomerIDorThrow(), before, size));
+    }
+
+    // 5. 알림 읽음 처리
+    // PATCH - /api/customers/me/notifications/read  body: { "ids": [1, 2] }
+    @PatchMapping("/notifications/read")
+    public ResponseEntity<?> markRead(@RequestBody Map<String, List<Long>> body) {
+        int updated = restockNotificationService.markRead(getCurrentCustomerIDorThrow(), body.get("ids"));
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    // Helper: 현재 로그인한 고객 id (미인증 401, 고객 없음 404)
+    private Long getCurrentCustomerIDorThrow() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getName())) {
+            throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+        }
+
+        String email;
+        Object principal = auth.getPrincipal();
+        if (principal instanceof UserDetails ud) {
+            email = ud.getUsername();
+        } else if (principal instanceof String s) {
+            email = s;
+        } else {
+            throw new AuthenticationCredentialsNotFoundException("인증 정보를 확인할 수 없습니다.");
+        }
+
+        Customer customer = customerRepository.findByEmailIgnoreCase(email)
+                .orElseThrow(() -> new IllegalArgumentException("고객 정보를 찾을 수 없습니다."));
+        return customer.getId();
+    }
+}
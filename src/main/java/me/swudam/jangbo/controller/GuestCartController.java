@@ -0,0 +1,90 @@
+package me.swudam.jangbo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.cart.AddToCartRequestDto;
+import me.swudam.jangbo.dto.cart.AddToCartResponseDto;
+import me.swudam.jangbo.dto.cart.CartSummaryResponseDto;
+import me.swudam.jangbo.dto.cart.DeleteItemsResponseDto;
+import me.swudam.jangbo.dto.cart.UpdateQuantityResponseDto;
+import me.swudam.jangbo.service.GuestCartService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 비로그인(게스트) 장바구니 API
+// - 토큰은 X-Guest-Cart-Token 헤더로 주고받음 (없으면 담기 시 새로 발급해 응답 헤더로 내려줌)
+// - 게스트 줄은 itemId가 없으므로 productId로 식별
+// - 로그인 시 같은 헤더를 보내면 고객 장바구니로 병합됨 (CustomerAuthController)
+@RestController
+@RequestMapping("/api/carts/guest")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    private final GuestCartService guestCartService;
+
+    /* 조회 */
+    @GetMapping
+    public ResponseEntity<CartSummaryResponseDto> getCart(
+            @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String token
+    ) {
+        return ResponseEntity.ok(guestCartService.getCart(token));
+    }
+
+    /* 변경 (담기/수정/삭제) */
+    // 담기
+    // - body: { "productId": 10, "quantity": 2 }
+    // - 응답 헤더 X-Guest-Cart-Token: 이후 요청에 사용할 토큰
+    @PostMapping("/items")
+    public ResponseEntity<AddToCartResponseDto> addToCart(
+            @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String token,
+            @RequestBody @Valid AddToCartRequestDto requestDto
+    ) {
+        String resolved = guestCartService.resolveOrIssueToken(token);
+        int quantity = guestCartService.add(resolved, requestDto.getProductId(), requestDto.getQuantity());
+        return ResponseEntity.ok()
+                .header(GuestCartService.TOKEN_HEADER, resolved)
+                .body(AddToCartResponseDto.builder()
+                        .quantity(quantity)
+                        .message("장바구니에 담았습니다.")
+                        .build());
+    }
+
+    // 수량 지정 변경
+    // - path: /items/{productId}?quantity=3
+    @PatchMapping("/items/{productId}")
+    public ResponseEntity<UpdateQuantityResponseDto> updateQuantity(
+            @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String token,
+            @PathVariable("productId") Long productId,
+            @RequestParam("quantity") int quantity
+    ) {
+        guestCartService.updateQuantity(token, productId, quantity);
+        return ResponseEntity.ok(UpdateQuantityResponseDto.builder()
+                .quantity(quantity)
+                .message("수량을 " + quantity + "개로 변경했습니다.")
+                .build());
+    }
+
+    // 단일 상품 삭제
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<DeleteItemsResponseDto> removeOne(
+            @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String token,
+            @PathVariable("productId") Long productId
+    ) {
+        int deleted = guestCartService.remove(token, productId);
+        return ResponseEntity.ok(DeleteItemsResponseDto.builder()
+                .deletedCount(deleted)
+                .message(deleted > 0 ? "해당 항목을 삭제했습니다." : "삭제할 항목이 없습니다.")
+                .build());
+    }
+
+    // 비우기
+    @DeleteMapping
+    public ResponseEntity<DeleteItemsResponseDto> clearCart(
+            @RequestHeader(value = GuestCartService.TOKEN_HEADER, required = false) String token
+    ) {
+        guestCartService.clear(token);
+        return ResponseEntity.ok(DeleteItemsResponseDto.builder()
+                .message("장바구니를 비웠습니다.")
+                .build());
+    }
+}
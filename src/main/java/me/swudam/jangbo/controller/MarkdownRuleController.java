@@ -0,0 +1,65 @@
+package me.swudam.jangbo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.MarkdownRuleRequestDto;
+import me.swudam.jangbo.dto.MarkdownRuleResponseDto;
+import me.swudam.jangbo.security.MerchantUserDetails;
+import me.swudam.jangbo.service.MarkdownService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+// 상인 전용 마감 할인 규칙 API
+// Prefix URL: /api/merchants/markdown-rules
+// - 규칙 적용/복구는 MarkdownService 스케줄러가 수행
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/merchants/markdown-rules")
+public class MarkdownRuleController {
+
+    private final MarkdownService markdownService;
+
+    // 1. 규칙 등록
+    // POST /api/merchants/markdown-rules
+    @PostMapping
+    public ResponseEntity<MarkdownRuleResponseDto> create(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @Valid @RequestBody MarkdownRuleRequestDto requestDto
+    ) {
+        MarkdownRuleResponseDto body = markdownService.create(principal.getId(), requestDto);
+        return ResponseEntity.created(URI.create("/api/merchants/markdown-rules/" + body.getId())).body(body);
+    }
+
+    // 2. 내 규칙 목록
+    // GET /api/merchants/markdown-rules
+    @GetMapping
+    public ResponseEntity<List<MarkdownRuleResponseDto>> list(@AuthenticationPrincipal MerchantUserDetails principal) {
+        return ResponseEntity.ok(markdownService.getRules(principal.getId()));
+    }
+
+    // 3. 활성/비활성 전환
+    // PATCH /api/merchants/markdown-rules/{ruleId}/active?active={true|false}
+    @PatchMapping("/{ruleId}/active")
+    public ResponseEntity<MarkdownRuleResponseDto> changeActive(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @PathVariable Long ruleId,
+            @RequestParam boolean active
+    ) {
+        return ResponseEntity.ok(markdownService.changeActive(principal.getId(), ruleId, active));
+    }
+
+    // 4. 삭제
+    // DELETE /api/merchants/markdown-rules/{ruleId}
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<Void> delete(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @PathVariable Long ruleId
+    ) {
+        markdownService.delete(principal.getId(), ruleId);
+        return ResponseEntity.noContent().build();
+    }
+}
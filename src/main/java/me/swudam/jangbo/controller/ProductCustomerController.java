@@ -1,15 +1,32 @@
 package me.swudam.jangbo.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.CategoryPriceStatsResponseDto;
+import me.swudam.jangbo.dto.PriceChartResponseDto;
+import me.swudam.jangbo.dto.ProductBatchSearchRequestDto;
+import me.swudam.jangbo.dto.ProductBatchSearchResponseDto;
+import me.swudam.jangbo.dto.ProductPageResponseDto;
 import me.swudam.jangbo.dto.ProductResponseDto;
-import me.swudam.jangbo.entity.Product;
-import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.dto.ProductSyncResponseDto;
+import me.swudam.jangbo.dto.SuggestionDto;
+import me.swudam.jangbo.entity.Category;
+import me.swudam.jangbo.service.AutocompleteIndex;
+import me.swudam.jangbo.service.PriceHistoryService;
 import me.swudam.jangbo.service.ProductService;
+import me.swudam.jangbo.service.ProductSyncService;
+import me.swudam.jangbo.service.StockPushHub;
+import me.swudam.jangbo.support.ETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 // 고객 전용 상품 조회 REST API
 @RestController
@@ -18,25 +35,68 @@ import java.util.Locale;
 public class ProductCustomerController {
 
     private final ProductService productService;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ProductSyncService productSyncService;
+    private final PriceHistoryService priceHistoryService;
+    private final StockPushHub stockPushHub;
 
     // 1. 단건 상세 조회
     // GET /api/products/{productId}
+    // - 조건부 GET: If-None-Match가 현재 ETag와 같으면 304
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponseDto> getOne(@PathVariable Long productId) {
-        Product product = productService.getPublicProduct(productId);
-        return ResponseEntity.ok(ProductResponseDto.from(product));
+    public ResponseEntity<ProductResponseDto> getOne(
+            @PathVariable Long productId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = productService.getPublicProductETag(productId);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(productService.getPublicProductDto(productId));
+    }
+
+    // 0. 전역 목록 (커서 페이지)
+    // GET /api/products?sort={recent|cheap|fresh|popular|trending}&cursor=...&size=20
+    // - 응답: { items, nextCursor, hasNext } -> 다음 페이지는 nextCursor를 cursor로 전달
+    @GetMapping
+    public ResponseEntity<ProductPageResponseDto> list(
+            @RequestParam(name = "sort", required = false, defaultValue = "recent") String sortRaw,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String sort = normalizeSort(sortRaw);
+        String etag = pageETag(productService.getSearchProductsETag(null, null, sort), cursor, size);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(productService.getPublicProductPage(sort, cursor, size));
     }
 
     // 2. 특정 상인(상점 페이지) 목록
-    // GET /api/products/merchants/{merchantId}?sort={recent|cheap|fresh} -> 인기순 sort 추후 추가
+    // GET /api/products/merchants/{merchantId}?sort={recent|cheap|fresh|popular|trending}
+    // - cursor 또는 size를 주면 커서 페이지 응답 { items, nextCursor, hasNext }, 없으면 기존처럼 전체 목록
     @GetMapping("/merchants/{merchantId}")
-    public ResponseEntity<List<ProductResponseDto>> listByMerchant(
+    public ResponseEntity<?> listByMerchant(
             @PathVariable Long merchantId,
-            @RequestParam(name = "sort", required = false, defaultValue = "recent") String sortRaw
+            @RequestParam(name = "sort", required = false, defaultValue = "recent") String sortRaw,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         String sort = normalizeSort(sortRaw);
-        List<Product> products = productService.getPublicProductsByMerchant(merchantId, sort);
-        return ResponseEntity.ok(ProductResponseDto.fromList(products));
+        String etag = productService.getPublicProductsByMerchantETag(merchantId, sort);
+        if (isPaged(cursor, size)) {
+            etag = pageETag(etag, cursor, size);
+        }
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isPaged(cursor, size)) {
+            return ResponseEntity.ok().eTag(etag)
+                    .body(productService.getPublicProductPageByMerchant(merchantId, sort, cursor, size));
+        }
+        return ResponseEntity.ok().eTag(etag).body(productService.getPublicProductDtosByMerchant(merchantId, sort));
     }
 
     // 3. 전역 이름 검색 + 정렬
@@ -48,22 +108,130 @@ public class ProductCustomerController {
     // 프론트 전달 (AI 장보 2차 카테고리)
     // - 최대한 상점 한 곳에서 구매할 수 있는 식재료: sort=recent&merchantId={상인ID}
     // - 유통기한, 가격순: sort=cheap|fresh 로 호출 (merchantId 생략)
+    // - cursor 또는 size를 주면 커서 페이지 응답 { items, nextCursor, hasNext }
+    // - mode=fuzzy: 초성/오타 허용 검색 -> 관련도 순 상위 size건 목록 (sort/merchantId/cursor 무시)
     @GetMapping("/search")
-    public ResponseEntity<List<ProductResponseDto>> search(
+    public ResponseEntity<?> search(
             @RequestParam(name = "keyword", required = false) String keyword,
             @RequestParam(name = "sort", required = false, defaultValue = "recent") String sortRaw,
-            @RequestParam(name = "merchantId", required = false) Long merchantId // recent일 때만 필요
+            @RequestParam(name = "merchantId", required = false) Long merchantId, // recent일 때만 필요
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "mode", required = false) String mode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        if ("fuzzy".equalsIgnoreCase(mode)) {
+            return ResponseEntity.ok(productService.searchFuzzyProductDtos(keyword, size));
+        }
         String sort = normalizeSort(sortRaw);
-        List<Product> products = productService.searchPublicProducts(merchantId, keyword, sort);
-        return ResponseEntity.ok(ProductResponseDto.fromList(products));
+        String etag = isPaged(cursor, size)
+                ? productService.getSearchProductPageETag(merchantId, keyword, sort, cursor, size) // 내려줄 페이지 기준
+                : productService.getSearchProductsETag(merchantId, keyword, sort);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isPaged(cursor, size)) {
+            return ResponseEntity.ok().eTag(etag)
+                    .body(productService.searchPublicProductPage(merchantId, keyword, sort, cursor, size));
+        }
+        if (keyword == null || keyword.isBlank()) {
+            return ResponseEntity.ok().eTag(etag).body(productService.getPublicProductDtos(sort)); // 전역 목록 (캐시)
+        }
+        return ResponseEntity.ok().eTag(etag).body(productService.searchPublicProductDtos(merchantId, keyword, sort));
+    }
+
+    // 3-1. 여러 검색어 한 번에 검색 (장보기 목록)
+    // POST /api/products/search/batch
+    // body: { "keywords": ["계란", "대파", "두부"], "sort": "cheap" }
+    // - 검색어별 판매 가능 상품 목록 (요청 순서, 동의어 포함)
+    @PostMapping("/search/batch")
+    public ResponseEntity<ProductBatchSearchResponseDto> searchBatch(
+            @RequestBody @Valid ProductBatchSearchRequestDto requestDto
+    ) {
+        String sort = requestDto.getSort() == null ? "cheap" : normalizeSort(requestDto.getSort());
+        Map<String, List<ProductResponseDto>> found = productService.searchSellableProductDtos(requestDto.getKeywords(), sort);
+        List<ProductBatchSearchResponseDto.KeywordResult> results = found.entrySet().stream()
+                .map(e -> ProductBatchSearchResponseDto.KeywordResult.builder()
+                        .keyword(e.getKey())
+                        .products(e.getValue())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(ProductBatchSearchResponseDto.builder().results(results).build());
+    }
+
+    // 4. 검색어 자동완성 (입력마다 호출)
+    // GET /api/products/autocomplete?q=두ㅂ&size=10
+    // - 상품명/상점명/카테고리 중 접두사(자모 단위, 초성 포함)가 일치하는 항목을 인기 순으로 최대 10건
+    // - 메모리 색인만 조회 (DB/트랜잭션 없음)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SuggestionDto>> autocomplete(
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(autocompleteIndex.suggest(q, Math.max(1, size)));
+    }
+
+    // 5. 앱 카탈로그 증분 동기화
+    // GET /api/products/sync?since={watermark}&size=500
+    // - since 없음(처음) 또는 보관 기간이 지난 워터마크 -> fullSync=true, 로컬 카탈로그를 비우고 처음부터 받음
+    // - response: { fullSync, upserted, deletedIds, watermark, hasMore } -> hasMore면 watermark로 바로 이어서 요청
+    @GetMapping("/sync")
+    public ResponseEntity<ProductSyncResponseDto> sync(
+            @RequestParam(name = "since", required = false) String since,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(productSyncService.changesSince(since, size));
+    }
+
+    // 6. 상품 가격 차트 (일별 시가/종가/최저/최고)
+    // GET /api/products/{productId}/price-history?days=30  (최대 365일)
+    @GetMapping("/{productId}/price-history")
+    public ResponseEntity<PriceChartResponseDto> priceHistory(
+            @PathVariable Long productId,
+            @RequestParam(name = "days", required = false) Integer days
+    ) {
+        return ResponseEntity.ok(priceHistoryService.getPriceChart(productId, days));
+    }
+
+    // 7. 카테고리 일별 평균 가격
+    // GET /api/products/categories/{category}/price-stats?days=30  (하루 한 번 집계된 값)
+    @GetMapping("/categories/{category}/price-stats")
+    public ResponseEntity<CategoryPriceStatsResponseDto> categoryPriceStats(
+            @PathVariable Category category,
+            @RequestParam(name = "days", required = false) Integer days
+    ) {
+        return ResponseEntity.ok(priceHistoryService.getCategoryStats(category, days));
+    }
+
+    // 8. 실시간 재고/품절 구독 (SSE)
+    // GET /api/products/stock-stream?ids=1,2,3  (최대 100개)
+    // - 연결 직후 현재 값 1번, 이후 재고/품절/가격이 바뀔 때마다 event: stock, data: { productId, stock, soldOut, price, deleted }
+    // - 같은 상품 변경은 합쳐서 초당 최대 jangbo.stock-push.max-updates-per-second 번
+    @GetMapping(value = "/stock-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stockStream(@RequestParam(name = "ids") List<Long> ids) {
+        return stockPushHub.subscribe(ids);
+    }
+
+    // 내부 유틸: 커서 페이지 요청 여부
+    private boolean isPaged(String cursor, Integer size) {
+        return (cursor != null && !cursor.isBlank()) || size != null;
+    }
+
+    // 내부 유틸: 페이지 ETag (목록 ETag + 커서 위치/크기)
+    private String pageETag(String listETag, String cursor, Integer size) {
+        return ETags.of(listETag, cursor, size);
+    }
+
+    // 내부 유틸: 304 Not Modified (본문 없음)
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
     }
 
     // 내부 유틸: 정렬 파라미터 보정
     private String normalizeSort(String raw) {
         String key = (raw == null) ? "recent" : raw.toLowerCase(Locale.ROOT).trim();
         return switch (key) {
-            case "recent", "cheap", "fresh", "popular" -> key;
+            case "recent", "cheap", "fresh", "popular", "trending" -> key;
             default -> "recent";
         };
     }
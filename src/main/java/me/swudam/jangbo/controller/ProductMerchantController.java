@@ -2,17 +2,30 @@ package me.swudam.jangbo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.PriceChangeHistoryResponseDto;
 import me.swudam.jangbo.dto.ProductCreateRequestDto;
+import me.swudam.jangbo.dto.ProductImportResultDto;
+import me.swudam.jangbo.dto.ProductInventoryBatchRequestDto;
+import me.swudam.jangbo.dto.ProductInventoryBatchResultDto;
 import me.swudam.jangbo.dto.ProductResponseDto;
 import me.swudam.jangbo.dto.ProductUpdateRequestDto;
 import me.swudam.jangbo.entity.Product;
 import me.swudam.jangbo.security.MerchantUserDetails;
+import me.swudam.jangbo.service.PriceHistoryService;
+import me.swudam.jangbo.service.ProductBulkService;
 import me.swudam.jangbo.service.ProductService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +42,8 @@ import java.util.stream.Collectors;
 public class ProductMerchantController {
 
     private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final PriceHistoryService priceHistoryService;
 
     // 현재 로그인 세션의 상인 id를 꺼내는 메서드
     private Long currentMerchantId(MerchantUserDetails principal) {
@@ -134,4 +149,76 @@ public class ProductMerchantController {
 
         return ResponseEntity.ok(ProductResponseDto.from(product));
     }
+
+    // 6-1. 재고/가격 일괄 변경
+    // PATCH /api/merchants/products/inventory
+    // - items: [{productId, stock, price}] (null인 값은 유지, stock 0 = 품절)
+    // - 한 트랜잭션으로 반영, 하나라도 없는/다른 상인 상품이면 전체 404
+    @PatchMapping("/inventory")
+    public ResponseEntity<ProductInventoryBatchResultDto> updateInventory(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @Valid @RequestBody ProductInventoryBatchRequestDto requestDto
+    ) {
+        final Long merchantId = currentMerchantId(principal);
+
+        return ResponseEntity.ok(productService.updateInventory(merchantId, requestDto));
+    }
+
+    // 6-2. 가격 변경 내역 (감사용)
+    // GET /api/merchants/products/{productId}/price-changes?month=2026-10  (기본 이번 달)
+    @GetMapping("/{productId}/price-changes")
+    public ResponseEntity<PriceChangeHistoryResponseDto> priceChanges(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @PathVariable Long productId,
+            @RequestParam(name = "month", required = false) YearMonth month
+    ) {
+        final Long merchantId = currentMerchantId(principal);
+
+        return ResponseEntity.ok(priceHistoryService.getPriceChanges(merchantId, productId, month));
+    }
+
+    // 7. 일괄 등록 (CSV)
+    // POST /api/merchants/products/import  (Content-Type: text/csv)
+    // - 헤더: name,origin,expiryDate,price,stock,imageUrl (imageUrl 선택, 순서 무관)
+    // - 유효한 행만 등록, 잘못된 행은 결과의 errors에 행 번호와 사유
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ProductImportResultDto> importCsv(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(productBulkService.importCsv(currentMerchantId(principal), body));
+    }
+
+    // 7-1. 일괄 등록 (JSON)
+    // POST /api/merchants/products/import  (Content-Type: application/json)
+    // Body: ProductCreateRequestDto 배열
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProductImportResultDto> importJson(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(productBulkService.importJson(currentMerchantId(principal), body));
+    }
+
+    // 8. 내보내기 (스트리밍)
+    // GET /api/merchants/products/export?format={csv|json}
+    // - 상품 id 순서로 나눠 읽으며 바로 응답에 씀
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal MerchantUserDetails principal,
+            @RequestParam(name = "format", required = false, defaultValue = "csv") String format
+    ) {
+        final Long merchantId = currentMerchantId(principal);
+
+        if ("json".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.json\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> productBulkService.exportJson(merchantId, out));
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(out -> productBulkService.exportCsv(merchantId, out));
+    }
 }
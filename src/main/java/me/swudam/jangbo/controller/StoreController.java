@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.StoreCardPageResponseDto;
 import me.swudam.jangbo.dto.StoreFormDto;
 import me.swudam.jangbo.entity.Merchant;
 import me.swudam.jangbo.entity.Store;
@@ -12,6 +13,7 @@ import me.swudam.jangbo.repository.MerchantRepository;
 import me.swudam.jangbo.repository.StoreRepository;
 import me.swudam.jangbo.service.StoreService;
 import me.swudam.jangbo.support.NotFoundException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -22,6 +24,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -103,6 +106,21 @@ public class StoreController {
         return ResponseEntity.ok(Map.of("found", true, "stores", stores));
     }
 
+    // 3-1. 상점 카드 목록 (최신순 + 평균 별점, 페이지)
+    // GET - /api/stores/cards?page=0&size=20
+    // - openNow=true: 지금 영업 중인 상점만, openAt=2025-09-01T18:30: 그 시각에 영업 중인 상점만 (openAt 우선)
+    // - response: { stores, page, size, totalCount, hasNext }
+    @GetMapping("/cards")
+    public ResponseEntity<StoreCardPageResponseDto> getStoreCards(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false, defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt
+    ) {
+        LocalDateTime at = openAt != null ? openAt : (openNow ? LocalDateTime.now() : null);
+        return ResponseEntity.ok(storeService.getStoreCards(page, size, at));
+    }
+
     // 4. 상점 수정 (U)
     // PATCH - /api/stores{id}
     @PatchMapping("/{storeId}")
@@ -0,0 +1,27 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import me.swudam.jangbo.entity.Category;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 카테고리 일별 가격 통계 (스냅샷이 있는 날만)
+@Value
+@Builder
+public class CategoryPriceStatsResponseDto {
+
+    Category category;
+    List<Day> days;
+
+    @Value
+    @Builder
+    public static class Day {
+        LocalDate date;
+        long avgPrice; // 원 단위 반올림
+        int minPrice;
+        int maxPrice;
+        long productCount;
+    }
+}
@@ -0,0 +1,30 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import me.swudam.jangbo.entity.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 고객 알림함 (최신순 커서 페이지)
+// - nextBefore: 다음 페이지 요청 시 before 값 (null이면 마지막 페이지)
+@Value
+@Builder
+public class CustomerNotificationPageResponseDto {
+
+    List<Item> notifications;
+    long unreadCount;
+    Long nextBefore;
+
+    @Value
+    @Builder
+    public static class Item {
+        Long id;
+        NotificationType type;
+        Long productId;
+        String message;
+        boolean read;
+        LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package me.swudam.jangbo.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+// 마감 할인 규칙 등록 요청
+// - 예) 마감 60분 전, 30% 할인, 이름에 "계란"이 들어간 상품
+@Getter @Setter
+public class MarkdownRuleRequestDto {
+
+    @NotNull(message = "할인율을 입력하세요.")
+    @Min(value = 1, message = "할인율은 1% 이상이어야 합니다.")
+    @Max(value = 90, message = "할인율은 90% 이하여야 합니다.")
+    private Integer discountPercent;
+
+    @NotNull(message = "마감 몇 분 전에 적용할지 입력하세요.")
+    @Min(value = 1, message = "적용 시각은 마감 1분 전 이상이어야 합니다.")
+    @Max(value = 720, message = "적용 시각은 마감 720분 전 이하여야 합니다.")
+    private Integer minutesBeforeClose;
+
+    // 대상 상품 이름 키워드 (비우면 상점 전체 상품)
+    @Size(max = 100, message = "키워드는 100자 이하여야 합니다.")
+    private String nameKeyword;
+}
@@ -0,0 +1,33 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import me.swudam.jangbo.entity.MarkdownRule;
+
+import java.time.LocalDate;
+
+// 마감 할인 규칙 응답 DTO
+@Value
+@Builder
+public class MarkdownRuleResponseDto {
+
+    Long id;
+    Long storeId;
+    Integer discountPercent;
+    Integer minutesBeforeClose;
+    String nameKeyword;
+    Boolean active;
+    LocalDate lastAppliedOn;
+
+    public static MarkdownRuleResponseDto from(MarkdownRule r) {
+        return MarkdownRuleResponseDto.builder()
+                .id(r.getId())
+                .storeId(r.getStore().getId())
+                .discountPercent(r.getDiscountPercent())
+                .minutesBeforeClose(r.getMinutesBeforeClose())
+                .nameKeyword(r.getNameKeyword())
+                .active(r.getActive())
+                .lastAppliedOn(r.getLastAppliedOn())
+                .build();
+    }
+}
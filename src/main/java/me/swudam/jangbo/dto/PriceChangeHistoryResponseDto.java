@@ -0,0 +1,27 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+// 상품 가격 변경 내역 (상인 감사용, 한 달 단위 원본)
+// - 첫 항목은 등록 또는 그 달 첫 변경, price는 변경 후 가격
+@Value
+@Builder
+public class PriceChangeHistoryResponseDto {
+
+    Long productId;
+    YearMonth month;
+    List<Change> changes;
+
+    @Value
+    @Builder
+    public static class Change {
+        LocalDateTime changedAt;
+        int previousPrice;
+        int price;
+    }
+}
@@ -0,0 +1,29 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 상품 가격 차트 (일별)
+// - 가격이 바뀌지 않은 날은 전날 종가로 채움 (changeCount = 0)
+@Value
+@Builder
+public class PriceChartResponseDto {
+
+    Long productId;
+    Integer currentPrice;
+    List<Day> days;
+
+    @Value
+    @Builder
+    public static class Day {
+        LocalDate date;
+        int openPrice;
+        int closePrice;
+        int minPrice;
+        int maxPrice;
+        int changeCount;
+    }
+}
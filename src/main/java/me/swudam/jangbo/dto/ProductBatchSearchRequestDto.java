@@ -0,0 +1,21 @@
+package me.swudam.jangbo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 여러 검색어 한 번에 검색 요청 (장보기 목록 등)
+// - keywords: 최대 30개
+// - sort: cheap(기본) | fresh | popular | trending | recent
+@Getter @Setter
+public class ProductBatchSearchRequestDto {
+
+    @NotEmpty(message = "keywords는 비어 있을 수 없습니다.")
+    @Size(max = 30, message = "keywords는 최대 30개까지 가능합니다.")
+    private List<String> keywords;
+
+    private String sort;
+}
@@ -0,0 +1,21 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 여러 검색어 검색 응답 (요청 순서대로 검색어별 판매 가능 상품)
+@Value
+@Builder
+public class ProductBatchSearchResponseDto {
+
+    List<KeywordResult> results;
+
+    @Value
+    @Builder
+    public static class KeywordResult {
+        String keyword;
+        List<ProductResponseDto> products;
+    }
+}
@@ -0,0 +1,27 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 상품 일괄 등록 결과 (유효한 행은 등록, 잘못된 행은 행 번호와 사유)
+// - row: CSV는 헤더를 1행으로 센 파일 행 번호, JSON은 배열 순서(1부터)
+// - errors는 앞에서부터 최대 200건 (errorsTruncated = true 이면 더 있음, 전체 건수는 failedCount)
+@Value
+@Builder
+public class ProductImportResultDto {
+
+    int totalRows;
+    int importedCount;
+    int failedCount;
+    List<RowError> errors;
+    boolean errorsTruncated;
+
+    @Value
+    @Builder
+    public static class RowError {
+        int row;
+        String message;
+    }
+}
@@ -0,0 +1,36 @@
+package me.swudam.jangbo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 재고/가격 일괄 변경 요청 (POS 재고 동기화 등)
+// - items: 최대 500개, 같은 상품 중복 불가
+// - stock/price 중 null인 값은 그대로 유지 (둘 다 null 불가)
+// - stock 0 = 품절 처리, 품절 상품에 1 이상 = 품절 해제
+@Getter @Setter
+public class ProductInventoryBatchRequestDto {
+
+    @NotEmpty(message = "items는 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "items는 최대 500개까지 가능합니다.")
+    private List<@Valid Item> items;
+
+    @Getter @Setter
+    public static class Item {
+
+        @NotNull(message = "productId를 입력하세요.")
+        private Long productId;
+
+        @Min(value = 0, message = "재고는 0 이상이어야 합니다.")
+        private Integer stock;
+
+        @Min(value = 1, message = "가격은 1원 이상이어야 합니다.")
+        private Integer price;
+    }
+}
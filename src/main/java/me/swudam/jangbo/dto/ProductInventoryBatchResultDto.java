@@ -0,0 +1,19 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 재고/가격 일괄 변경 결과
+// - updatedIds: 실제로 값이 바뀐 상품 (version 증가), unchangedCount: 요청 값이 현재 값과 같아 건너뛴 상품 수
+// - priceChangedCount: 가격이 바뀐 상품 수 (장바구니 가격 변동 표시 갱신 대상)
+@Value
+@Builder
+public class ProductInventoryBatchResultDto {
+
+    int requestedCount;
+    List<Long> updatedIds;
+    int unchangedCount;
+    int priceChangedCount;
+}
@@ -0,0 +1,18 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 상품 목록 페이지 응답 DTO (키셋 커서 방식)
+// - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+@Value
+@Builder
+public class ProductPageResponseDto {
+
+    List<ProductResponseDto> items;
+
+    String nextCursor;
+    boolean hasNext;
+}
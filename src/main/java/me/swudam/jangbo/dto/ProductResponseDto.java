@@ -3,6 +3,7 @@ package me.swudam.jangbo.dto;
 import lombok.Builder;
 import lombok.Value;
 import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.repository.ProductRow;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -56,6 +57,28 @@ public class ProductResponseDto {
         return products.stream().map(ProductResponseDto::from).toList();
     }
 
+    // 조회 전용 행 -> 응답 DTO 변환 (고객 목록/검색)
+    public static ProductResponseDto from(ProductRow r) {
+        return ProductResponseDto.builder()
+                .storeId(r.storeId())
+                .merchantId(r.merchantId())
+                .id(r.id())
+                .name(r.name())
+                .origin(r.origin())
+                .expiryDate(toDateString(r.expiryDate(), DateTimeFormatter.ISO_LOCAL_DATE))
+                .stock(r.stock())
+                .price(r.price())
+                .soldOut(r.soldOut())
+                .imageUrl(r.imageUrl())
+                .createdAt(toString(r.createdAt()))
+                .updatedAt(toString(r.updatedAt()))
+                .build();
+    }
+
+    public static List<ProductResponseDto> fromRows(List<ProductRow> rows) {
+        return rows.stream().map(ProductResponseDto::from).toList();
+    }
+
     // 내부 메서드
     private static String toDateString(LocalDate date, DateTimeFormatter f) {
         return (date == null) ? null : date.format(f);
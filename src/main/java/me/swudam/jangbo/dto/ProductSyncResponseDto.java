@@ -0,0 +1,18 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// [응답 DTO] 상품 카탈로그 증분 동기화 (워터마크 이후 바뀐 상품만)
+// - fullSync = true 이면 처음부터 다시 받는 중 -> 클라이언트는 로컬 카탈로그를 비우고 이어지는 응답으로 채움
+// - hasMore = true 이면 watermark로 바로 다음 요청 (한 응답은 최대 size건씩)
+@Getter @Builder
+public class ProductSyncResponseDto {
+    private final boolean fullSync;
+    private final List<ProductResponseDto> upserted; // 생성/수정/품절/재고 변동된 상품 (최신 상태)
+    private final List<Long> deletedIds; // 삭제된 상품 id
+    private final String watermark; // 다음 요청의 since
+    private final boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// 재입고 알림 신청 상품 (고객 마이페이지)
+@Value
+@Builder
+public class RestockSubscriptionResponseDto {
+
+    Long productId;
+    String productName;
+    Integer price;
+    Boolean soldOut;
+    LocalDateTime subscribedAt;
+}
@@ -0,0 +1,23 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Value;
+
+// 실시간 재고 푸시 메시지 (SSE event: stock)
+// - deleted = true 이면 상품이 삭제됨 (나머지 값 null)
+@Value
+public class StockUpdateDto {
+
+    Long productId;
+    Integer stock;
+    Boolean soldOut;
+    Integer price;
+    boolean deleted;
+
+    public static StockUpdateDto of(Long productId, Integer stock, Boolean soldOut, Integer price) {
+        return new StockUpdateDto(productId, stock, soldOut, price, false);
+    }
+
+    public static StockUpdateDto deleted(Long productId) {
+        return new StockUpdateDto(productId, null, null, null, true);
+    }
+}
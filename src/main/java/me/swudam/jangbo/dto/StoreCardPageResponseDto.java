@@ -0,0 +1,19 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 상점 목록 페이지 응답 DTO (page: 0부터)
+@Value
+@Builder
+public class StoreCardPageResponseDto {
+
+    List<StoreCardResponseDto> stores;
+
+    int page;
+    int size;
+    int totalCount;
+    boolean hasNext;
+}
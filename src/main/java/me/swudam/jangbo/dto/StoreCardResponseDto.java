@@ -0,0 +1,29 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import me.swudam.jangbo.entity.Category;
+import me.swudam.jangbo.entity.DayOff;
+
+import java.time.LocalTime;
+import java.util.List;
+
+// 상점 목록 카드 (StoreFormDto 응답 필드 + 평균 별점)
+// - averageRating: 상점 상품 리뷰 평균 (리뷰 없으면 0.0)
+@Value
+@Builder
+public class StoreCardResponseDto {
+
+    Long storeId;
+    Long merchantId;
+    String storeName;
+    String storeImgPath;
+    String storeAddress;
+    LocalTime openTime;
+    LocalTime closeTime;
+    List<DayOff> dayOff;
+    String storePhoneNumber;
+    Category category;
+    String tagline;
+    double averageRating;
+}
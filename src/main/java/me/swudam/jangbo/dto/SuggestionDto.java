@@ -0,0 +1,18 @@
+package me.swudam.jangbo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+// 검색어 자동완성 항목
+// - type: PRODUCT(상품명) / STORE(상점명) / CATEGORY(카테고리)
+// - storeId: STORE일 때만, category: CATEGORY일 때만 (enum 이름)
+@Value
+@Builder
+public class SuggestionDto {
+
+    String type;
+    String label;
+
+    Long storeId;
+    String category;
+}
@@ -0,0 +1,20 @@
+package me.swudam.jangbo.dto.cart;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// [응답 DTO] 장바구니 증분 동기화 (fromRevision 이후 바뀐 줄만)
+// - fullSync = true 이면 added에 현재 장바구니 전체가 담김 (클라이언트는 로컬 장바구니를 교체)
+@Getter @Builder
+public class CartDeltaResponseDto {
+    private final long fromRevision; // 클라이언트가 보낸 기준 revision
+    private final long toRevision; // 이 응답 반영 후 revision (다음 요청의 since)
+    private final boolean fullSync;
+
+    private final List<CartItemResponseDto> added; // 새로 담긴 줄
+    private final List<CartItemResponseDto> updated; // 수량이 바뀐 줄
+    private final List<Long> removedItemIds; // 삭제된 줄 id
+    private final List<Long> skippedProductIds; // 동기화 요청 중 반영하지 못한 상품 id (그 사이 삭제된 상품)
+}
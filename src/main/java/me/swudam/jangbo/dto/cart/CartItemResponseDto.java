@@ -19,4 +19,7 @@ public class CartItemResponseDto {
     private final int quantity; // 담긴 수량
     private final int lineTotal; // unitPrice * quantity (원)
     private final String imageUrl;
+
+    private final boolean priceChanged; // 담은 뒤 가격이 바뀌었는지
+    private final Integer previousUnitPrice; // 가격이 바뀐 경우 담을 때 가격 (아니면 null)
 }
@@ -16,4 +16,6 @@ public class CartSummaryResponseDto {
     private final int subtotal; // 상품 합계
     private final int pickupFee; // 픽업 수수료
     private final int total; // 결제 총액
+
+    private final int priceChangedCount; // 담은 뒤 가격이 바뀐 항목 수
 }
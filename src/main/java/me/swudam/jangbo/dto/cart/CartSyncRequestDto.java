@@ -0,0 +1,39 @@
+package me.swudam.jangbo.dto.cart;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// [요청 DTO] 오프라인/다른 기기에서 쌓인 장바구니 변경 일괄 반영
+// - 수량은 증감(delta)으로 보내야 동시 변경이 서로 덮어쓰지 않고 합산됨
+// - body: { "baseRevision": 12, "deviceId": "ios-3f2a", "ops": [ { "productId": 10, "delta": 2 }, { "productId": 7, "remove": true } ] }
+// - deviceId(선택): 같은 기기가 이전 동기화로 남긴 변경은 add-wins 충돌로 보지 않음 (재전송/재생 시 자기 자신과 충돌 방지)
+@Getter @Setter
+public class CartSyncRequestDto {
+
+    @NotNull(message = "기준 revision은 필수입니다.")
+    @PositiveOrZero(message = "기준 revision은 0 이상이어야 합니다.")
+    private Long baseRevision;
+
+    @Size(max = 64, message = "기기 id는 최대 64자입니다.")
+    private String deviceId;
+
+    @NotEmpty(message = "반영할 변경이 없습니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 반영할 수 있습니다.")
+    private List<@Valid Op> ops;
+
+    @Getter @Setter
+    public static class Op {
+        @NotNull(message = "상품 id는 필수입니다.")
+        private Long productId;
+
+        private int delta; // 수량 증감 (+/-)
+        private boolean remove; // true면 줄 삭제 (delta 무시)
+    }
+}
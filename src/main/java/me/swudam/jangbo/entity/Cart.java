@@ -2,6 +2,7 @@ package me.swudam.jangbo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +39,14 @@ public class Cart extends BaseTimeEntity {
     @Builder.Default
     private List<CartItem> items = new ArrayList<>();
 
+    // 장바구니 변경 버전 (담기/수량 변경/삭제마다 +1)
+    // - 조회 API의 ETag 계산 + 기기 간 증분 동기화(CartChange)의 기준
+    // - 증가는 CartRepository.incrementRevision(원자적 UPDATE)으로만 수행 -> 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long revision = 0L;
+
     // 상품 추가 (같은 상품 있으면 수량 합치기)
     public CartItem addItem(Product product, int qty) {
         if (qty < 1) throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
@@ -0,0 +1,71 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 장바구니 변경 로그 (기기 간 증분 동기화용)
+// - 카트 revision이 올라갈 때마다 바뀐 줄만 한 행씩 기록 -> "revision N 이후 변경분" 조회
+// - 로그는 카트별 최근 구간만 보관 (오래된 행은 CartChangeLogService에서 정리)
+// - 조회/정리 모두 (cart_id, revision) 인덱스로 처리하고, FK 대신 id 값만 저장해 행을 작게 유지
+@Entity
+@Table(name = "cart_changes",
+        indexes = {
+                @Index(name = "idx_cart_change_cart_revision", columnList = "cart_id, revision")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CartChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cart_change_id")
+    private Long id;
+
+    @Column(name = "cart_id", nullable = false)
+    private Long cartId;
+
+    // 이 변경이 반영된 카트 revision (기록 직전에 할당)
+    @Column(nullable = false)
+    private Long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CartChangeType type;
+
+    @Column(name = "cart_item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // 변경 후 수량 (REMOVED면 null)
+    private Integer quantity;
+
+    // 변경을 보낸 기기 (동기화 요청의 deviceId, 일반 API 변경은 null)
+    @Column(name = "device_id", length = 64)
+    private String deviceId;
+
+    // 변경 기록 생성 (revision은 기록 시점에 할당)
+    public static CartChange of(Long cartId, CartChangeType type, Long itemId, Long productId, Integer quantity) {
+        return CartChange.builder()
+                .cartId(cartId)
+                .type(type)
+                .itemId(itemId)
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+
+    public CartChange fromDevice(String deviceId) {
+        this.deviceId = deviceId;
+        return this;
+    }
+
+    // revision 할당 (같은 요청에서 나온 변경들은 같은 revision 공유)
+    public CartChange atRevision(long revision) {
+        this.revision = revision;
+        return this;
+    }
+}
@@ -0,0 +1,8 @@
+package me.swudam.jangbo.entity;
+
+// 장바구니 변경 로그 종류
+public enum CartChangeType {
+    ADDED, // 새 줄 추가
+    UPDATED, // 수량 변경
+    REMOVED // 줄 삭제
+}
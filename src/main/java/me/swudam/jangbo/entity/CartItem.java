@@ -3,17 +3,22 @@ package me.swudam.jangbo.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 
 // 장바구니의 개별 품목
 // - 하나의 Cart에 여러 CartItem이 속함 (N:1)
 // - 같은 Cart 내 같은 Product만 한 줄만 존재하도록 UNIQUE 제약
-// - 가격은 실시간(Product.price)으로 적용 -> 스냅샷 컬럼 사용 안함
+// - 가격은 실시간(Product.price)으로 적용, 담을 때 가격/버전은 가격 변동 안내용으로만 보관
 @Entity
 @Table(name = "cart_items",
         uniqueConstraints = {
                 // 동일 카트에서 같은 상품은 1행만 존재 -> 수량만 증가
                 @UniqueConstraint(name = "uk_cart_item_cart_product", columnNames = {"cart_id", "product_id"})
+        },
+        indexes = {
+                // 상품 가격 변경 시 해당 상품을 담은 줄만 찾아 표시 갱신
+                @Index(name = "idx_cart_item_product", columnList = "product_id")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +51,20 @@ public class CartItem extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer quantity;
 
+    // 담을 때 가격/상품 버전 (이전 데이터는 null)
+    @Column(name = "price_at_add")
+    private Integer priceAtAdd;
+
+    @Column(name = "product_version_at_add")
+    private Long productVersionAtAdd;
+
+    // 담은 뒤 가격이 바뀌었는지 (ProductService.update에서 가격이 바뀔 때만 갱신)
+    // - 조회 시 상품 가격을 비교하지 않고 이 값으로 바로 표시
+    @Builder.Default
+    @Column(name = "price_changed", nullable = false)
+    @ColumnDefault("0")
+    private Boolean priceChanged = false;
+
     // 수량 변경 유틸 (하한 1 보장)
     public void changeQuantity(int newQty) {
         if (newQty < 1) {
@@ -54,6 +73,11 @@ public class CartItem extends BaseTimeEntity {
         this.quantity = newQty;
     }
 
+    // 담은 뒤 가격이 바뀐 경우에만 담을 때 가격 (아니면 null)
+    public Integer previousUnitPrice() {
+        return Boolean.TRUE.equals(priceChanged) ? priceAtAdd : null;
+    }
+
     // 현재 상품가 기준 라인 합계
     public int lineTotal() {
         return product.getPrice() * this.quantity;
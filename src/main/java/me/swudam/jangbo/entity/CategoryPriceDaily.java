@@ -0,0 +1,50 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 카테고리 일별 가격 통계 (하루 한 번 마감 시점 스냅샷)
+// - 카테고리는 상점 단위 -> 그 카테고리 상점들의 유통기한 남은 상품 가격 평균/최저/최고
+// - 조회 API는 이 표만 읽음 (상품/이력 원본을 훑지 않음)
+@Entity
+@Table(name = "category_price_daily")
+@IdClass(CategoryPriceDaily.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryPriceDaily {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20)
+    private Category category;
+
+    @Id
+    @Column(name = "bucket_day")
+    private LocalDate day;
+
+    @Column(name = "avg_price", nullable = false)
+    private Double avgPrice;
+
+    @Column(name = "min_price", nullable = false)
+    private Integer minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private Integer maxPrice;
+
+    @Column(name = "product_count", nullable = false)
+    private Long productCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Category category;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,45 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 고객 앱 알림함
+// - 재입고 알림은 RestockNotificationService가 JDBC 일괄 INSERT로 생성 (엔티티는 조회/읽음 처리용)
+// - 목록은 고객별 최신순 (customer_id, id) 인덱스로 커서 조회
+@Entity
+@Table(name = "customer_notifications",
+        indexes = {
+                @Index(name = "idx_customer_notification_customer_id", columnList = "customer_id, customer_notification_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CustomerNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "customer_notification_id")
+    private Long id;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, length = 200)
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
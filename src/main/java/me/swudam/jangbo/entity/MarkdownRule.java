@@ -0,0 +1,70 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 마감 할인(마감세일) 규칙
+// - 상점 마감 시각(Store.closeTime) minutesBeforeClose분 전에 대상 상품 가격을 discountPercent% 인하
+// - 대상: 상점의 판매 중 상품 중 이름에 nameKeyword가 포함된 상품 (null이면 전체)
+//   (카테고리는 상점 단위라 상품별 분류가 없음 -> 이름 키워드로 좁힘)
+// - lastAppliedOn: 마지막으로 적용한 날짜 (하루 한 번만 적용)
+@Entity
+@Table(name = "markdown_rules",
+        indexes = {
+                @Index(name = "idx_markdown_rule_merchant", columnList = "merchant_id"),
+                // 스케줄러: 활성 + 오늘 아직 적용 안 된 규칙
+                @Index(name = "idx_markdown_rule_active_applied", columnList = "active, last_applied_on")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MarkdownRule extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "markdown_rule_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "merchant_id", nullable = false)
+    private Merchant merchant;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    // 할인율 (%)
+    @Column(name = "discount_percent", nullable = false)
+    private Integer discountPercent;
+
+    // 마감 몇 분 전에 적용할지
+    @Column(name = "minutes_before_close", nullable = false)
+    private Integer minutesBeforeClose;
+
+    // 대상 상품 이름 키워드 (null = 상점 전체 상품)
+    @Column(name = "name_keyword", length = 100)
+    private String nameKeyword;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "last_applied_on")
+    private LocalDate lastAppliedOn;
+
+    public void markApplied(LocalDate date) {
+        this.lastAppliedOn = date;
+    }
+
+    public void changeActive(boolean active) {
+        this.active = active;
+    }
+
+    // 할인 가격 (1원 미만으로 내려가지 않음)
+    public int discountedPrice(int price) {
+        return Math.max(1, price * (100 - discountPercent) / 100);
+    }
+}
@@ -0,0 +1,6 @@
+package me.swudam.jangbo.entity;
+
+// 고객 앱 알림 종류
+public enum NotificationType {
+    RESTOCK // 재입고 알림 신청한 상품의 품절 해제
+}
@@ -3,21 +3,46 @@ package me.swudam.jangbo.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+        indexes = {
+                // 키셋 페이지 정렬 키 (InnoDB 보조 인덱스는 PK를 뒤에 포함 -> (키, product_id) 순서로 범위 스캔)
+                @Index(name = "idx_product_created_at", columnList = "created_at"),
+                @Index(name = "idx_product_price", columnList = "price"),
+                @Index(name = "idx_product_expiry_date", columnList = "expiry_date"),
+                @Index(name = "idx_product_merchant_created_at", columnList = "merchant_id, created_at"),
+                @Index(name = "idx_product_merchant_price", columnList = "merchant_id, price"),
+                @Index(name = "idx_product_merchant_expiry_date", columnList = "merchant_id, expiry_date"),
+                // 유통기한 만료 처리 배치 (판매 중 + 만료일 범위)
+                @Index(name = "idx_product_sold_out_expiry", columnList = "sold_out, expiry_date"),
+                // 인기순/트렌딩 정렬 (집계 없이 인덱스 순서대로 읽기)
+                @Index(name = "idx_product_popular", columnList = "completed_order_count, created_at"),
+                @Index(name = "idx_product_merchant_popular", columnList = "merchant_id, completed_order_count, created_at"),
+                @Index(name = "idx_product_trending", columnList = "trending_score"),
+                // 증분 동기화: (updated_at, product_id) 순서로 "워터마크 이후 변경분"만 범위 스캔
+                @Index(name = "idx_product_updated_at", columnList = "updated_at")
+        })
 public class Product extends BaseTimeEntity {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     // PK
+    // - IDENTITY는 insert마다 생성 키를 받아야 해서 Hibernate가 JDBC 배치를 끔 -> 시퀀스에서 50개씩 미리 할당
+    // - 기존 행 id와 겹치지 않도록 기동 시 ProductIdSequenceInitializer가 시퀀스를 max(product_id) 뒤로 맞춤
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = Product.ID_ALLOCATION_SIZE)
     @Column(name = "product_id")
     private Long id;
 
@@ -70,6 +95,20 @@ public class Product extends BaseTimeEntity {
     @Comment("품절 여부")
     private Boolean soldOut;
 
+    // 인기 지표 (픽업 완료 시 ProductPopularityService가 일괄 UPDATE로 증가, 재계산 배치로 보정)
+    // - 엔티티 저장으로 덮어쓰지 않도록 updatable = false, @Version도 올리지 않음
+    @Builder.Default
+    @Column(name = "completed_order_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("완료 주문 건수")
+    private Long completedOrderCount = 0L;
+
+    @Builder.Default
+    @Column(name = "trending_score", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("시간 감쇠 인기 점수")
+    private Double trendingScore = 0D;
+
 
     /* 저장/수정 직전에 공통 수행: 소유자 무결성 검사 + 가격 타임스탬프 갱신 */
     @PrePersist @PreUpdate
@@ -83,8 +122,8 @@ public class Product extends BaseTimeEntity {
         if (!store.getMerchant().getId().equals(merchant.getId())) {
             throw new IllegalStateException("상품의 상인과 상점의 상인이 일치하지 않습니다.");
         }
-        // 2) 가격 갱신 시각 기록 (이번 구현에서는 모든 업데이트 시각으로 갱신)
-        this.priceUpdatedAt = Instant.now();
+        // 2) 가격 갱신 시각 최초 기록 (이후에는 가격이 실제로 바뀔 때만 updateProduct에서 갱신)
+        if (priceUpdatedAt == null) priceUpdatedAt = Instant.now();
     }
 
     /* 비즈니스 메서드 */
@@ -116,6 +155,9 @@ public class Product extends BaseTimeEntity {
         this.name = name;
         this.origin = origin;
         this.expiryDate = expiryDate;
+        if (!Objects.equals(this.price, price)) {
+            this.priceUpdatedAt = Instant.now(); // 가격이 바뀐 경우에만
+        }
         this.price = price;
         this.imageUrl = imageUrl;
     }
@@ -0,0 +1,52 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 적용 중인 마감 할인 (되돌리기용 원래 가격 보관)
+// - 상품당 1건 (이미 할인 중인 상품은 다른 규칙 대상에서 빠짐)
+// - revertAt 이후 스케줄러가 가격이 아직 markdownPrice이면 originalPrice로 복구하고 행 삭제
+//   (그 사이 상인이 직접 가격을 바꿨으면 그 가격 유지)
+// - ProductTombstone과 같이 FK 대신 id 값만 저장 (상품 삭제와 무관하게 정리)
+@Entity
+@Table(name = "product_markdowns",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_markdown_product", columnNames = "product_id")
+        },
+        indexes = {
+                @Index(name = "idx_product_markdown_revert_at", columnList = "revert_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductMarkdown {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_markdown_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "merchant_id", nullable = false)
+    private Long merchantId;
+
+    @Column(name = "markdown_rule_id", nullable = false)
+    private Long ruleId;
+
+    @Column(name = "original_price", nullable = false)
+    private Integer originalPrice;
+
+    @Column(name = "markdown_price", nullable = false)
+    private Integer markdownPrice;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Column(name = "revert_at", nullable = false)
+    private LocalDateTime revertAt;
+}
@@ -0,0 +1,52 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 상품 일별 가격 집계 (가격 차트용, 가격이 바뀐 날만 행이 있음)
+// - 가격 변경 기록 시 같은 배치로 갱신: 시가(그날 첫 변경 직전 가격)/종가/최저/최고/변경 횟수
+// - 변경 없는 날은 직전 종가를 이어서 표시 (PriceHistoryService)
+@Entity
+@Table(name = "product_price_daily")
+@IdClass(ProductPriceDaily.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPriceDaily {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "bucket_day")
+    private LocalDate day;
+
+    @Column(name = "open_price", nullable = false)
+    private Integer openPrice;
+
+    @Column(name = "close_price", nullable = false)
+    private Integer closePrice;
+
+    @Column(name = "min_price", nullable = false)
+    private Integer minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private Integer maxPrice;
+
+    @Column(name = "change_count", nullable = false)
+    private Integer changeCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long productId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,47 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// 상품 가격 변경 이력 (추가 전용, 상품별 월 단위 1행)
+// - data: PriceDeltaCodec 형식 [월 시작부터 초, 직전 가격 대비 차이] 항목 나열, 변경마다 뒤에 이어 붙임
+// - base_price: 그 달 첫 변경 직전 가격 -> 달마다 독립적으로 복원
+// - PK (product_id, bucket_month): 상품 + 월 범위 조회가 PK 범위 스캔, 행 수는 "상품 수 x 변경 있었던 달 수"
+// - ProductTombstone과 같이 FK 대신 id 값만 저장 (상품 삭제 후에도 감사용으로 남음)
+// - 기록/조회: PriceHistoryService (INSERT ... ON DUPLICATE KEY UPDATE data = concat(...) 배치)
+@Entity
+@Table(name = "product_price_history")
+@IdClass(ProductPriceHistory.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPriceHistory {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // yyyyMM (예: 202610)
+    @Id
+    @Column(name = "bucket_month")
+    private Integer month;
+
+    @Column(name = "base_price", nullable = false)
+    private Integer basePrice;
+
+    @Lob
+    @Column(name = "data", nullable = false, length = 65535)
+    private byte[] data;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long productId;
+        private Integer month;
+    }
+}
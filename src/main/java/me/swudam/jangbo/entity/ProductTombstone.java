@@ -0,0 +1,44 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 삭제된 상품 기록 (고객 앱 카탈로그 증분 동기화용)
+// - 상품 행은 삭제되므로 "워터마크 이후 삭제된 상품 id"를 알려주기 위해 별도로 남김
+// - 조회/정리 모두 (deleted_at, product_tombstone_id) 인덱스 범위 스캔, FK 대신 id 값만 저장
+// - 보관 기간이 지난 기록은 ProductSyncService에서 정리 (그보다 오래된 워터마크는 전체 동기화)
+@Entity
+@Table(name = "product_tombstones",
+        indexes = {
+                @Index(name = "idx_product_tombstone_deleted_at", columnList = "deleted_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_tombstone_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "merchant_id", nullable = false)
+    private Long merchantId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static ProductTombstone of(Product product, LocalDateTime deletedAt) {
+        return ProductTombstone.builder()
+                .productId(product.getId())
+                .merchantId(product.getMerchant().getId())
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package me.swudam.jangbo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 재입고 알림 신청 (고객 1명 x 품절 상품 1개)
+// - 품절 해제 시 알림을 보낸 뒤 삭제 (1회성, 다시 품절되면 다시 신청)
+// - ProductTombstone과 같이 FK 대신 id 값만 저장 (상품 삭제/고객 탈퇴 시 서비스에서 정리)
+@Entity
+@Table(name = "restock_subscriptions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_restock_subscription_product_customer",
+                        columnNames = {"product_id", "customer_id"})
+        },
+        indexes = {
+                @Index(name = "idx_restock_subscription_customer", columnList = "customer_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RestockSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "restock_subscription_id")
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -6,6 +6,7 @@ import lombok.Setter;
 import lombok.ToString;
 import me.swudam.jangbo.dto.StoreFormDto;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -98,6 +99,11 @@ public class Store extends BaseTimeEntity {
         return store;
     }
 
+    /** 해당 요일이 휴무일인지 (연중무휴/미설정이면 false) */
+    public boolean isDayOff(DayOfWeek dayOfWeek) {
+        return dayOff.stream().anyMatch(d -> d.name().equals(dayOfWeek.name()));
+    }
+
     /** 한 줄 소개 업데이트(항상 NOT NULL 유지) */
     public void updateTagline(String newTagline) {
         // null -> "" 로 변환, 양끝/연속 공백 정리, 80자 컷
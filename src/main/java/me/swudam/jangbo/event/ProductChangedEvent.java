@@ -0,0 +1,57 @@
+package me.swudam.jangbo.event;
+
+import me.swudam.jangbo.entity.Product;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 상품 변경 이벤트 (생성/수정/품절/재고 변동/삭제)
+// - 발행: ProductService, OrderService, ProductPopularityService, MerchantService(탈퇴 시 상품 일괄 삭제)
+// - 구독: 검색 색인, 조회 캐시 등 파생 데이터 (커밋 이후 @TransactionalEventListener로 반영)
+// - merchantIds: 변경된 상품의 소유 상인 (상인별 목록 캐시 무효화용), occurredAt: 반영 지연 측정용
+// - remote: 다른 노드에서 발생해 무효화 버스로 전달된 변경 (다시 내보내지 않음)
+public record ProductChangedEvent(List<Long> productIds, Set<Long> merchantIds, Type type, Instant occurredAt,
+                                  boolean remote) {
+
+    public enum Type {
+        UPSERTED, // 생성/수정 -> 최신 상태를 다시 읽어 반영
+        DELETED,
+        BULK_UPDATED // 일괄 UPDATE로 다수 상품 변경 (productIds 비어 있음) -> 전체 다시 읽기
+    }
+
+    public static ProductChangedEvent upserted(Product product) {
+        return of(List.of(product), Type.UPSERTED);
+    }
+
+    public static ProductChangedEvent upserted(Collection<Product> products) {
+        return of(products, Type.UPSERTED);
+    }
+
+    // 엔티티 없이 일괄 UPDATE한 한 상인의 상품들 (재고/가격 일괄 변경)
+    public static ProductChangedEvent upserted(Long merchantId, Collection<Long> productIds) {
+        return new ProductChangedEvent(List.copyOf(productIds), Set.of(merchantId), Type.UPSERTED, Instant.now(), false);
+    }
+
+    public static ProductChangedEvent deleted(Product product) {
+        return of(List.of(product), Type.DELETED);
+    }
+
+    public static ProductChangedEvent deleted(Collection<Product> products) {
+        return of(products, Type.DELETED);
+    }
+
+    public static ProductChangedEvent bulkUpdated() {
+        return new ProductChangedEvent(List.of(), Set.of(), Type.BULK_UPDATED, Instant.now(), false);
+    }
+
+    private static ProductChangedEvent of(Collection<Product> products, Type type) {
+        List<Long> ids = products.stream().map(Product::getId).distinct().toList();
+        Set<Long> merchantIds = products.stream()
+                .map(p -> p.getMerchant().getId())
+                .collect(Collectors.toUnmodifiableSet());
+        return new ProductChangedEvent(ids, merchantIds, type, Instant.now(), false);
+    }
+}
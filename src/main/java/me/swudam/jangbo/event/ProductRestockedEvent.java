@@ -0,0 +1,15 @@
+package me.swudam.jangbo.event;
+
+import java.util.Collection;
+import java.util.List;
+
+// 품절 상품 판매 재개 이벤트 (품절 해제)
+// - 발행: ProductService(상품 수정, 재고 일괄 변경), OrderService(주문 취소 재고 복원)
+// - 구독: RestockNotificationService (커밋 이후 재입고 알림 발송)
+// - 발생한 노드에서만 처리 (노드 간 버스로 전달하지 않음 -> 알림 중복 방지)
+public record ProductRestockedEvent(List<Long> productIds) {
+
+    public static ProductRestockedEvent of(Collection<Long> productIds) {
+        return new ProductRestockedEvent(List.copyOf(productIds));
+    }
+}
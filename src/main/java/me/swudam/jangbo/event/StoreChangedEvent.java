@@ -0,0 +1,25 @@
+package me.swudam.jangbo.event;
+
+import me.swudam.jangbo.entity.Store;
+
+import java.time.Instant;
+
+// 상점 변경 이벤트 (등록/수정/삭제)
+// - 발행: StoreService
+// - 구독: 자동완성 색인 등 파생 데이터 (커밋 이후 반영)
+// - remote: 다른 노드에서 발생해 무효화 버스로 전달된 변경 (다시 내보내지 않음)
+public record StoreChangedEvent(Long storeId, Long merchantId, Type type, Instant occurredAt, boolean remote) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    public static StoreChangedEvent upserted(Store store) {
+        return new StoreChangedEvent(store.getId(), store.getMerchant().getId(), Type.UPSERTED, Instant.now(), false);
+    }
+
+    public static StoreChangedEvent deleted(Store store) {
+        return new StoreChangedEvent(store.getId(), store.getMerchant().getId(), Type.DELETED, Instant.now(), false);
+    }
+}
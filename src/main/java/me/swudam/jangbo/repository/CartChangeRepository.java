@@ -0,0 +1,50 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.CartChange;
+import me.swudam.jangbo.entity.CartChangeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+// 장바구니 변경 로그 저장소
+// - 모든 조회/삭제는 (cart_id, revision) 인덱스 범위 스캔
+public interface CartChangeRepository extends JpaRepository<CartChange, Long> {
+
+    // revision 이후 변경분 (기록 순서대로)
+    List<CartChange> findByCartIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(Long cartId, Long revision);
+
+    // revision 이후 특정 종류의 변경이 있었던 상품 id (동기화 병합 규칙 판단용)
+    // - excludeDeviceId가 있으면 그 기기가 보낸 변경은 제외 (null이면 전부)
+    @Query("select distinct c.productId from CartChange c " +
+            "where c.cartId = :cartId and c.revision > :revision and c.type in :types " +
+            "and (:excludeDeviceId is null or c.deviceId is null or c.deviceId <> :excludeDeviceId)")
+    List<Long> findProductIdsChangedSince(@Param("cartId") Long cartId,
+                                          @Param("revision") Long revision,
+                                          @Param("types") Collection<CartChangeType> types,
+                                          @Param("excludeDeviceId") String excludeDeviceId);
+
+    // 보관 중인 가장 오래된 revision (없으면 null)
+    @Query("select min(c.revision) from CartChange c where c.cartId = :cartId")
+    Long findMinRevision(@Param("cartId") Long cartId);
+
+    // 보관 구간 밖의 오래된 로그 정리
+    @Modifying
+    @Query("delete from CartChange c where c.cartId = :cartId and c.revision <= :revision")
+    int deleteUpToRevision(@Param("cartId") Long cartId, @Param("revision") Long revision);
+
+    // 장바구니가 사라진 로그의 cart_id (탈퇴/빈 카트 정리 후 남은 로그)
+    @Query(value = "select distinct cc.cart_id from cart_changes cc " +
+            "left join carts c on c.cart_id = cc.cart_id " +
+            "where cc.cart_id > :afterId and c.cart_id is null " +
+            "order by cc.cart_id limit :limit",
+            nativeQuery = true)
+    List<Long> findOrphanCartIds(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from CartChange c where c.cartId in :cartIds")
+    int deleteByCartIds(@Param("cartIds") Collection<Long> cartIds);
+}
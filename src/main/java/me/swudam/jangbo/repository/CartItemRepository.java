@@ -3,8 +3,12 @@ package me.swudam.jangbo.repository;
 import me.swudam.jangbo.entity.CartItem;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +18,7 @@ import java.util.Optional;
 // - 카트의 모든 아이템/선택 아이템을 product, store까지 묶어서 가져오기
 // - 선택 삭제/비우기 등 일괄 삭제
 // - DB에서 바로 상점 개수 count
+// - 담기/수량 변경/삭제는 행 잠금 없이 원자적 단일 문장으로 처리 (기기 간 동시 수정 병합)
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
     // Cart 안에 같은 상품이 이미 담겨있는지 검사할 때 사용
@@ -38,4 +43,137 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
             "from CartItem i " +
             "where i.cart.id = :cartId and i.id in :itemIds")
     long countDistinctStoreInSelected(Long cartId, Collection<Long> itemIds);
+
+    // ETag 계산용: 카트에 담긴 상품들의 버전 집계
+    // - 장바구니는 실시간 가격을 보여주므로 카트 버전만으로는 부족 -> 상품 버전 합/최종 갱신 시각을 함께 사용
+    @Query("select count(i) as total, coalesce(sum(p.version), 0) as versionSum, " +
+            "max(p.priceUpdatedAt) as lastPriceUpdatedAt, max(p.updatedAt) as lastUpdatedAt, " +
+            "coalesce(sum(p.completedOrderCount), 0) as popularitySum " +
+            "from CartItem i join i.product p " +
+            "where i.cart.id = :cartId")
+    ProductRepository.VersionAggregate aggregateProductVersions(@Param("cartId") Long cartId);
+
+    /* 원자적 변경 (카트 행 잠금 없이 동시 수정 병합) */
+    // 담기: 없으면 새 줄, 있으면 수량 합산 (uk_cart_item_cart_product 기준 MariaDB upsert)
+    // - 두 기기가 같은 상품을 동시에 담아도 수량이 모두 더해짐 (순서 무관)
+    // - 다시 담으면 현재가를 확인한 것으로 보고 담을 때 가격/버전을 갱신하고 가격 변동 표시 해제
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into cart_items (cart_id, product_id, store_id, quantity, " +
+            "price_at_add, product_version_at_add, price_changed, created_at, updated_at) " +
+            "values (:cartId, :productId, :storeId, :quantity, :price, :version, false, :now, :now) " +
+            "on duplicate key update quantity = quantity + values(quantity), " +
+            "price_at_add = values(price_at_add), product_version_at_add = values(product_version_at_add), " +
+            "price_changed = false, updated_at = values(updated_at)",
+            nativeQuery = true)
+    int upsertQuantity(@Param("cartId") Long cartId,
+                       @Param("productId") Long productId,
+                       @Param("storeId") Long storeId,
+                       @Param("quantity") int quantity,
+                       @Param("price") Integer price,
+                       @Param("version") Long version,
+                       @Param("now") LocalDateTime now);
+
+    // 상품 가격 변경 시 해당 상품을 담은 줄의 가격 변동 표시 갱신 (product_id 인덱스)
+    // - 담을 때 가격으로 되돌아가면 표시 해제
+    @Modifying
+    @Query("update CartItem i set i.priceChanged = " +
+            "case when i.priceAtAdd is not null and i.priceAtAdd <> :price then true else false end " +
+            "where i.product.id = :productId")
+    int refreshPriceChanged(@Param("productId") Long productId, @Param("price") int price);
+
+    // 여러 상품 가격 일괄 변경 후 한 번에 갱신 (새 가격은 이미 반영된 상품 테이블에서 읽음)
+    @Modifying
+    @Query("update CartItem i set i.priceChanged = " +
+            "case when i.priceAtAdd is not null " +
+            "and i.priceAtAdd <> (select p.price from Product p where p.id = i.product.id) then true else false end " +
+            "where i.product.id in :productIds")
+    int refreshPriceChangedIn(@Param("productIds") Collection<Long> productIds);
+
+    // 수량 지정 변경 (마지막 변경이 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("update CartItem i set i.quantity = :quantity, i.updatedAt = :now " +
+            "where i.id = :itemId and i.cart.id = :cartId")
+    int updateQuantity(@Param("cartId") Long cartId,
+                       @Param("itemId") Long itemId,
+                       @Param("quantity") int quantity,
+                       @Param("now") LocalDateTime now);
+
+    // 수량 증감 (결과가 1 미만이 되는 경우는 갱신하지 않음 -> 0건 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("update CartItem i set i.quantity = i.quantity + :delta, i.updatedAt = :now " +
+            "where i.id = :itemId and i.cart.id = :cartId and i.quantity + :delta >= 1")
+    int addQuantity(@Param("cartId") Long cartId,
+                    @Param("itemId") Long itemId,
+                    @Param("delta") int delta,
+                    @Param("now") LocalDateTime now);
+
+    // 수량 감소 (하한 1로 고정, 동기화 병합용)
+    @Modifying(flushAutomatically = true)
+    @Query("update CartItem i set i.quantity = case when i.quantity + :delta < 1 then 1 else i.quantity + :delta end, " +
+            "i.updatedAt = :now " +
+            "where i.id = :itemId and i.cart.id = :cartId")
+    int addQuantityFloorOne(@Param("cartId") Long cartId,
+                            @Param("itemId") Long itemId,
+                            @Param("delta") int delta,
+                            @Param("now") LocalDateTime now);
+
+    // 여러 줄 삭제 (엔티티 로딩 없이)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CartItem i where i.cart.id = :cartId and i.id in :itemIds")
+    int deleteLines(@Param("cartId") Long cartId, @Param("itemIds") Collection<Long> itemIds);
+
+    /* 변경 로그 기록용 줄 정보 (id/상품/수량만) */
+    @Query("select i.id as itemId, i.product.id as productId, i.quantity as quantity " +
+            "from CartItem i where i.cart.id = :cartId and i.product.id = :productId")
+    Optional<CartLine> findLineByProduct(@Param("cartId") Long cartId, @Param("productId") Long productId);
+
+    @Query("select i.id as itemId, i.product.id as productId, i.quantity as quantity " +
+            "from CartItem i where i.cart.id = :cartId and i.id = :itemId")
+    Optional<CartLine> findLine(@Param("cartId") Long cartId, @Param("itemId") Long itemId);
+
+    @Query("select i.id as itemId, i.product.id as productId, i.quantity as quantity " +
+            "from CartItem i where i.cart.id = :cartId and i.id in :itemIds")
+    List<CartLine> findLines(@Param("cartId") Long cartId, @Param("itemIds") Collection<Long> itemIds);
+
+    @Query("select i.id as itemId, i.product.id as productId, i.quantity as quantity " +
+            "from CartItem i where i.cart.id = :cartId and i.product.id in :productIds")
+    List<CartLine> findLinesByProducts(@Param("cartId") Long cartId, @Param("productIds") Collection<Long> productIds);
+
+    @Query("select i.id as itemId, i.product.id as productId, i.quantity as quantity " +
+            "from CartItem i where i.cart.id = :cartId")
+    List<CartLine> findAllLines(@Param("cartId") Long cartId);
+
+    /* 정리 배치(CartSweepService)용 */
+    // 정리 대상 줄: 품절 / 유통기한이 오래 지난 상품 / 사라진 상품을 가리키는 줄
+    // - PK(cart_item_id) 순서로 afterId 이후 limit건 (청크 단위 키셋 순회, 상품은 PK 조인)
+    @Query(value = "select ci.cart_item_id as itemId, ci.cart_id as cartId, ci.product_id as productId " +
+            "from cart_items ci left join products p on p.product_id = ci.product_id " +
+            "where ci.cart_item_id > :afterId " +
+            "and (p.product_id is null or p.sold_out = true or p.expiry_date < :expiredBefore) " +
+            "order by ci.cart_item_id limit :limit",
+            nativeQuery = true)
+    List<StaleLine> findStaleLines(@Param("afterId") long afterId,
+                                   @Param("expiredBefore") LocalDate expiredBefore,
+                                   @Param("limit") int limit);
+
+    // 삭제 트랜잭션 안에서 아직 남아 있는 줄만 잠금 후 반환 (조회 이후 사용자가 지운 줄은 제외 -> 실제로 지운 줄만 REMOVED 기록)
+    @Query(value = "select ci.cart_item_id from cart_items ci where ci.cart_item_id in (:itemIds) for update",
+            nativeQuery = true)
+    List<Long> lockExistingIds(@Param("itemIds") Collection<Long> itemIds);
+
+    @Modifying
+    @Query("delete from CartItem i where i.id in :itemIds")
+    int deleteByIds(@Param("itemIds") Collection<Long> itemIds);
+
+    interface StaleLine {
+        Long getItemId();
+        Long getCartId();
+        Long getProductId();
+    }
+
+    interface CartLine {
+        Long getItemId();
+        Long getProductId();
+        Integer getQuantity();
+    }
 }
@@ -5,15 +5,20 @@ import me.swudam.jangbo.entity.Cart;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // 장바구니 루트 엔티티 저장소
 // - 고객별로 장바구니는 1개라는 가정 → customerId 로 단건 조회하는 메서드 제공
 // - 합계 계산/응답 DTO 생성 시 N+1을 피하려고 fetch 전략이 필요한 지점이 많으므로 items(+ product, store) 를 함께 로딩하는 메서드 별도로 제공(@EntityGraph 또는 fetch join)
-// - 동시성(수량 증감, 담기) 상황을 고려한 비관적 락 메서드도 제공
+// - 동시성(수량 증감, 담기)은 행 잠금 대신 revision 원자적 증가 + CartChange 로그로 처리
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
     // 고객 ID로 Cart 단건 조회
@@ -29,13 +34,53 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     })
     Optional<Cart> findWithItemsByCustomer_Id(Long customer_id);
 
-    // 수량 변경/담기 같은 갱신 작업에 사용할 수 있는 비관적 락 쿼리
-    // - 같은 고객의 Cart를 동시에 수정하는 경쟁을 직관적으로 제어
-    // - 트랜잭션 경계 안에서 사용해야 함(@Transactional)
-    // - 필요할 때만 사용 (잠금은 비용이 큼)
+    // 줄을 넣는 경로(담기/병합/동기화)용: 카트 행을 처음부터 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회
+    // - 조회 직후 정리 배치가 카트를 삭제해 줄 INSERT가 FK 위반으로 실패하는 경합 방지 (삭제가 먼저면 빈 결과 -> 새 카트 생성)
+    // - 공유 잠금은 쓰지 않음: 마지막 incrementRevision(X 잠금)으로 올리는 과정에서 동시 요청끼리 교착
+    //   -> 같은 카트의 동시 변경은 커밋 순서대로 직렬화 (병합 규칙은 그대로)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from Cart c where c.customer.id = :customerId")
-    Optional<Cart> findByCustomerIdForUpdate(Long customerId);
+    Optional<Cart> findForUpdateByCustomerId(@Param("customerId") Long customerId);
+
+    // ETag 계산용: 장바구니 id + 변경 버전만 조회 (항목/상품 로딩 X)
+    @Query("select c.id as cartId, c.revision as revision from Cart c where c.customer.id = :customerId")
+    Optional<CartRevision> findRevisionByCustomerId(@Param("customerId") Long customerId);
+
+    interface CartRevision {
+        Long getCartId();
+        Long getRevision();
+    }
+
+    // 현재 revision 단건 조회
+    @Query("select c.revision from Cart c where c.id = :cartId")
+    Long findRevisionById(@Param("cartId") Long cartId);
+
+    // revision 원자적 증가 (+ 수정 시각 갱신)
+    // - SELECT ... FOR UPDATE 없이 카운터 행만 짧게 갱신 -> 트랜잭션 마지막에 호출해 잠금 구간 최소화
+    @Modifying
+    @Query("update Cart c set c.revision = c.revision + 1, c.updatedAt = :now where c.id = :cartId")
+    int incrementRevision(@Param("cartId") Long cartId, @Param("now") LocalDateTime now);
+
+    /* 정리 배치(CartSweepService)용 */
+    // 오래 방치된 빈 장바구니 id (PK 순서 키셋 청크)
+    @Query(value = "select c.cart_id from carts c " +
+            "where c.cart_id > :afterId and c.updated_at < :idleBefore " +
+            "and not exists (select 1 from cart_items ci where ci.cart_id = c.cart_id) " +
+            "order by c.cart_id limit :limit",
+            nativeQuery = true)
+    List<Long> findIdleEmptyCartIds(@Param("afterId") long afterId,
+                                    @Param("idleBefore") LocalDateTime idleBefore,
+                                    @Param("limit") int limit);
+
+    // 빈 장바구니 삭제 (조회 이후 다시 담긴 카트는 조건에서 제외)
+    // - 담기 경로는 findForUpdateByCustomerId로 카트 행을 잡고 있으므로 진행 중인 담기가 끝난 뒤 다시 판단
+    @Modifying
+    @Query(value = "delete from carts " +
+            "where cart_id in (:cartIds) and updated_at < :idleBefore " +
+            "and not exists (select 1 from cart_items ci where ci.cart_id = carts.cart_id)",
+            nativeQuery = true)
+    int deleteIdleEmptyCarts(@Param("cartIds") Collection<Long> cartIds,
+                             @Param("idleBefore") LocalDateTime idleBefore);
 
     // 마이페이지 - 회원탈퇴 로직
     @Transactional
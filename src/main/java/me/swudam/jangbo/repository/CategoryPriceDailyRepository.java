@@ -0,0 +1,30 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.Category;
+import me.swudam.jangbo.entity.CategoryPriceDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 카테고리 일별 가격 통계
+public interface CategoryPriceDailyRepository extends JpaRepository<CategoryPriceDaily, CategoryPriceDaily.Key> {
+
+    List<CategoryPriceDaily> findAllByCategoryAndDayBetweenOrderByDayAsc(Category category, LocalDate from, LocalDate to);
+
+    // 그날 스냅샷 (카테고리별 집계 한 번, 다시 실행하면 덮어씀)
+    @Modifying
+    @Query(value = """
+        insert into category_price_daily (category, bucket_day, avg_price, min_price, max_price, product_count)
+        select s.category, :day, avg(p.price), min(p.price), max(p.price), count(*)
+        from products p join store s on s.store_id = p.store_id
+        where s.category is not null and p.expiry_date >= :day
+        group by s.category
+        on duplicate key update avg_price = values(avg_price), min_price = values(min_price),
+                                max_price = values(max_price), product_count = values(product_count)
+    """, nativeQuery = true)
+    int snapshot(@Param("day") LocalDate day);
+}
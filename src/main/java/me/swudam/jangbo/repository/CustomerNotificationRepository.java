@@ -0,0 +1,37 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.CustomerNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CustomerNotificationRepository extends JpaRepository<CustomerNotification, Long> {
+
+    // 최신순 커서 조회 (beforeId 미만)
+    @Query("""
+        select n from CustomerNotification n
+        where n.customerId = :customerId and n.id < :beforeId
+        order by n.id desc
+    """)
+    List<CustomerNotification> findPage(@Param("customerId") Long customerId,
+                                        @Param("beforeId") long beforeId,
+                                        Pageable pageable);
+
+    long countByCustomerIdAndReadFalse(Long customerId);
+
+    @Modifying
+    @Query("""
+        update CustomerNotification n set n.read = true
+        where n.customerId = :customerId and n.id in :ids and n.read = false
+    """)
+    int markRead(@Param("customerId") Long customerId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from CustomerNotification n where n.customerId = :customerId")
+    int deleteAllByCustomerId(@Param("customerId") Long customerId);
+}
@@ -0,0 +1,36 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.MarkdownRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MarkdownRuleRepository extends JpaRepository<MarkdownRule, Long> {
+
+    List<MarkdownRule> findAllByMerchantIdOrderByIdDesc(Long merchantId);
+
+    // 상인 소유권을 함께 검증하는 단건 조회
+    Optional<MarkdownRule> findByIdAndMerchantId(Long ruleId, Long merchantId);
+
+    // 오늘 아직 적용 안 된 활성 규칙 (마감 시각/휴무일 판단용으로 상점 + 휴무 요일 함께 로딩)
+    // - 트랜잭션 밖(스케줄러)에서 읽으므로 LAZY 컬렉션까지 fetch join
+    @Query("""
+        select distinct r from MarkdownRule r join fetch r.store s left join fetch s.dayOff
+        where r.active = true and (r.lastAppliedOn is null or r.lastAppliedOn < :today)
+    """)
+    List<MarkdownRule> findPending(@Param("today") LocalDate today);
+
+    // 상점 삭제/상인 탈퇴 시 규칙 정리 (적용 중인 할인은 복구 시각에 정리됨)
+    @Modifying
+    @Query("delete from MarkdownRule r where r.store.id = :storeId")
+    int deleteAllByStoreId(@Param("storeId") Long storeId);
+
+    @Modifying
+    @Query("delete from MarkdownRule r where r.merchant.id = :merchantId")
+    int deleteAllByMerchantId(@Param("merchantId") Long merchantId);
+}
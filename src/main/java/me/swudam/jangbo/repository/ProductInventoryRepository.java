@@ -0,0 +1,16 @@
+package me.swudam.jangbo.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 재고/가격 일괄 변경 (상품마다 다른 값을 UPDATE 한 번으로 반영)
+public interface ProductInventoryRepository {
+
+    // 상품 하나의 변경 후 값 (priceChanged: 가격이 실제로 바뀜 -> priceUpdatedAt 갱신)
+    record InventoryChange(Long productId, int stock, boolean soldOut, int price, boolean priceChanged) {
+    }
+
+    // version + 1, updatedAt 갱신 포함 (엔티티를 거치지 않으므로 직접 올림)
+    int applyInventory(List<InventoryChange> changes, LocalDateTime now, Instant priceUpdatedAt);
+}
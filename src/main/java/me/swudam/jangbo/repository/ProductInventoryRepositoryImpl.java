@@ -0,0 +1,66 @@
+package me.swudam.jangbo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// ProductInventoryRepository 구현
+// - set 절을 상품 id별 CASE로 구성 -> 상품 수와 무관하게 UPDATE 한 번 (where는 PK in)
+// - 각 값은 호출 측이 잠근 현재 값으로 미리 계산 -> set 절 평가 순서에 의존하지 않음
+class ProductInventoryRepositoryImpl implements ProductInventoryRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public int applyInventory(List<InventoryChange> changes, LocalDateTime now, Instant priceUpdatedAt) {
+        if (changes.isEmpty()) return 0;
+
+        StringBuilder stock = new StringBuilder("case p.id");
+        StringBuilder soldOut = new StringBuilder("case p.id");
+        StringBuilder price = new StringBuilder("case p.id");
+        for (int i = 0; i < changes.size(); i++) {
+            stock.append(" when :id").append(i).append(" then :stock").append(i);
+            soldOut.append(" when :id").append(i).append(" then :soldOut").append(i);
+            price.append(" when :id").append(i).append(" then :price").append(i);
+        }
+        stock.append(" else p.stock end");
+        soldOut.append(" else p.soldOut end");
+        price.append(" else p.price end");
+
+        List<Long> priceChangedIds = changes.stream()
+                .filter(InventoryChange::priceChanged)
+                .map(InventoryChange::productId)
+                .toList();
+
+        String jpql = "update Product p set"
+                + " p.stock = " + stock
+                + ", p.soldOut = " + soldOut
+                + ", p.price = " + price
+                + (priceChangedIds.isEmpty() ? ""
+                        : ", p.priceUpdatedAt = case when p.id in :priceChangedIds then :priceUpdatedAt else p.priceUpdatedAt end")
+                + ", p.version = p.version + 1"
+                + ", p.updatedAt = :now"
+                + " where p.id in :productIds";
+
+        Query query = em.createQuery(jpql);
+        for (int i = 0; i < changes.size(); i++) {
+            InventoryChange c = changes.get(i);
+            query.setParameter("id" + i, c.productId());
+            query.setParameter("stock" + i, c.stock());
+            query.setParameter("soldOut" + i, c.soldOut());
+            query.setParameter("price" + i, c.price());
+        }
+        if (!priceChangedIds.isEmpty()) {
+            query.setParameter("priceChangedIds", priceChangedIds);
+            query.setParameter("priceUpdatedAt", priceUpdatedAt);
+        }
+        query.setParameter("now", now);
+        query.setParameter("productIds", changes.stream().map(InventoryChange::productId).toList());
+        return query.executeUpdate();
+    }
+}
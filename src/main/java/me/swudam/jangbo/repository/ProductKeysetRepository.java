@@ -0,0 +1,17 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.support.KeysetCursor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 상품 목록 키셋(커서) 페이지 조회 (ProductRepository 커스텀 프래그먼트)
+// - 정렬 키 + id 로 "마지막 행 다음"부터 limit건만 읽음 -> 메모리/지연이 전체 상품 수가 아닌 페이지 크기에 비례
+// - 엔티티 대신 ProductRow로 조회 (읽기 전용)
+public interface ProductKeysetRepository {
+
+    // sort: recent | cheap | fresh | popular | trending
+    // merchantId, keyword: null 이면 조건 없음
+    // availableOn: 유통기한이 이 날짜 이후(당일 포함)인 상품만
+    List<ProductRow> findPage(String sort, Long merchantId, String keyword, LocalDate availableOn, KeysetCursor after, int limit);
+}
@@ -0,0 +1,98 @@
+package me.swudam.jangbo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import me.swudam.jangbo.support.KeysetCursor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ProductKeysetRepository 구현 (정렬 기준별 JPQL을 조건에 맞게 조립)
+// - 정렬마다 id를 마지막 정렬 키로 붙여 같은 값이 있어도 순서가 고정됨
+// - 커서 조건은 "a <= :v and (a < :v or id < :id)" 형태로 써서 정렬 키 인덱스의 범위 스캔을 사용
+// - popular: 완료 주문 건수(completedOrderCount) + 최신순 두 키
+class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<ProductRow> findPage(String sort, Long merchantId, String keyword, LocalDate availableOn,
+                                     KeysetCursor after, int limit) {
+        return switch (sort) {
+            case "recent" -> simplePage("p.createdAt", false, merchantId, keyword, availableOn, after,
+                    after == null ? null : after.value(0, LocalDateTime.class), limit);
+            case "cheap" -> simplePage("p.price", true, merchantId, keyword, availableOn, after,
+                    after == null ? null : after.value(0, Integer.class), limit);
+            case "fresh" -> simplePage("p.expiryDate", false, merchantId, keyword, availableOn, after,
+                    after == null ? null : after.value(0, LocalDate.class), limit);
+            case "popular" -> popularPage(merchantId, keyword, availableOn, after, limit);
+            case "trending" -> simplePage("p.trendingScore", false, merchantId, keyword, availableOn, after,
+                    after == null ? null : after.value(0, Double.class), limit);
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + sort);
+        };
+    }
+
+    // 단일 정렬 키 + id
+    private List<ProductRow> simplePage(String key, boolean asc, Long merchantId, String keyword, LocalDate availableOn,
+                                       KeysetCursor after, Object afterValue, int limit) {
+        StringBuilder jpql = new StringBuilder(ProductRow.SELECT_FROM).append(" where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendFilters(jpql, params, merchantId, keyword, availableOn);
+
+        if (after != null) {
+            String cmp = asc ? ">" : "<";
+            jpql.append(" and ").append(key).append(' ').append(cmp).append("= :afterValue")
+                    .append(" and (").append(key).append(' ').append(cmp).append(" :afterValue")
+                    .append(" or p.id ").append(cmp).append(" :afterId)");
+            params.put("afterValue", afterValue);
+            params.put("afterId", after.id());
+        }
+        String dir = asc ? " asc" : " desc";
+        jpql.append(" order by ").append(key).append(dir).append(", p.id").append(dir);
+
+        TypedQuery<ProductRow> query = em.createQuery(jpql.toString(), ProductRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // 인기순: 완료 주문 건수 desc, 최신순 desc, id desc (idx_product_popular 순서로 읽음)
+    private List<ProductRow> popularPage(Long merchantId, String keyword, LocalDate availableOn, KeysetCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(ProductRow.SELECT_FROM).append(" where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendFilters(jpql, params, merchantId, keyword, availableOn);
+
+        if (after != null) {
+            jpql.append(" and p.completedOrderCount <= :afterCount")
+                    .append(" and (p.completedOrderCount < :afterCount")
+                    .append(" or (p.createdAt <= :afterCreatedAt and (p.createdAt < :afterCreatedAt or p.id < :afterId)))");
+            params.put("afterCount", after.value(0, Long.class));
+            params.put("afterCreatedAt", after.value(1, LocalDateTime.class));
+            params.put("afterId", after.id());
+        }
+        jpql.append(" order by p.completedOrderCount desc, p.createdAt desc, p.id desc");
+
+        TypedQuery<ProductRow> query = em.createQuery(jpql.toString(), ProductRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private void appendFilters(StringBuilder jpql, Map<String, Object> params, Long merchantId, String keyword,
+                               LocalDate availableOn) {
+        // 유통기한 지난 상품 제외 (expiry_date 인덱스 범위 조건)
+        jpql.append(" and p.expiryDate >= :availableOn");
+        params.put("availableOn", availableOn);
+        if (merchantId != null) {
+            jpql.append(" and p.merchant.id = :merchantId");
+            params.put("merchantId", merchantId);
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            jpql.append(" and lower(p.name) like lower(concat('%', :keyword, '%'))");
+            params.put("keyword", keyword);
+        }
+    }
+}
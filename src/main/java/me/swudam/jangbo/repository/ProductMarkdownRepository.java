@@ -0,0 +1,20 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.ProductMarkdown;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 적용 중인 마감 할인 저장소 (revert_at 인덱스 범위로 복구 대상 조회)
+public interface ProductMarkdownRepository extends JpaRepository<ProductMarkdown, Long> {
+
+    // 복구 시각이 지난 할인이 있는 상인
+    @Query("select distinct m.merchantId from ProductMarkdown m where m.revertAt <= :now")
+    List<Long> findRevertDueMerchantIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    List<ProductMarkdown> findAllByMerchantIdAndRevertAtLessThanEqual(Long merchantId, LocalDateTime now);
+}
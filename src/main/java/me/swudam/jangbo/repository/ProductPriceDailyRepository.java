@@ -0,0 +1,17 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.ProductPriceDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+// 상품 일별 가격 집계 (PK (product_id, bucket_day) 범위 스캔)
+public interface ProductPriceDailyRepository extends JpaRepository<ProductPriceDaily, ProductPriceDaily.Key> {
+
+    List<ProductPriceDaily> findAllByProductIdAndDayBetweenOrderByDayAsc(Long productId, LocalDate from, LocalDate to);
+
+    // 조회 구간 직전 마지막 집계 (구간 첫날 가격)
+    Optional<ProductPriceDaily> findFirstByProductIdAndDayLessThanOrderByDayDesc(Long productId, LocalDate day);
+}
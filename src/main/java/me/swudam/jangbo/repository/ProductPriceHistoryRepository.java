@@ -0,0 +1,12 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.ProductPriceHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+// 상품 가격 변경 이력 (월 단위 압축 행) - 추가는 PriceHistoryService의 JDBC 배치 upsert
+public interface ProductPriceHistoryRepository extends JpaRepository<ProductPriceHistory, ProductPriceHistory.Key> {
+
+    Optional<ProductPriceHistory> findByProductIdAndMonth(Long productId, Integer month);
+}
@@ -1,21 +1,58 @@
 package me.swudam.jangbo.repository;
 
-import me.swudam.jangbo.entity.OrderStatus;
 import me.swudam.jangbo.entity.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductKeysetRepository, ProductSearchRepository,
+        ProductRowRepository, ProductInventoryRepository {
     /* 단건 조회 */
     // 상인 소유권을 함께 검증하는 단건 조회 (상인 전용 API에서 사용)
     Optional<Product> findByIdAndMerchantId(Long productId, Long merchantId);
     // 공개 단건 조회 (고객 API 전용) -> JPA 기본 메서드이므로 삭제
     // Optional<Product> findById(Long productId);
 
+    // 재고/가격 일괄 변경 전 현재 값 잠금 조회 (소유권 검증 겸용: 다른 상인 상품은 결과에서 빠짐)
+    // - PK 조회 + FOR UPDATE -> 같은 상품의 주문 재고 차감/단건 수정과 순서가 정해짐
+    @Query(value = """
+        select product_id as productId, stock, price, sold_out as soldOut
+        from products
+        where merchant_id = :merchantId and product_id in (:productIds)
+        for update
+    """, nativeQuery = true)
+    List<InventoryState> lockInventory(@Param("merchantId") Long merchantId,
+                                       @Param("productIds") Collection<Long> productIds);
+
+    // 재고/품절/가격 현재 값 (실시간 재고 푸시, PK IN 조회, 잠금 없음)
+    @Query("""
+        select p.id as productId, p.stock as stock, p.price as price, p.soldOut as soldOut
+        from Product p
+        where p.id in :productIds
+    """)
+    List<InventoryState> findInventoryByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 마감 할인 대상 상품 id (판매 중 + 유통기한 남음 + 이미 할인 중이 아님, keyword null = 전체)
+    @Query("""
+        select p.id from Product p
+        where p.merchant.id = :merchantId and p.soldOut = false and p.expiryDate >= :today
+          and (:keyword is null or lower(p.name) like lower(concat('%', :keyword, '%')))
+          and not exists (select 1 from ProductMarkdown m where m.productId = p.id)
+    """)
+    List<Long> findMarkdownCandidateIds(@Param("merchantId") Long merchantId,
+                                        @Param("keyword") String keyword,
+                                        @Param("today") LocalDate today);
+
     /* 특정 상인 목록 조회 (정렬) */
     // 최신순 정렬
     List<Product> findAllByMerchantIdOrderByCreatedAtDesc(Long merchantId);
@@ -26,66 +63,152 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findAllByMerchantIdOrderByExpiryDateDesc(Long merchantId);
 
     /* 특정 상인 상품: 인기순(완료 주문 건수 내림차순) */
+    // 집계 없이 completed_order_count 인덱스 순서로 읽음
+    List<Product> findAllByMerchantIdOrderByCompletedOrderCountDescCreatedAtDescIdDesc(Long merchantId);
+    // 트렌딩순 (시간 감쇠 점수)
+    List<Product> findAllByMerchantIdOrderByTrendingScoreDescIdDesc(Long merchantId);
+
+    /* 고객 전역 목록/검색은 ProductRowRepository(조회 전용 행)로 조회 */
+
+    /* 인기 지표 갱신 (ProductPopularityService) */
+    // 픽업 완료 시 증가 (엔티티 로딩/@Version 증가 없이 일괄 UPDATE)
+    @Modifying
+    @Query("update Product p set p.completedOrderCount = p.completedOrderCount + :count, " +
+            "p.trendingScore = p.trendingScore + :trendingDelta where p.id in :productIds")
+    int incrementPopularity(@Param("productIds") Collection<Long> productIds,
+                            @Param("count") long count,
+                            @Param("trendingDelta") double trendingDelta);
+
+    // 주문 이력으로 재계산 (상품 id 구간 단위)
+    // - 완료 시각은 주문의 마지막 수정 시각(픽업 완료 처리 시점)으로 근사
+    @Modifying
+    @Query(value = """
+        update products p
+        left join (
+            select op.product_id as product_id,
+                   count(*) as cnt,
+                   sum(exp((unix_timestamp(o.updated_at) - :epochSeconds) / :tauSeconds)) as score
+            from order_products op
+            join orders o on o.id = op.order_id
+            where o.status = 'COMPLETED' and op.product_id between :fromId and :toId
+            group by op.product_id
+        ) s on s.product_id = p.product_id
+        set p.completed_order_count = coalesce(s.cnt, 0),
+            p.trending_score = coalesce(s.score, 0)
+        where p.product_id between :fromId and :toId
+    """, nativeQuery = true)
+    int rebuildPopularity(@Param("fromId") long fromId,
+                          @Param("toId") long toId,
+                          @Param("epochSeconds") long epochSeconds,
+                          @Param("tauSeconds") double tauSeconds);
+
+    @Query("select max(p.id) from Product p")
+    Long findMaxId();
+
+    // id 순서 청크 조회 (검색 색인 재구성용)
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // 여러 상품 + 상점 한 번에 로딩 (게스트 장바구니 조회 등 N+1 방지)
+    @EntityGraph(attributePaths = {"store"})
+    List<Product> findAllWithStoreByIdIn(Collection<Long> productIds);
+
+    // 존재 여부: 중복 검증이나 사전 체크용
+    boolean existsByIdAndMerchantId(Long productId, Long merchantId);
+
+    /* ETag 계산용 버전 조회 (엔티티/DTO 생성 없이 버전 값만) */
+    // 단건: 버전 + 가격 갱신 시각
+    @Query("select p.version as version, p.priceUpdatedAt as priceUpdatedAt from Product p where p.id = :productId")
+    Optional<ProductVersion> findVersionById(@Param("productId") Long productId);
+
+    // 특정 상인 목록 집계
     @Query("""
-        select p
+        select count(p) as total, coalesce(sum(p.version), 0) as versionSum,
+               max(p.priceUpdatedAt) as lastPriceUpdatedAt, max(p.updatedAt) as lastUpdatedAt,
+               coalesce(sum(p.completedOrderCount), 0) as popularitySum
         from Product p
-        left join OrderProduct op on op.product = p
-        left join op.order o
-        where p.merchant.id = :merchantId
-        group by p.id
-        order by sum(case when o.status = :completed then 1 else 0 end) desc,
-                 p.createdAt desc
+        where p.merchant.id = :merchantId and p.expiryDate >= :availableOn
     """)
-    List<Product> findPopularByMerchant(
-            @Param("merchantId") Long merchantId,
-            @Param("completed") OrderStatus completed
-    );
+    VersionAggregate aggregateVersionsByMerchant(@Param("merchantId") Long merchantId,
+                                                 @Param("availableOn") LocalDate availableOn);
 
-    /* 전역 목록 조회 (정렬) - 고객 전용 */
-    // 최신순 정렬
-    List<Product> findAllByOrderByCreatedAtDesc();
-    // 저가순
-    List<Product> findAllByOrderByPriceAsc();
-    // 신선순
-    List<Product> findAllByOrderByExpiryDateDesc();
+    // 전역 목록 집계
+    @Query("""
+        select count(p) as total, coalesce(sum(p.version), 0) as versionSum,
+               max(p.priceUpdatedAt) as lastPriceUpdatedAt, max(p.updatedAt) as lastUpdatedAt,
+               coalesce(sum(p.completedOrderCount), 0) as popularitySum
+        from Product p
+        where p.expiryDate >= :availableOn
+    """)
+    VersionAggregate aggregateVersions(@Param("availableOn") LocalDate availableOn);
 
-    /* 전역 상품: 인기순(완료 주문 건수 내림차순) */
+    // 이름 검색 결과 집계
     @Query("""
-        select p
+        select count(p) as total, coalesce(sum(p.version), 0) as versionSum,
+               max(p.priceUpdatedAt) as lastPriceUpdatedAt, max(p.updatedAt) as lastUpdatedAt,
+               coalesce(sum(p.completedOrderCount), 0) as popularitySum
         from Product p
-        left join OrderProduct op on op.product = p
-        left join op.order o
-        group by p.id
-        order by sum(case when o.status = :completed then 1 else 0 end) desc,
-                 p.createdAt desc
+        where lower(p.name) like lower(concat('%', :keyword, '%')) and p.expiryDate >= :availableOn
     """)
-    List<Product> findAllOrderByPopularity(@Param("completed") OrderStatus completed);
+    VersionAggregate aggregateVersionsByName(@Param("keyword") String keyword,
+                                             @Param("availableOn") LocalDate availableOn);
 
-    /* 검색: AI 장보 기능에서 2차 처리를 위한 세부 조건 검색 */
-    // 검색: 특정 상인 + 이름 검색 + 최신순
-    List<Product> findByMerchantIdAndNameContainingIgnoreCaseOrderByCreatedAtDesc(Long merchantId, String keyword);
-    // 검색: 이름 검색 + 신선순(유통기한 많이 남은 순)
-    List<Product> findByNameContainingIgnoreCaseOrderByExpiryDateDesc(String keyword);
-    // 이름 검색 + 저가순
-    List<Product> findByNameContainingIgnoreCaseOrderByPriceAsc(String keyword);
+    // id 목록 집계 (검색 색인 결과의 ETag)
+    @Query("""
+        select count(p) as total, coalesce(sum(p.version), 0) as versionSum,
+               max(p.priceUpdatedAt) as lastPriceUpdatedAt, max(p.updatedAt) as lastUpdatedAt,
+               coalesce(sum(p.completedOrderCount), 0) as popularitySum
+        from Product p
+        where p.id in :productIds and p.expiryDate >= :availableOn
+    """)
+    VersionAggregate aggregateVersionsByIdIn(@Param("productIds") Collection<Long> productIds,
+                                             @Param("availableOn") LocalDate availableOn);
 
-    /* 전역 검색: 인기순(완료 주문 건수 내림차순) */
+    /* 만료 처리 (ProductExpiryService) */
+    // 유통기한이 지났는데 아직 판매 중인 상품 (만료 처리 배치, idx_product_sold_out_expiry 범위 스캔)
     @Query("""
-        select p
+        select p.id as productId, p.merchant.id as merchantId, p.name as name
         from Product p
-        left join OrderProduct op on op.product = p
-        left join op.order o
-        where lower(p.name) like lower(concat('%', :keyword, '%'))
-        group by p.id
-        order by sum(case when o.status = :completed then 1 else 0 end) desc,
-                 p.createdAt desc
+        where p.soldOut = false and p.expiryDate < :today
+        order by p.expiryDate asc, p.id asc
     """)
-    List<Product> findByNameOrderByPopularity(
-            @Param("keyword") String keyword,
-            @Param("completed") OrderStatus completed
-    );
+    List<ExpiredProduct> findExpiredSellable(@Param("today") LocalDate today, Pageable pageable);
 
+    // 만료 품절 처리 (markSoldOut과 같은 값, 엔티티를 거치지 않으므로 version/updatedAt 직접 갱신)
+    // - 조회 이후 상인이 유통기한을 고친 상품은 조건에서 빠짐
+    @Modifying
+    @Query("""
+        update Product p set p.soldOut = true, p.stock = 0, p.version = p.version + 1, p.updatedAt = :now
+        where p.id in :productIds and p.soldOut = false and p.expiryDate < :today
+    """)
+    int markExpiredSoldOut(@Param("productIds") Collection<Long> productIds,
+                           @Param("today") LocalDate today,
+                           @Param("now") LocalDateTime now);
 
-    // 존재 여부: 중복 검증이나 사전 체크용
-    boolean existsByIdAndMerchantId(Long productId, Long merchantId);
+    interface ExpiredProduct {
+        Long getProductId();
+        Long getMerchantId();
+        String getName();
+    }
+
+    interface InventoryState {
+        Long getProductId();
+        Integer getStock();
+        Integer getPrice();
+        Boolean getSoldOut();
+    }
+
+    interface ProductVersion {
+        Long getVersion();
+        Instant getPriceUpdatedAt();
+    }
+
+    // 목록 버전 집계 결과 (건수 + 버전 합 + 최종 갱신 시각 + 완료 주문 수 합)
+    // - 인기 지표는 @Version을 올리지 않으므로 인기순 ETag는 popularitySum을 함께 사용
+    interface VersionAggregate {
+        Long getTotal();
+        Long getVersionSum();
+        Instant getLastPriceUpdatedAt();
+        LocalDateTime getLastUpdatedAt();
+        Long getPopularitySum();
+    }
 }
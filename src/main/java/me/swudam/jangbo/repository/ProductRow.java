@@ -0,0 +1,23 @@
+package me.swudam.jangbo.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 고객 목록/검색 응답용 상품 조회 결과 (JPQL 생성자 표현식으로 바로 생성)
+// - 엔티티가 아니므로 영속성 컨텍스트 스냅샷/변경 감지/@Version/연관 프록시 없이 컬럼 값만 보관
+// - 상점/상인은 FK 값만 읽음 (조인 없음)
+// - completedOrderCount, trendingScore: 정렬/커서 계산용 (응답에는 포함하지 않음)
+public record ProductRow(Long id, Long storeId, Long merchantId,
+                         String name, String origin, LocalDate expiryDate,
+                         Integer stock, Integer price, Boolean soldOut, String imageUrl,
+                         LocalDateTime createdAt, LocalDateTime updatedAt,
+                         Long completedOrderCount, Double trendingScore) {
+
+    // "select new ... from Product p" (뒤에 where/order by를 붙여 사용)
+    static final String SELECT_FROM = """
+            select new me.swudam.jangbo.repository.ProductRow(
+                p.id, p.store.id, p.merchant.id, p.name, p.origin, p.expiryDate,
+                p.stock, p.price, p.soldOut, p.imageUrl, p.createdAt, p.updatedAt,
+                p.completedOrderCount, p.trendingScore)
+            from Product p""";
+}
@@ -0,0 +1,29 @@
+package me.swudam.jangbo.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 고객 목록/검색용 읽기 전용 조회 (ProductRepository 커스텀 프래그먼트)
+// - 엔티티 대신 ProductRow로 바로 조회 -> 대량 목록에서 메모리 사용과 flush 시 변경 감지 비용 절감
+public interface ProductRowRepository {
+
+    Optional<ProductRow> findRowById(Long productId);
+
+    // id 목록 조회 (순서 보장 없음, 호출 측에서 정렬)
+    // availableOn: 유통기한이 이 날짜 이후(당일 포함)인 상품만 (검색 색인 결과에서 만료 상품 제외)
+    List<ProductRow> findRowsByIdIn(Collection<Long> productIds, LocalDate availableOn);
+
+    // 전체 목록 (sort: recent | cheap | fresh | popular | trending)
+    // merchantId, keyword: null 이면 조건 없음 (keyword는 이름 부분 일치, 대소문자 무시)
+    // availableOn: 유통기한이 이 날짜 이후(당일 포함)인 상품만
+    List<ProductRow> findRows(String sort, Long merchantId, String keyword, LocalDate availableOn);
+
+    // 특정 상인 상품 id 순서 청크 (내보내기용)
+    List<ProductRow> findRowsByMerchantAfterId(Long merchantId, long afterId, int limit);
+
+    // 증분 동기화: (afterAt, afterId) 이후 ~ until 이전에 생성/수정된 상품 (updated_at, id 순서로 limit건)
+    List<ProductRow> findRowsUpdatedAfter(LocalDateTime afterAt, long afterId, LocalDateTime until, int limit);
+}
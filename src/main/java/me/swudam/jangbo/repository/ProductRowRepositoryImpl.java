@@ -0,0 +1,89 @@
+package me.swudam.jangbo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// ProductRowRepository 구현 (정렬 기준은 기존 파생 쿼리 메서드와 같은 순서)
+class ProductRowRepositoryImpl implements ProductRowRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<ProductRow> findRowById(Long productId) {
+        return em.createQuery(ProductRow.SELECT_FROM + " where p.id = :productId", ProductRow.class)
+                .setParameter("productId", productId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<ProductRow> findRowsByIdIn(Collection<Long> productIds, LocalDate availableOn) {
+        if (productIds.isEmpty()) return List.of();
+        return em.createQuery(ProductRow.SELECT_FROM + " where p.id in :productIds and p.expiryDate >= :availableOn",
+                        ProductRow.class)
+                .setParameter("productIds", productIds)
+                .setParameter("availableOn", availableOn)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductRow> findRows(String sort, Long merchantId, String keyword, LocalDate availableOn) {
+        StringBuilder jpql = new StringBuilder(ProductRow.SELECT_FROM).append(" where p.expiryDate >= :availableOn");
+        Map<String, Object> params = new HashMap<>();
+        params.put("availableOn", availableOn);
+        if (merchantId != null) {
+            jpql.append(" and p.merchant.id = :merchantId");
+            params.put("merchantId", merchantId);
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            jpql.append(" and lower(p.name) like lower(concat('%', :keyword, '%'))");
+            params.put("keyword", keyword);
+        }
+        // 동률은 id로 고정 (키셋 페이지/검색 색인과 같은 순서 -> 목록과 페이지 응답 순서 일치)
+        jpql.append(switch (sort) {
+            case "recent" -> " order by p.createdAt desc, p.id desc";
+            case "cheap" -> " order by p.price asc, p.id asc";
+            case "fresh" -> " order by p.expiryDate desc, p.id desc";
+            case "popular" -> " order by p.completedOrderCount desc, p.createdAt desc, p.id desc";
+            case "trending" -> " order by p.trendingScore desc, p.id desc";
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + sort);
+        });
+
+        TypedQuery<ProductRow> query = em.createQuery(jpql.toString(), ProductRow.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ProductRow> findRowsByMerchantAfterId(Long merchantId, long afterId, int limit) {
+        return em.createQuery(ProductRow.SELECT_FROM
+                        + " where p.merchant.id = :merchantId and p.id > :afterId order by p.id asc", ProductRow.class)
+                .setParameter("merchantId", merchantId)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductRow> findRowsUpdatedAfter(LocalDateTime afterAt, long afterId, LocalDateTime until, int limit) {
+        return em.createQuery(ProductRow.SELECT_FROM + """
+                         where p.updatedAt >= :afterAt and (p.updatedAt > :afterAt or p.id > :afterId)
+                           and p.updatedAt < :until
+                        order by p.updatedAt asc, p.id asc""", ProductRow.class)
+                .setParameter("afterAt", afterAt)
+                .setParameter("afterId", afterId)
+                .setParameter("until", until)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,14 @@
+package me.swudam.jangbo.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+// 여러 검색어 이름 검색 (ProductRepository 커스텀 프래그먼트)
+// - 검색 색인을 쓸 수 없을 때(기동 직후/비활성) 여러 검색어를 쿼리 한 번으로 조회하기 위한 대체 경로
+public interface ProductSearchRepository {
+
+    // 검색어 중 하나라도 이름에 포함(대소문자 무시)된 판매 가능 상품 (정렬 없음)
+    // - 판매 가능: 품절 아님 + 재고 있음 + 유통기한이 availableOn 이후(당일 포함)
+    List<ProductRow> findSellableRowsByAnyNameContaining(Collection<String> keywords, LocalDate availableOn);
+}
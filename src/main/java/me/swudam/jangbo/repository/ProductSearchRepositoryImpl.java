@@ -0,0 +1,47 @@
+package me.swudam.jangbo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+// ProductSearchRepository 구현 (검색어 수만큼 like 조건을 or로 조립)
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<ProductRow> findSellableRowsByAnyNameContaining(Collection<String> keywords, LocalDate availableOn) {
+        List<String> terms = keywords.stream()
+                .filter(k -> k != null && !k.isBlank())
+                .map(k -> k.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) return List.of();
+
+        StringBuilder jpql = new StringBuilder(ProductRow.SELECT_FROM)
+                .append(" where p.soldOut = false and p.stock > 0 and p.expiryDate >= :availableOn and (");
+        for (int i = 0; i < terms.size(); i++) {
+            if (i > 0) jpql.append(" or ");
+            jpql.append("lower(p.name) like :k").append(i).append(" escape '!'");
+        }
+        jpql.append(')');
+
+        TypedQuery<ProductRow> query = em.createQuery(jpql.toString(), ProductRow.class);
+        query.setParameter("availableOn", availableOn);
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("k" + i, "%" + escapeLike(terms.get(i)) + "%");
+        }
+        return query.getResultList();
+    }
+
+    // like 와일드카드 문자를 글자 그대로 비교
+    private static String escapeLike(String s) {
+        return s.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
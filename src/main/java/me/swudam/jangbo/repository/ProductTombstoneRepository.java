@@ -0,0 +1,33 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.ProductTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 삭제된 상품 기록 저장소
+// - 모든 조회/삭제는 (deleted_at, product_tombstone_id) 인덱스 범위 스캔
+public interface ProductTombstoneRepository extends JpaRepository<ProductTombstone, Long> {
+
+    // (afterAt, afterId) 이후 ~ until 이전 삭제 기록 (삭제 순서대로)
+    @Query("""
+        select t from ProductTombstone t
+        where t.deletedAt >= :afterAt and (t.deletedAt > :afterAt or t.id > :afterId)
+          and t.deletedAt < :until
+        order by t.deletedAt asc, t.id asc
+    """)
+    List<ProductTombstone> findAfter(@Param("afterAt") LocalDateTime afterAt,
+                                     @Param("afterId") long afterId,
+                                     @Param("until") LocalDateTime until,
+                                     Pageable pageable);
+
+    // 보관 기간이 지난 기록 정리
+    @Modifying
+    @Query("delete from ProductTombstone t where t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,78 @@
+package me.swudam.jangbo.repository;
+
+import me.swudam.jangbo.entity.RestockSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RestockSubscriptionRepository extends JpaRepository<RestockSubscription, Long> {
+
+    // 알림 대상 (탈퇴 고객 제외)
+    interface RestockTarget {
+        Long getSubscriptionId();
+        Long getCustomerId();
+        String getEmail();
+    }
+
+    // 고객 신청 목록 (상품이 삭제된 신청은 제외)
+    interface SubscribedProduct {
+        Long getProductId();
+        String getProductName();
+        Integer getPrice();
+        Boolean getSoldOut();
+        LocalDateTime getSubscribedAt();
+    }
+
+    boolean existsByProductIdAndCustomerId(Long productId, Long customerId);
+
+    // 발송할 신청 한 묶음을 행 잠금으로 선점 (id 순)
+    // - SKIP LOCKED: 다른 노드가 선점 중인 행은 건너뜀 -> 같은 신청을 두 노드가 함께 읽어 중복 발송하지 않음
+    // - 선점한 트랜잭션 안에서 알림 INSERT + 신청 삭제 후 커밋
+    @Query(value = """
+        select restock_subscription_id from restock_subscriptions
+        where product_id = :productId
+        order by restock_subscription_id
+        limit :limit
+        for update skip locked
+    """, nativeQuery = true)
+    List<Long> claimIds(@Param("productId") Long productId, @Param("limit") int limit);
+
+    // 선점한 신청의 알림 대상 (탈퇴 고객 제외)
+    @Query("""
+        select s.id as subscriptionId, s.customerId as customerId, c.email as email
+        from RestockSubscription s join Customer c on c.id = s.customerId
+        where s.id in :ids and c.deleted = false
+        order by s.id
+    """)
+    List<RestockTarget> findTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select p.id as productId, p.name as productName, p.price as price, p.soldOut as soldOut,
+               s.createdAt as subscribedAt
+        from RestockSubscription s join Product p on p.id = s.productId
+        where s.customerId = :customerId
+        order by s.id desc
+    """)
+    List<SubscribedProduct> findSubscribedProducts(@Param("customerId") Long customerId);
+
+    @Modifying
+    @Query("delete from RestockSubscription s where s.productId = :productId and s.customerId = :customerId")
+    int deleteByProductIdAndCustomerId(@Param("productId") Long productId, @Param("customerId") Long customerId);
+
+    @Modifying
+    @Query("delete from RestockSubscription s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from RestockSubscription s where s.productId in :productIds")
+    int deleteAllByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from RestockSubscription s where s.customerId = :customerId")
+    int deleteAllByCustomerId(@Param("customerId") Long customerId);
+}
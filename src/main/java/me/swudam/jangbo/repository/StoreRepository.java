@@ -1,8 +1,12 @@
 package me.swudam.jangbo.repository;
 
+import me.swudam.jangbo.entity.Category;
 import me.swudam.jangbo.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,42 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     Optional<Store> findByMerchantId(Long merchantId);   // 추가
     boolean existsByMerchantId(Long merchantId);         // 추가
+
+    // 상점 카드 목록용 스칼라 조회 (엔티티/상인 프록시/휴무 컬렉션 로딩 없음)
+    interface StoreCardRow {
+        Long getStoreId();
+        Long getMerchantId();
+        String getStoreName();
+        String getStoreImgPath();
+        String getStoreAddress();
+        LocalTime getOpenTime();
+        LocalTime getCloseTime();
+        String getStorePhoneNumber();
+        Category getCategory();
+        String getTagline();
+    }
+
+    interface StoreDayOffRow {
+        Long getStoreId();
+        String getDayOff();
+    }
+
+    // 전체 상점 최신순 (merchant.id는 FK 컬럼 값 -> 조인 없음)
+    @Query("""
+        select s.id as storeId, s.merchant.id as merchantId, s.storeName as storeName,
+               s.storeImgPath as storeImgPath, s.storeAddress as storeAddress,
+               s.openTime as openTime, s.closeTime as closeTime, s.storePhoneNumber as storePhoneNumber,
+               s.category as category, s.tagline as tagline
+        from Store s
+        order by s.createdAt desc, s.id desc
+    """)
+    List<StoreCardRow> findCardRows();
+
+    // 휴무 요일까지 함께 조회 (영업 시간 색인 갱신, 트랜잭션 밖 호출)
+    @Query("select s from Store s left join fetch s.dayOff where s.id = :storeId")
+    Optional<Store> findWithDayOffById(@Param("storeId") Long storeId);
+
+    // 전체 상점 휴무 요일 (상점별 컬렉션 로딩 대신 한 번에)
+    @Query(value = "select store_id as storeId, day_off as dayOff from store_day_off", nativeQuery = true)
+    List<StoreDayOffRow> findAllDayOffs();
 }
@@ -3,7 +3,6 @@ package me.swudam.jangbo.service;
 import lombok.RequiredArgsConstructor;
 import me.swudam.jangbo.dto.ai.*;
 import me.swudam.jangbo.entity.Product;
-import me.swudam.jangbo.repository.ProductRepository;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +15,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class AiRecommendationService {
 
-    private final ProductRepository productRepository;
+    private final ProductService productService; // 이름 검색 (동의어 확장 + 검색 색인)
     private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
 
     // 공개 API: 2차 추천 메인 엔트리
@@ -43,17 +42,13 @@ public class AiRecommendationService {
     // 1. 가장 저렴한 식재료
     private AiRecommendationResponseDto recommendCheapest(List<String> ingredients) {
         List<IngredientPickDto> picks = new ArrayList<>();
+        // 모든 식재료의 판매 가능 상품(품절 제외 + 재고 1 이상)을 가격 오름차순으로 한 번에 조회 (동의어 포함)
+        Map<String, List<Product>> candidatesByIngredient = productService.searchSellableProducts(ingredients, "cheap");
 
         for (String ing : ingredients) {
-            String q = expandKeyword(ing);
+            List<Product> candidates = candidatesByIngredient.getOrDefault(ing, List.of());
 
-            // 가격 오름차순으로 전부 조회
-            List<Product> candidates = productRepository
-                    .findByNameContainingIgnoreCaseOrderByPriceAsc(q);
-
-            // 품절 제외 + 재고 1 이상만
             Optional<Product> cheapest = candidates.stream()
-                    .filter(this::isSellable)
                     .findFirst(); // 정렬되어 있는 데이터므로 첫 번째가 최저가
 
             cheapest.map(this::toSummary)
@@ -73,16 +68,13 @@ public class AiRecommendationService {
     // 2. 유통기한이 가장 많이 남은 식재료
     private AiRecommendationResponseDto recommendLongestExpiry(List<String> ingredients) {
         List<IngredientPickDto> picks = new ArrayList<>();
+        // 유통기한 내림차순 (판매 가능 상품만, 동의어 포함, 한 번에 조회)
+        Map<String, List<Product>> candidatesByIngredient = productService.searchSellableProducts(ingredients, "fresh");
 
         for (String ing : ingredients) {
-            String q = expandKeyword(ing);
-
-            // 유통기한 내림차순
-            List<Product> candidates = productRepository
-                    .findByNameContainingIgnoreCaseOrderByExpiryDateDesc(q);
+            List<Product> candidates = candidatesByIngredient.getOrDefault(ing, List.of());
 
             Optional<Product> freshest = candidates.stream()
-                    .filter(this::isSellable)
                     .findFirst();
 
             freshest.map(this::toSummary)
@@ -107,16 +99,11 @@ public class AiRecommendationService {
     private AiRecommendationResponseDto recommendMaxCoverageOneStore(List<String> ingredients) {
         // storeId -> (ingredient -> 이 상점에서 그 식재료로 고를 최저가 상품)
         Map<Long, Map<String, Product>> byStore = new HashMap<>();
+        // 식재료별 후보 (판매 가능 상품, 가격 오름차순, 동의어 포함, 한 번에 조회)
+        Map<String, List<Product>> candidatesByIngredient = productService.searchSellableProducts(ingredients, "cheap");
 
         for (String ing : ingredients) {
-            String q = expandKeyword(ing);
-
-            // 해당 식재료 후보 (가격 오름차순)
-            List<Product> candidates = productRepository
-                    .findByNameContainingIgnoreCaseOrderByPriceAsc(q)
-                    .stream()
-                    .filter(this::isSellable)
-                    .toList();
+            List<Product> candidates = candidatesByIngredient.getOrDefault(ing, List.of());
 
             // 상점별로 "그 식재료의 최저가" 하나씩만 보관
             Map<Long, Product> cheapestPerStore = new HashMap<>();
@@ -188,12 +175,6 @@ public class AiRecommendationService {
     }
 
     /* 내부 유틸 메서드 */
-    // 판매 가능 여부 (품절 아님 + 재고 1 이상)
-    private boolean isSellable(Product product) {
-        // soldOut true면 재고 0 규칙이므로 둘 다 체크
-        return Boolean.FALSE.equals(product.getSoldOut()) && product.getStock() != null && product.getStock() > 0;
-    }
-
     // 상품 엔티티 -> 응답용 최소 정보
     private ProductSummaryDto toSummary(Product product) {
         return ProductSummaryDto.builder()
@@ -208,12 +189,4 @@ public class AiRecommendationService {
                 .imageUrl(product.getImageUrl())
                 .build();
     }
-
-    // 키워드 보정(동의어/표기 차이 대응)
-    // - 필요시 확장 (ex: "계란" -> "달걀 동시 탐색 등)
-    // - 현재는 있는 그대로 반환
-    private String expandKeyword(String raw) {
-        if (raw == null) return "";
-        return raw.trim();
-    }
 }
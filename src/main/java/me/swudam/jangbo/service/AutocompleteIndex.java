@@ -0,0 +1,295 @@
+package me.swudam.jangbo.service;
+
+import me.swudam.jangbo.dto.SuggestionDto;
+import me.swudam.jangbo.entity.Category;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.util.HangulJamo;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 검색어 자동완성 색인 (입력마다 호출, DB 조회 없음)
+// - 자모 단위 접두사 트라이: 입력 중인 음절("둡" = ㄷㅜㅂ)도 "두부"의 접두사로 일치
+// - 키: 이름 전체와 단어 시작 위치부터의 나머지("국산 두부" -> "두부") 각각의 자모 분해 + 공백 없는 초성("ㄱㅅㄷㅂ", "ㄷㅂ")
+// - 노드마다 하위 항목 중 가중치 상위 TOP_K를 미리 계산 -> 조회는 트라이를 따라 내려가 목록만 반환
+// - 항목/가중치
+//   PRODUCT : 같은 이름의 판매 가능 상품을 하나로 묶음, 가중치 = 상품 수 + 완료 주문 수 합
+//   STORE   : 상점별, 가중치 = 1 + 판매 가능 상품 가중치 합
+//   CATEGORY: 카테고리별, 가중치 = 1 + 상점 수
+// - 변경 시 해당 키 경로의 노드만 아래에서 위로 다시 계산, 쓰기는 synchronized / 읽기는 잠금 없음
+@Component
+public class AutocompleteIndex {
+
+    private static final int TOP_K = 10;
+
+    public enum Kind { PRODUCT, STORE, CATEGORY }
+
+    private static final class Entry {
+        final Kind kind;
+        final Long storeId;
+        final Category category;
+        final String label;
+        final Set<String> keys;
+        long weight;
+
+        Entry(Kind kind, Long storeId, Category category, String label) {
+            this.kind = kind;
+            this.storeId = storeId;
+            this.category = category;
+            this.label = label;
+            this.keys = keysOf(label);
+        }
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new ConcurrentHashMap<>();
+        final Set<Entry> terminals = new HashSet<>(); // 이 노드에서 끝나는 키의 항목 (쓰기 전용)
+        volatile List<Entry> top = List.of();
+    }
+
+    private record ProductRef(String name, Long storeId, long weight) {
+    }
+
+    private record StoreRef(String name, Category category) {
+    }
+
+    private final Node root = new Node();
+
+    private final Map<Long, ProductRef> products = new HashMap<>();      // 상품 id -> 반영된 값
+    private final Map<String, Entry> productEntries = new HashMap<>();  // 정규화 이름 -> 항목
+    private final Map<Long, StoreRef> stores = new HashMap<>();
+    private final Map<Long, Entry> storeEntries = new HashMap<>();
+    private final Map<Long, Long> storeProductWeights = new HashMap<>(); // 상점 id -> 상품 가중치 합
+    private final Map<Category, Entry> categoryEntries = new EnumMap<>(Category.class);
+    private final Map<Category, Integer> categoryStoreCounts = new EnumMap<>(Category.class);
+
+    // 재구성 중 반영/삭제된 상품과 상점 (ProductSearchIndex와 같은 규칙, synchronized 안에서만 접근)
+    private boolean building = false;
+    private final Set<Long> upsertedProducts = new HashSet<>();
+    private final Set<Long> removedProducts = new HashSet<>();
+    private final Set<Long> upsertedStores = new HashSet<>();
+    private final Set<Long> removedStores = new HashSet<>();
+
+    public AutocompleteIndex() {
+        for (Category c : Category.values()) {
+            Entry e = new Entry(Kind.CATEGORY, null, c, c.name().replace('_', ' '));
+            e.weight = 1;
+            categoryEntries.put(c, e);
+            insert(e);
+        }
+    }
+
+    /* 조회 */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String q = normalize(prefix);
+        String key = HangulJamo.isChoseongQuery(q) ? compactChoseong(q) : HangulJamo.decompose(q);
+        if (key.isEmpty()) return List.of();
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) return List.of();
+        return node.top.stream()
+                .limit(Math.min(limit, TOP_K))
+                .map(e -> SuggestionDto.builder()
+                        .type(e.kind.name())
+                        .label(e.label)
+                        .storeId(e.storeId)
+                        .category(e.category == null ? null : e.category.name())
+                        .build())
+                .toList();
+    }
+
+    /* 갱신 */
+    // 상품 추가/수정 (판매 불가 상품은 가중치 0 -> 같은 이름의 다른 상품이 없으면 제안에서 빠짐)
+    public synchronized void upsertProduct(Product p) {
+        if (building) {
+            if (removedProducts.contains(p.getId())) return;
+            upsertedProducts.add(p.getId());
+        }
+        boolean sellable = Boolean.FALSE.equals(p.getSoldOut()) && p.getStock() != null && p.getStock() > 0;
+        long weight = sellable ? 1 + (p.getCompletedOrderCount() == null ? 0 : p.getCompletedOrderCount()) : 0;
+        ProductRef next = new ProductRef(p.getName().trim(), p.getStore().getId(), weight);
+        ProductRef prev = products.put(p.getId(), next);
+        if (next.equals(prev)) return;
+        if (prev != null) applyProduct(prev, -1);
+        applyProduct(next, +1);
+    }
+
+    public synchronized void removeProduct(Long productId) {
+        if (building) removedProducts.add(productId);
+        ProductRef prev = products.remove(productId);
+        if (prev != null) applyProduct(prev, -1);
+    }
+
+    public synchronized void upsertStore(Store s) {
+        if (building) {
+            if (removedStores.contains(s.getId())) return;
+            upsertedStores.add(s.getId());
+        }
+        if (s.getStoreName() == null || s.getStoreName().isBlank()) return;
+        StoreRef next = new StoreRef(s.getStoreName().trim(), s.getCategory());
+        StoreRef prev = stores.put(s.getId(), next);
+        if (next.equals(prev)) return;
+        if (prev != null) unlinkStore(s.getId(), prev);
+
+        Entry e = new Entry(Kind.STORE, s.getId(), null, next.name());
+        e.weight = 1 + storeProductWeights.getOrDefault(s.getId(), 0L);
+        storeEntries.put(s.getId(), e);
+        insert(e);
+        if (next.category() != null) adjustCategory(next.category(), +1);
+    }
+
+    public synchronized void removeStore(Long storeId) {
+        if (building) removedStores.add(storeId);
+        StoreRef prev = stores.remove(storeId);
+        if (prev != null) unlinkStore(storeId, prev);
+    }
+
+    // 전체 재구성 시작/종료 (재구성 중 한 번도 반영되지 않은 상품/상점 = 그 사이 삭제됨 -> 종료 시 제거)
+    synchronized void beginRebuild() {
+        upsertedProducts.clear();
+        removedProducts.clear();
+        upsertedStores.clear();
+        removedStores.clear();
+        building = true;
+    }
+
+    synchronized void finishRebuild() {
+        building = false;
+        new ArrayList<>(products.keySet()).stream()
+                .filter(id -> !upsertedProducts.contains(id))
+                .forEach(this::removeProduct);
+        new ArrayList<>(stores.keySet()).stream()
+                .filter(id -> !upsertedStores.contains(id))
+                .forEach(this::removeStore);
+        upsertedProducts.clear();
+        removedProducts.clear();
+        upsertedStores.clear();
+        removedStores.clear();
+    }
+
+    /* 내부 유틸 메서드 */
+    private void applyProduct(ProductRef ref, int sign) {
+        if (ref.weight() == 0) return;
+        long delta = sign * ref.weight();
+
+        String key = normalize(ref.name());
+        Entry e = productEntries.get(key);
+        if (e == null) {
+            e = new Entry(Kind.PRODUCT, null, null, ref.name());
+            productEntries.put(key, e);
+            e.weight = delta;
+            insert(e);
+        } else {
+            e.weight += delta;
+            if (e.weight <= 0) {
+                productEntries.remove(key);
+                delete(e);
+            } else {
+                refresh(e);
+            }
+        }
+
+        long storeWeight = storeProductWeights.merge(ref.storeId(), delta, Long::sum);
+        if (storeWeight <= 0) storeProductWeights.remove(ref.storeId());
+        Entry store = storeEntries.get(ref.storeId());
+        if (store != null) {
+            store.weight = 1 + Math.max(0, storeWeight);
+            refresh(store);
+        }
+    }
+
+    private void unlinkStore(Long storeId, StoreRef prev) {
+        Entry e = storeEntries.remove(storeId);
+        if (e != null) delete(e);
+        if (prev.category() != null) adjustCategory(prev.category(), -1);
+    }
+
+    private void adjustCategory(Category c, int delta) {
+        int count = Math.max(0, categoryStoreCounts.getOrDefault(c, 0) + delta);
+        categoryStoreCounts.put(c, count);
+        Entry e = categoryEntries.get(c);
+        e.weight = 1 + count;
+        refresh(e);
+    }
+
+    private void insert(Entry e) {
+        for (String key : e.keys) {
+            List<Node> path = path(key, true);
+            path.get(path.size() - 1).terminals.add(e);
+            recompute(path);
+        }
+    }
+
+    private void delete(Entry e) {
+        for (String key : e.keys) {
+            List<Node> path = path(key, false);
+            if (path == null) continue;
+            path.get(path.size() - 1).terminals.remove(e);
+            recompute(path);
+        }
+    }
+
+    // 가중치 변경 -> 경로 순위만 다시 계산
+    private void refresh(Entry e) {
+        for (String key : e.keys) {
+            List<Node> path = path(key, false);
+            if (path != null) recompute(path);
+        }
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = create
+                    ? node.children.computeIfAbsent(key.charAt(i), c -> new Node())
+                    : node.children.get(key.charAt(i));
+            if (child == null) return null;
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    // 경로의 노드를 아래에서 위로: 이 노드에서 끝나는 항목 + 자식들의 상위 목록 -> 상위 TOP_K
+    private void recompute(List<Node> path) {
+        Comparator<Entry> order = Comparator.comparingLong((Entry e) -> e.weight).reversed()
+                .thenComparingInt(e -> e.label.length())
+                .thenComparing(e -> e.label);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(node.terminals);
+            node.children.values().forEach(child -> candidates.addAll(child.top));
+            node.top = candidates.stream().sorted(order).limit(TOP_K).toList();
+        }
+    }
+
+    private static Set<String> keysOf(String label) {
+        String name = normalize(label);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            boolean wordStart = i == 0 || Character.isWhitespace(name.charAt(i - 1));
+            if (!wordStart || Character.isWhitespace(name.charAt(i))) continue;
+            String rest = name.substring(i);
+            keys.add(HangulJamo.decompose(rest));
+            keys.add(compactChoseong(rest));
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    // 초성 키/검색어는 공백 없이 비교 ("ㄱㅅ ㄷㅂ" = "ㄱㅅㄷㅂ")
+    private static String compactChoseong(String s) {
+        return HangulJamo.choseong(s).replaceAll("\\s+", "");
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,98 @@
+package me.swudam.jangbo.service;
+
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.entity.CartChange;
+import me.swudam.jangbo.entity.CartChangeType;
+import me.swudam.jangbo.repository.CartChangeRepository;
+import me.swudam.jangbo.repository.CartItemRepository;
+import me.swudam.jangbo.repository.CartRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 장바구니 변경 로그 서비스
+// - 한 요청에서 생긴 변경들을 하나의 revision으로 묶어 기록
+// - revision은 carts 행의 원자적 UPDATE로 증가 -> 같은 카트의 동시 요청은 커밋 순서대로 revision이 매겨짐
+// - 로그는 카트별 최근 RETAIN_REVISIONS 구간만 보관 (그보다 오래된 기준으로 요청하면 전체 동기화)
+@Service
+@RequiredArgsConstructor
+public class CartChangeLogService {
+
+    // 카트별 보관할 revision 구간
+    public static final long RETAIN_REVISIONS = 100;
+    // 정리 주기 (매 revision마다 DELETE를 날리지 않도록)
+    private static final long PRUNE_EVERY = 20;
+
+    private static final Set<CartChangeType> TOUCH_TYPES = EnumSet.of(CartChangeType.ADDED, CartChangeType.UPDATED);
+
+    private final CartRepository cartRepository;
+    private final CartChangeRepository cartChangeRepository;
+
+    // 변경 기록 + revision 증가, 새 revision 반환
+    // - 호출 측 트랜잭션에 참여 (데이터 변경과 로그가 함께 커밋/롤백)
+    // - 카트 행 잠금은 이 시점부터 커밋까지만 유지되므로 서비스 메서드의 마지막에 호출
+    //   (담기/병합/동기화는 이미 findForUpdateByCustomerId로 잡은 잠금을 그대로 사용)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(Long cartId, List<CartChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return currentRevision(cartId);
+        }
+        cartRepository.incrementRevision(cartId, LocalDateTime.now());
+        long revision = currentRevision(cartId);
+
+        changes.forEach(c -> c.atRevision(revision));
+        cartChangeRepository.saveAll(changes);
+
+        if (revision % PRUNE_EVERY == 0 && revision > RETAIN_REVISIONS) {
+            cartChangeRepository.deleteUpToRevision(cartId, revision - RETAIN_REVISIONS);
+        }
+        return revision;
+    }
+
+    // 현재 revision (DB 값 기준)
+    @Transactional(readOnly = true)
+    public long currentRevision(Long cartId) {
+        Long revision = cartRepository.findRevisionById(cartId);
+        return revision == null ? 0L : revision;
+    }
+
+    // since 이후 ~ until 까지의 변경 (기록 순서대로)
+    @Transactional(readOnly = true)
+    public List<CartChange> changesBetween(Long cartId, long since, long until) {
+        return cartChangeRepository.findByCartIdAndRevisionGreaterThanOrderByRevisionAscIdAsc(cartId, since)
+                .stream()
+                .filter(c -> c.getRevision() <= until)
+                .toList();
+    }
+
+    // since 기준 로그가 아직 보관 중인지 (since 다음 revision부터 빠짐없이 남아 있어야 증분 가능)
+    @Transactional(readOnly = true)
+    public boolean isRetained(Long cartId, long since, long current) {
+        if (since <= 0 || since > current) return false;
+        if (since == current) return true;
+        Long min = cartChangeRepository.findMinRevision(cartId);
+        return min != null && min <= since + 1;
+    }
+
+    // since 이후 다른 기기에서 담기/수량 변경이 있었던 상품 id (동기화 병합 시 add-wins 판단)
+    // - deviceId가 보낸 변경은 제외 (자기 자신의 이전 변경과는 충돌하지 않음), null이면 전부
+    @Transactional(readOnly = true)
+    public Set<Long> productsTouchedSince(Long cartId, long since, String deviceId) {
+        return Set.copyOf(cartChangeRepository.findProductIdsChangedSince(cartId, since, TOUCH_TYPES, deviceId));
+    }
+
+    // 삭제된 줄들의 REMOVED 변경 생성
+    public static List<CartChange> removed(Long cartId, Collection<CartItemRepository.CartLine> lines) {
+        return lines.stream()
+                .map(l -> CartChange.of(cartId, CartChangeType.REMOVED, l.getItemId(), l.getProductId(), null))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -5,9 +5,12 @@ import me.swudam.jangbo.dto.order.OrderRequestDto;
 import me.swudam.jangbo.dto.cart.*;
 import me.swudam.jangbo.entity.*;
 import me.swudam.jangbo.repository.*;
+import me.swudam.jangbo.support.ETags;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -15,13 +18,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CartService {
 
+    // CartItemRepository.upsertQuantity와 같은 규칙 (JDBC 배치용)
+    private static final String GUEST_MERGE_UPSERT_SQL =
+            "insert into cart_items (cart_id, product_id, store_id, quantity, " +
+            "price_at_add, product_version_at_add, price_changed, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, false, ?, ?) " +
+            "on duplicate key update quantity = quantity + values(quantity), " +
+            "price_at_add = values(price_at_add), product_version_at_add = values(product_version_at_add), " +
+            "price_changed = false, updated_at = values(updated_at)";
+
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartChangeLogService cartChangeLogService;
 
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
 
+    private final JdbcTemplate jdbcTemplate; // 게스트 장바구니 병합(upsert 배치)
+
     /* 생성/조회 */
     // 고객의 장바구니(아이템 포함)를 조회, 없으면 빈 장바구니를 생성
     // items/product/store를 @EntityGraph로 함께 로딩
@@ -56,9 +71,24 @@ public class CartService {
                 .subtotal(subtotal)
                 .pickupFee(pickupFee)
                 .total(total)
+                .priceChangedCount(countPriceChanged(items))
                 .build();
     }
 
+    // 장바구니 조회용 ETag (버전 값만 조회, DTO 생성 X)
+    // - 카트 변경 버전 + 담긴 상품들의 버전 집계를 조합
+    // - 아직 장바구니가 없으면 null
+    @Transactional(readOnly = true)
+    public String getCartETag(Long customerId) {
+        return cartRepository.findRevisionByCustomerId(customerId)
+                .map(rev -> {
+                    ProductRepository.VersionAggregate agg = cartItemRepository.aggregateProductVersions(rev.getCartId());
+                    return ETags.of("cart", rev.getCartId(), rev.getRevision(),
+                            agg.getTotal(), agg.getVersionSum(), agg.getLastPriceUpdatedAt(), agg.getLastUpdatedAt());
+                })
+                .orElse(null);
+    }
+
     // 선택 항목 기준 합계/수수료/총액 요약
     @Transactional
     public CartSummaryResponseDto getSelectionSummary(Long customerId, Collection<Long> selectedItemIds) {
@@ -101,10 +131,15 @@ public class CartService {
                 .subtotal(subtotal)
                 .pickupFee(pickupFee)
                 .total(total)
+                .priceChangedCount(countPriceChanged(selected))
                 .build();
     }
 
     /* 변경 (담기/수정/삭제) */
+    // 카트 행 잠금(SELECT ... FOR UPDATE) 없이 원자적 단일 문장으로 변경 -> 변경 로그 기록(revision +1)
+    // (줄을 새로 넣을 수 있는 담기/병합/동기화만 정리 배치와의 경합 때문에 카트 행을 먼저 잠금)
+    // - 같은 카트를 두 기기에서 동시에 수정해도 담기/증감은 합산, 지정 수량은 커밋 순서상 마지막 값이 반영
+
     // 상품 담기 (이미 담긴 상품이면 수량만 증가)
     @Transactional
     public AddToCartResponseDto addToCart(Long customerId, AddToCartRequestDto req) {
@@ -113,42 +148,21 @@ public class CartService {
         }
         int addQty = Math.max(1, req.getQuantity());
 
-        // Cart 잠금 (동시성 제어)
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)
+        Cart cart = cartRepository.findForUpdateByCustomerId(customerId) // 정리 배치의 빈 카트 삭제와 경합 방지
                 .orElseGet(() -> createEmptyCart(customerId));
 
         // 상품/상점 조회
         Product product = productRepository.findById(req.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        Store store = product.getStore(); // 요청 DTO에 storeID가 없으므로 상품에서 추출
-
-        // 이미 담긴 상품인지 검사
-        Optional<CartItem> existingOpt = cartItemRepository.findByCart_IdAndProduct_Id(cart.getId(), product.getId());
-        CartItem target;
-        int finalQty;
-
-        if (existingOpt.isPresent()) {
-            // 수량 증가
-            target = existingOpt.get();
-            finalQty = target.getQuantity() + addQty;
-            target.changeQuantity(finalQty);
-        } else {
-            // 새 줄 추가
-            target = CartItem.builder()
-                    .cart(cart)
-                    .product(product)
-                    .store(store)
-                    .quantity(addQty)
-                    .build();
-            cart.getItems().add(target);
-            cartItemRepository.save(target);
-            finalQty = addQty;
-        }
+
+        UpsertedLine upserted = upsertLine(cart.getId(), product, addQty);
+        CartItemRepository.CartLine line = upserted.line();
+        cartChangeLogService.record(cart.getId(), new ArrayList<>(List.of(toChange(cart.getId(), upserted))));
 
         return AddToCartResponseDto.builder()
                 .cartId(cart.getId())
-                .itemId(target.getId())
-                .quantity(finalQty)
+                .itemId(line.getItemId())
+                .quantity(line.getQuantity())
                 .message("장바구니에 담았습니다.")
                 .build();
     }
@@ -163,34 +177,154 @@ public class CartService {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
 
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 없습니다."));
-        CartItem item = cartItemRepository.findById(req.getItemId())
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
-
-        verifyOwnerShip(cart, item);
 
-        item.changeQuantity(req.getQuantity());
+        // 본인 카트 항목만 갱신 (조건에 cartId 포함 -> 0건이면 없거나 남의 항목)
+        int updated = cartItemRepository.updateQuantity(cart.getId(), req.getItemId(), req.getQuantity(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다.");
+        }
+        CartItemRepository.CartLine line = getLineOrThrow(cart.getId(), req.getItemId());
+        recordUpdated(cart.getId(), line);
 
         return UpdateQuantityResponseDto.builder()
-                .itemId(item.getId())
-                .quantity(item.getQuantity())
-                .message("수량을 " + item.getQuantity() + "개로 변경했습니다.")
+                .itemId(line.getItemId())
+                .quantity(line.getQuantity())
+                .message("수량을 " + line.getQuantity() + "개로 변경했습니다.")
                 .build();
     }
 
     // 수량 증감 변경
     @Transactional
     public UpdateQuantityResponseDto changeQuantityByDelta(Long customerId, Long itemId, int delta) {
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)  // 원하면 락
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 없습니다."));
-        CartItem item = cartItemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("항목을 찾을 수 없습니다."));
 
-        int next = item.getQuantity() + delta;
-        if (next < 1) throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
-        item.changeQuantity(next);
-        return UpdateQuantityResponseDto.builder().itemId(itemId).quantity(next).message("OK").build();
+        // 현재 수량을 읽지 않고 DB에서 더함 (결과가 1 미만이면 0건)
+        int updated = cartItemRepository.addQuantity(cart.getId(), itemId, delta, LocalDateTime.now());
+        if (updated == 0) {
+            getLineOrThrow(cart.getId(), itemId); // 항목이 없으면 404
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+        CartItemRepository.CartLine line = getLineOrThrow(cart.getId(), itemId);
+        recordUpdated(cart.getId(), line);
+        return UpdateQuantityResponseDto.builder().itemId(itemId).quantity(line.getQuantity()).message("OK").build();
+    }
+
+    // 게스트 장바구니 병합 (로그인 시 1회)
+    // - 상품별 수량을 합산하는 upsert를 JDBC 배치 한 번으로 실행 (줄마다 조회/저장 왕복 없음)
+    // - 삭제된 상품은 건너뜀, 병합된 상품 수 반환
+    @Transactional
+    public int mergeGuestCart(Long customerId, Map<Long, Integer> quantitiesByProduct) {
+        if (quantitiesByProduct == null || quantitiesByProduct.isEmpty()) return 0;
+
+        Cart cart = cartRepository.findForUpdateByCustomerId(customerId) // 정리 배치의 빈 카트 삭제와 경합 방지
+                .orElseGet(() -> createEmptyCart(customerId));
+        Long cartId = cart.getId();
+
+        // 상품 -> 상점 id (한 번에 조회)
+        List<Product> products = productRepository.findAllById(quantitiesByProduct.keySet());
+        if (products.isEmpty()) return 0;
+
+        // 병합 전에 이미 있던 상품 (새 줄/수량 변경 구분, 배치 결과 행 수는 드라이버 설정에 따라 제공되지 않을 수 있음)
+        Set<Long> existing = cartItemRepository.findLinesByProducts(cartId, quantitiesByProduct.keySet()).stream()
+                .map(CartItemRepository.CartLine::getProductId)
+                .collect(Collectors.toSet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = products.stream()
+                .map(p -> new Object[]{cartId, p.getId(), p.getStore().getId(),
+                        Math.max(1, quantitiesByProduct.get(p.getId())), p.getPrice(), p.getVersion(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(GUEST_MERGE_UPSERT_SQL, args);
+
+        // 변경 로그 (병합 결과 수량 기준, 한 revision)
+        List<CartChange> changes = new ArrayList<>();
+        for (CartItemRepository.CartLine line : cartItemRepository.findLinesByProducts(cartId, quantitiesByProduct.keySet())) {
+            changes.add(toChange(cartId, new UpsertedLine(line, !existing.contains(line.getProductId()))));
+        }
+        cartChangeLogService.record(cartId, changes);
+        return products.size();
+    }
+
+    /* 기기 간 증분 동기화 */
+    // since 이후 바뀐 줄만 조회
+    // - 보관 구간을 벗어났거나 since가 0/미래값이면 전체 동기화(fullSync)
+    @Transactional(readOnly = true)
+    public CartDeltaResponseDto getChangesSince(Long customerId, long since) {
+        Optional<Cart> cartOpt = cartRepository.findByCustomer_Id(customerId);
+        if (cartOpt.isEmpty()) {
+            return CartDeltaResponseDto.builder()
+                    .fromRevision(since)
+                    .toRevision(0L)
+                    .fullSync(true)
+                    .added(List.of())
+                    .updated(List.of())
+                    .removedItemIds(List.of())
+                    .skippedProductIds(List.of())
+                    .build();
+        }
+        Long cartId = cartOpt.get().getId();
+        return buildDelta(cartId, since, cartChangeLogService.currentRevision(cartId), List.of());
+    }
+
+    // 다른 기기/오프라인에서 쌓인 변경 일괄 반영 후 baseRevision 이후 증분 반환
+    // 병합 규칙 (적용 순서와 무관하게 같은 결과)
+    // - 증감(delta)은 합산: 양수는 upsert, 음수는 하한 1
+    // - 삭제는 add-wins: baseRevision 이후 다른 기기에서 같은 상품을 담거나 수량을 바꿨으면 삭제하지 않음
+    //   (baseRevision이 보관 구간 밖이면 판단 불가 -> 삭제 보류)
+    //   같은 deviceId로 기록된 변경은 "다른 기기"에서 빼므로, 자기 변경을 다시 보내도 스스로와 충돌하지 않음
+    @Transactional
+    public CartDeltaResponseDto sync(Long customerId, CartSyncRequestDto req) {
+        if (req == null || req.getBaseRevision() == null || req.getOps() == null) {
+            throw new IllegalArgumentException("동기화 요청이 올바르지 않습니다.");
+        }
+        long base = req.getBaseRevision();
+
+        Cart cart = cartRepository.findForUpdateByCustomerId(customerId) // 정리 배치의 빈 카트 삭제와 경합 방지
+                .orElseGet(() -> createEmptyCart(customerId));
+        Long cartId = cart.getId();
+
+        long current = cartChangeLogService.currentRevision(cartId);
+        boolean retained = cartChangeLogService.isRetained(cartId, base, current);
+        String deviceId = (req.getDeviceId() == null || req.getDeviceId().isBlank()) ? null : req.getDeviceId().trim();
+        Set<Long> touched = retained ? cartChangeLogService.productsTouchedSince(cartId, base, deviceId) : Set.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CartChange> changes = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (CartSyncRequestDto.Op op : req.getOps()) {
+            Long productId = op.getProductId();
+            if (productId == null) continue;
+
+            if (op.isRemove()) {
+                if (!retained || touched.contains(productId)) continue; // add-wins
+                cartItemRepository.findLineByProduct(cartId, productId).ifPresent(line -> {
+                    cartItemRepository.deleteLines(cartId, List.of(line.getItemId()));
+                    changes.add(CartChange.of(cartId, CartChangeType.REMOVED, line.getItemId(), productId, null));
+                });
+            } else if (op.getDelta() > 0) {
+                // 오프라인 중 삭제된 상품은 배치 전체를 실패시키지 않고 건너뜀 (응답에 알림)
+                Optional<Product> product = productRepository.findById(productId);
+                if (product.isEmpty()) {
+                    skipped.add(productId);
+                    continue;
+                }
+                changes.add(toChange(cartId, upsertLine(cartId, product.get(), op.getDelta())));
+            } else if (op.getDelta() < 0) {
+                cartItemRepository.findLineByProduct(cartId, productId).ifPresent(line -> {
+                    cartItemRepository.addQuantityFloorOne(cartId, line.getItemId(), op.getDelta(), now);
+                    getLine(cartId, line.getItemId()).ifPresent(after ->
+                            changes.add(CartChange.of(cartId, CartChangeType.UPDATED,
+                                    after.getItemId(), after.getProductId(), after.getQuantity())));
+                });
+            }
+        }
+
+        changes.forEach(c -> c.fromDevice(deviceId));
+        long revision = cartChangeLogService.record(cartId, changes);
+        return buildDelta(cartId, base, revision, skipped);
     }
 
     // 선택 항목 주문하기
@@ -246,15 +380,13 @@ public class CartService {
     // 단일 항목 삭제
     @Transactional
     public DeleteItemsResponseDto removeOne(Long customerId, Long cartItemId) {
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 없습니다."));
-        CartItem item = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
-
-        verifyOwnerShip(cart, item);
+        // 본인 카트 항목인지 조건으로 확인 (없으면 404)
+        CartItemRepository.CartLine line = getLineOrThrow(cart.getId(), cartItemId);
 
-        cart.getItems().remove(item);
-        cartItemRepository.delete(item);
+        cartItemRepository.deleteLines(cart.getId(), List.of(line.getItemId()));
+        cartChangeLogService.record(cart.getId(), CartChangeLogService.removed(cart.getId(), List.of(line)));
 
         return DeleteItemsResponseDto.builder()
                 .deletedCount(1)
@@ -273,13 +405,11 @@ public class CartService {
                     .build();
         }
 
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 없습니다."));
 
-        // 본인 카트 항목만 삭제하도록 1차 필터링
-        List<CartItem> targets = cartItemRepository.findAllByCart_IdAndIdIn(cart.getId(), itemIds).stream()
-                .filter(ci -> Objects.equals(ci.getCart().getId(), cart.getId()))
-                .toList();
+        // 본인 카트 항목만 (조회 조건에 cartId 포함)
+        List<CartItemRepository.CartLine> targets = cartItemRepository.findLines(cart.getId(), itemIds);
 
         if (targets.isEmpty()) {
             return DeleteItemsResponseDto.builder()
@@ -288,12 +418,10 @@ public class CartService {
                     .build();
         }
 
-        // DB 삭제
-        cartItemRepository.deleteByCart_IdAndIdIn(cart.getId(),
-                targets.stream().map(CartItem::getId).toList());
-        // 메모리 컬렉션에서도 제거
-        Set<Long> toRemove = targets.stream().map(CartItem::getId).collect(Collectors.toSet());
-        cart.getItems().removeIf(i -> toRemove.contains(i.getId()));
+        // DB 삭제 (엔티티 로딩 없이 일괄)
+        cartItemRepository.deleteLines(cart.getId(),
+                targets.stream().map(CartItemRepository.CartLine::getItemId).toList());
+        cartChangeLogService.record(cart.getId(), CartChangeLogService.removed(cart.getId(), targets));
 
         return DeleteItemsResponseDto.builder()
                 .deletedCount(targets.size())
@@ -304,15 +432,18 @@ public class CartService {
     // 장바구니 비우기 (모든 항목 삭제)
     @Transactional
     public DeleteItemsResponseDto clearCart(Long customerId) {
-        Cart cart = cartRepository.findByCustomerIdForUpdate(customerId)
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 없습니다."));
-        int size = cart.getItems().size();
+        List<CartItemRepository.CartLine> lines = cartItemRepository.findAllLines(cart.getId());
 
-        cartItemRepository.deleteByCart_Id(cart.getId());
-        cart.getItems().clear();
+        if (!lines.isEmpty()) {
+            cartItemRepository.deleteLines(cart.getId(),
+                    lines.stream().map(CartItemRepository.CartLine::getItemId).toList());
+            cartChangeLogService.record(cart.getId(), CartChangeLogService.removed(cart.getId(), lines));
+        }
 
         return DeleteItemsResponseDto.builder()
-                .deletedCount(size)
+                .deletedCount(lines.size())
                 .message("장바구니를 비웠습니다.")
                 .build();
     }
@@ -328,11 +459,99 @@ public class CartService {
         return cartRepository.save(cart);
     }
 
-    // 본인 카드 소유 항목인지 검증
-    private void verifyOwnerShip(Cart cart, CartItem item) {
-        if (!Objects.equals(item.getCart().getId(), cart.getId())) {
-            throw new IllegalArgumentException("본인의 장바구니 항목이 아닙니다.");
+    // 담기(upsert) 결과: 최종 줄 + 새 줄 여부
+    private record UpsertedLine(CartItemRepository.CartLine line, boolean added) {
+    }
+
+    // 담기(upsert) 후 최종 줄 정보
+    // - 담을 때 가격/버전 함께 기록 (가격 변동 안내용)
+    // - 새 줄 여부는 upsert 영향 행 수로 판단 (MariaDB: INSERT 1, ON DUPLICATE KEY UPDATE로 수량 변경 2)
+    //   -> 최종 수량만으로는 동시 담기/삭제 후 다시 담기를 구분할 수 없음
+    private UpsertedLine upsertLine(Long cartId, Product product, int qty) {
+        int affected = cartItemRepository.upsertQuantity(cartId, product.getId(), product.getStore().getId(), qty,
+                product.getPrice(), product.getVersion(), LocalDateTime.now());
+        CartItemRepository.CartLine line = cartItemRepository.findLineByProduct(cartId, product.getId())
+                .orElseThrow(() -> new IllegalStateException("장바구니 담기에 실패했습니다."));
+        return new UpsertedLine(line, affected == 1);
+    }
+
+    // 본인 카트의 항목 조회 (cartId 조건 포함)
+    private Optional<CartItemRepository.CartLine> getLine(Long cartId, Long itemId) {
+        return cartItemRepository.findLine(cartId, itemId);
+    }
+
+    private CartItemRepository.CartLine getLineOrThrow(Long cartId, Long itemId) {
+        return getLine(cartId, itemId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
+    }
+
+    // 담기 결과 -> 변경 기록 (새 줄이면 ADDED, 기존 줄 수량 증가면 UPDATED)
+    private CartChange toChange(Long cartId, UpsertedLine upserted) {
+        CartItemRepository.CartLine line = upserted.line();
+        CartChangeType type = upserted.added() ? CartChangeType.ADDED : CartChangeType.UPDATED;
+        return CartChange.of(cartId, type, line.getItemId(), line.getProductId(), line.getQuantity());
+    }
+
+    private void recordUpdated(Long cartId, CartItemRepository.CartLine line) {
+        cartChangeLogService.record(cartId, new ArrayList<>(List.of(
+                CartChange.of(cartId, CartChangeType.UPDATED, line.getItemId(), line.getProductId(), line.getQuantity()))));
+    }
+
+    // since ~ until 증분 구성
+    // - 같은 줄의 변경은 합쳐서 한 번만 내려줌: 처음이 ADDED면 added, 마지막이 REMOVED면 removed (둘 다면 생략)
+    private CartDeltaResponseDto buildDelta(Long cartId, long since, long until, List<Long> skippedProductIds) {
+        if (!cartChangeLogService.isRetained(cartId, since, until)) {
+            List<CartItemResponseDto> all = cartItemRepository.findAllByCart_Id(cartId).stream()
+                    .map(this::toItemDto)
+                    .toList();
+            return CartDeltaResponseDto.builder()
+                    .fromRevision(since)
+                    .toRevision(until)
+                    .fullSync(true)
+                    .added(all)
+                    .updated(List.of())
+                    .removedItemIds(List.of())
+                    .skippedProductIds(skippedProductIds)
+                    .build();
         }
+
+        Map<Long, CartChangeType> firstType = new LinkedHashMap<>();
+        Map<Long, CartChangeType> lastType = new LinkedHashMap<>();
+        for (CartChange c : cartChangeLogService.changesBetween(cartId, since, until)) {
+            firstType.putIfAbsent(c.getItemId(), c.getType());
+            lastType.put(c.getItemId(), c.getType());
+        }
+
+        Set<Long> addedIds = new LinkedHashSet<>();
+        Set<Long> updatedIds = new LinkedHashSet<>();
+        List<Long> removedIds = new ArrayList<>();
+        lastType.forEach((itemId, last) -> {
+            boolean wasAdded = firstType.get(itemId) == CartChangeType.ADDED;
+            if (last == CartChangeType.REMOVED) {
+                if (!wasAdded) removedIds.add(itemId); // 기간 안에 담았다 지운 줄은 클라이언트가 모름
+            } else if (wasAdded) {
+                addedIds.add(itemId);
+            } else {
+                updatedIds.add(itemId);
+            }
+        });
+
+        // 현재 상태로 응답 구성 (한 번에 로딩)
+        Set<Long> ids = new LinkedHashSet<>(addedIds);
+        ids.addAll(updatedIds);
+        Map<Long, CartItem> current = ids.isEmpty() ? Map.of()
+                : cartItemRepository.findAllByCart_IdAndIdIn(cartId, ids).stream()
+                        .collect(Collectors.toMap(CartItem::getId, ci -> ci));
+
+        return CartDeltaResponseDto.builder()
+                .fromRevision(since)
+                .toRevision(until)
+                .fullSync(false)
+                .added(addedIds.stream().map(current::get).filter(Objects::nonNull).map(this::toItemDto).toList())
+                .updated(updatedIds.stream().map(current::get).filter(Objects::nonNull).map(this::toItemDto).toList())
+                .removedItemIds(removedIds)
+                .skippedProductIds(skippedProductIds)
+                .build();
     }
 
     // 소계 (실시간 가격 * 수량)
@@ -352,12 +571,17 @@ public class CartService {
     }
 
     // 픽업 수수료 규칙
-    private int calcPickupFee(long distinctStroeCount) {
+    static int calcPickupFee(long distinctStroeCount) {
         if (distinctStroeCount <= 0) return 0;
         int fee = 800 + (int) Math.max(0, distinctStroeCount - 1) * 500;
         return Math.min(fee, 2300);
     }
 
+    // 담은 뒤 가격이 바뀐 줄 수 (저장된 표시값만 확인)
+    private int countPriceChanged(List<CartItem> items) {
+        return (int) items.stream().filter(i -> Boolean.TRUE.equals(i.getPriceChanged())).count();
+    }
+
     private CartItemResponseDto toItemDto(CartItem item) {
         int unitPrice = item.getProduct().getPrice(); // 실시간 가격
         int lineTotal = unitPrice * item.getQuantity();
@@ -372,6 +596,8 @@ public class CartService {
                 .quantity(item.getQuantity())
                 .lineTotal(lineTotal)
                 .imageUrl(item.getProduct().getImageUrl())
+                .priceChanged(Boolean.TRUE.equals(item.getPriceChanged()))
+                .previousUnitPrice(item.previousUnitPrice())
                 .build();
     }
 }
@@ -0,0 +1,188 @@
+package me.swudam.jangbo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.CartChange;
+import me.swudam.jangbo.entity.CartChangeType;
+import me.swudam.jangbo.repository.CartChangeRepository;
+import me.swudam.jangbo.repository.CartItemRepository;
+import me.swudam.jangbo.repository.CartRepository;
+import me.swudam.jangbo.support.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 장바구니 정리 배치
+// 1. 정리 대상 줄 삭제: 품절 / 유통기한이 오래 지난 상품 / 사라진 상품 (변경 로그에 REMOVED 기록 -> 다른 기기에도 반영)
+// 2. 오래 방치된 빈 장바구니 삭제 (getOrCreateCart 조회만으로 생긴 카트 포함, 진행 중인 담기와는 카트 행 잠금으로 직렬화)
+// 3. 장바구니가 사라진 변경 로그 삭제
+// - 모든 단계는 PK 키셋 순서의 청크 단위(청크마다 짧은 트랜잭션) + 청크 사이 휴식으로 DB 부하 제한
+// - 여러 노드에서 동시에 돌지 않도록 RedisJobLock 사용
+// - 삭제 건수는 jangbo.cart.sweeper.removed{kind=...} 카운터로 노출
+@Slf4j
+@Service
+public class CartSweepService {
+
+    private static final String JOB_NAME = "cart-sweeper";
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartChangeRepository cartChangeRepository;
+    private final CartChangeLogService cartChangeLogService;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+
+    private final Counter removedLines;
+    private final Counter removedCarts;
+    private final Counter removedLogs;
+    private final Timer runTimer;
+
+    @Value("${jangbo.cart.sweeper.enabled:true}")
+    private boolean enabled;
+    @Value("${jangbo.cart.sweeper.chunk-size:500}")
+    private int chunkSize;
+    @Value("${jangbo.cart.sweeper.pause-millis:200}")
+    private long pauseMillis;
+    @Value("${jangbo.cart.sweeper.max-chunks:200}")
+    private int maxChunks; // 한 번 실행에서 단계별 최대 청크 수 (나머지는 다음 실행에)
+    @Value("${jangbo.cart.sweeper.expired-grace-days:7}")
+    private int expiredGraceDays; // 유통기한이 이 일수 이상 지난 상품만 정리
+    @Value("${jangbo.cart.sweeper.idle-days:30}")
+    private int idleDays;
+
+    public CartSweepService(CartRepository cartRepository,
+                            CartItemRepository cartItemRepository,
+                            CartChangeRepository cartChangeRepository,
+                            CartChangeLogService cartChangeLogService,
+                            RedisJobLock jobLock,
+                            TransactionTemplate tx,
+                            MeterRegistry meterRegistry) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.cartChangeRepository = cartChangeRepository;
+        this.cartChangeLogService = cartChangeLogService;
+        this.jobLock = jobLock;
+        this.tx = tx;
+        this.removedLines = removedCounter(meterRegistry, "stale_line");
+        this.removedCarts = removedCounter(meterRegistry, "idle_cart");
+        this.removedLogs = removedCounter(meterRegistry, "orphan_log");
+        this.runTimer = Timer.builder("jangbo.cart.sweeper.run").register(meterRegistry);
+    }
+
+    // 매일 새벽 (기본 04:30)
+    @Scheduled(cron = "${jangbo.cart.sweeper.cron:0 30 4 * * *}")
+    public void sweep() {
+        if (!enabled) return;
+        Optional<String> token = jobLock.tryLock(JOB_NAME, Duration.ofHours(1));
+        if (token.isEmpty()) {
+            log.debug("cart sweeper is running on another node, skipped");
+            return;
+        }
+        try {
+            runTimer.record(() -> {
+                long lines = sweepStaleLines(LocalDate.now().minusDays(expiredGraceDays));
+                long carts = sweepIdleCarts(LocalDateTime.now().minusDays(idleDays));
+                long logs = sweepOrphanLogs();
+                log.info("cart sweeper removed lines={}, carts={}, logs={}", lines, carts, logs);
+            });
+        } finally {
+            jobLock.unlock(JOB_NAME, token.get());
+        }
+    }
+
+    // 1. 정리 대상 줄 삭제 (카트별로 REMOVED 변경 기록)
+    long sweepStaleLines(LocalDate expiredBefore) {
+        long total = 0;
+        long afterId = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<CartItemRepository.StaleLine> lines = cartItemRepository.findStaleLines(afterId, expiredBefore, chunkSize);
+            if (lines.isEmpty()) break;
+            afterId = lines.get(lines.size() - 1).getItemId();
+
+            Integer deleted = tx.execute(status -> {
+                // 조회 이후 사용자가 먼저 지운 줄은 빼고, 잠근 줄만 삭제 + 기록
+                Set<Long> existing = new HashSet<>(cartItemRepository.lockExistingIds(
+                        lines.stream().map(CartItemRepository.StaleLine::getItemId).toList()));
+                if (existing.isEmpty()) return 0;
+                int n = cartItemRepository.deleteByIds(existing);
+                Map<Long, List<CartItemRepository.StaleLine>> byCart = lines.stream()
+                        .filter(l -> existing.contains(l.getItemId()))
+                        .collect(Collectors.groupingBy(CartItemRepository.StaleLine::getCartId));
+                byCart.forEach((cartId, cartLines) -> cartChangeLogService.record(cartId, cartLines.stream()
+                        .map(l -> CartChange.of(cartId, CartChangeType.REMOVED, l.getItemId(), l.getProductId(), null))
+                        .collect(Collectors.toCollection(ArrayList::new))));
+                return n;
+            });
+            total += deleted == null ? 0 : deleted;
+            removedLines.increment(deleted == null ? 0 : deleted);
+
+            if (lines.size() < chunkSize) break;
+            pause();
+        }
+        return total;
+    }
+
+    // 2. 방치된 빈 장바구니 삭제
+    long sweepIdleCarts(LocalDateTime idleBefore) {
+        long total = 0;
+        long afterId = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> cartIds = cartRepository.findIdleEmptyCartIds(afterId, idleBefore, chunkSize);
+            if (cartIds.isEmpty()) break;
+            afterId = cartIds.get(cartIds.size() - 1);
+
+            Integer deleted = tx.execute(status -> cartRepository.deleteIdleEmptyCarts(cartIds, idleBefore));
+            total += deleted == null ? 0 : deleted;
+            removedCarts.increment(deleted == null ? 0 : deleted);
+
+            if (cartIds.size() < chunkSize) break;
+            pause();
+        }
+        return total;
+    }
+
+    // 3. 장바구니가 사라진 변경 로그 삭제
+    long sweepOrphanLogs() {
+        long total = 0;
+        long afterId = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> cartIds = cartChangeRepository.findOrphanCartIds(afterId, chunkSize);
+            if (cartIds.isEmpty()) break;
+            afterId = cartIds.get(cartIds.size() - 1);
+
+            Integer deleted = tx.execute(status -> cartChangeRepository.deleteByCartIds(cartIds));
+            total += deleted == null ? 0 : deleted;
+            removedLogs.increment(deleted == null ? 0 : deleted);
+
+            if (cartIds.size() < chunkSize) break;
+            pause();
+        }
+        return total;
+    }
+
+    private static Counter removedCounter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("jangbo.cart.sweeper.removed")
+                .tag("kind", kind)
+                .description("장바구니 정리 배치 삭제 건수")
+                .register(meterRegistry);
+    }
+
+    // 청크 사이 휴식 (다른 트랜잭션에 DB 자원 양보)
+    private void pause() {
+        if (pauseMillis <= 0) return;
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
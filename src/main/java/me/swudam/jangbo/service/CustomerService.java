@@ -7,8 +7,10 @@ import me.swudam.jangbo.entity.Customer;
 import me.swudam.jangbo.entity.Order;
 import me.swudam.jangbo.entity.OrderStatus;
 import me.swudam.jangbo.repository.CartRepository;
+import me.swudam.jangbo.repository.CustomerNotificationRepository;
 import me.swudam.jangbo.repository.CustomerRepository;
 import me.swudam.jangbo.repository.OrderRepository;
+import me.swudam.jangbo.repository.RestockSubscriptionRepository;
 import me.swudam.jangbo.support.NotFoundException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +30,8 @@ public class CustomerService {
     // 마이페이지
     private final CartRepository cartRepository; // 장바구니
     private final OrderRepository orderRepository; // 주문
+    private final RestockSubscriptionRepository restockSubscriptionRepository; // 재입고 알림 신청
+    private final CustomerNotificationRepository customerNotificationRepository; // 알림함
 
     // 이메일 인증 요구할지 여부: 기본값 true - properties 설정
     @Value("${auth.email.verify.required:true}")
@@ -159,7 +163,11 @@ public class CustomerService {
         }
         orderRepository.saveAll(orders);
 
-        // 3. 고객 삭제 대신 soft delete
+        // 3. 재입고 알림 신청/알림함 삭제
+        restockSubscriptionRepository.deleteAllByCustomerId(customer.getId());
+        customerNotificationRepository.deleteAllByCustomerId(customer.getId());
+
+        // 4. 고객 삭제 대신 soft delete
         // 탈퇴한 이메일에는 _deleted_ + customerId를 붙이는 방식.
         // DB가 조금 지저분해지지만, 이메일 컬럼의 unique index를 유지할 수 있음
         customer.setEmail(customer.getEmail() + "_deleted_" + customer.getId());
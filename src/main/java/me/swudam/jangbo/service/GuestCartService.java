@@ -0,0 +1,192 @@
+package me.swudam.jangbo.service;
+
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.cart.CartItemResponseDto;
+import me.swudam.jangbo.dto.cart.CartSummaryResponseDto;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.repository.ProductRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+// 비로그인(게스트) 장바구니
+// - Redis 해시 하나에 보관: key = cart:guest:{token}, field = productId, value = 수량
+// - DB에는 쓰지 않음 (상품 존재 확인/가격 조회용 읽기만) -> 익명 트래픽이 MariaDB 쓰기 부하를 만들지 않음
+// - 쓰기마다 TTL 갱신, 로그인 시 CartService.mergeGuestCart로 한 번에 병합 후 삭제
+@Service
+@RequiredArgsConstructor
+public class GuestCartService {
+
+    // 게스트 토큰 전달 헤더
+    public static final String TOKEN_HEADER = "X-Guest-Cart-Token";
+
+    /* Redis 키 네이밍 컨벤션 */
+    private static final String KEY_PREFIX = "cart:guest:";
+
+    /* TTL 정책 */
+    // 마지막 변경 후 7일 보관
+    private static final Duration TTL = Duration.ofDays(7);
+
+    // 게스트 장바구니 최대 줄 수 (남용 방지)
+    private static final int MAX_LINES = 100;
+
+    // 토큰 형식 (UUID) -> 임의 키 접근 차단
+    private static final Pattern TOKEN_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    // 있는 줄만 수량 변경 + TTL 갱신 (확인과 쓰기를 한 번에 -> 동시 삭제된 줄이 되살아나지 않음)
+    private static final DefaultRedisScript<Long> UPDATE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then " +
+            "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]); redis.call('expire', KEYS[1], ARGV[3]); return 1 " +
+            "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductRepository productRepository;
+    private final CartService cartService;
+
+    /* 퍼블릭 API */
+    // 토큰 발급 (요청에 유효한 토큰이 없을 때)
+    public String resolveOrIssueToken(String token) {
+        return isValidToken(token) ? token : UUID.randomUUID().toString();
+    }
+
+    // 상품 담기 (이미 담긴 상품이면 수량 증가), 최종 수량 반환
+    public int add(String token, Long productId, int quantity) {
+        requireToken(token);
+        if (productId == null) {
+            throw new IllegalArgumentException("상품 Id는 필수입니다.");
+        }
+        int addQty = Math.max(1, quantity);
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+        }
+
+        String key = key(token);
+        String field = productId.toString();
+        if (!redisTemplate.opsForHash().hasKey(key, field)
+                && redisTemplate.opsForHash().size(key) >= MAX_LINES) {
+            throw new IllegalArgumentException("장바구니에는 최대 " + MAX_LINES + "개 상품까지 담을 수 있습니다.");
+        }
+        Long next = redisTemplate.opsForHash().increment(key, field, addQty);
+        redisTemplate.expire(key, TTL);
+        return next == null ? addQty : next.intValue();
+    }
+
+    // 수량 지정 변경
+    public void updateQuantity(String token, Long productId, int quantity) {
+        requireToken(token);
+        if (quantity < 1) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+        Long updated = redisTemplate.execute(UPDATE_IF_PRESENT_SCRIPT, List.of(key(token)),
+                productId.toString(), Integer.toString(quantity), Long.toString(TTL.toSeconds()));
+        if (updated == null || updated == 0) {
+            throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다.");
+        }
+    }
+
+    // 단일 상품 삭제, 삭제 건수 반환
+    public int remove(String token, Long productId) {
+        requireToken(token);
+        Long removed = redisTemplate.opsForHash().delete(key(token), productId.toString());
+        return removed == null ? 0 : removed.intValue();
+    }
+
+    // 비우기
+    public void clear(String token) {
+        requireToken(token);
+        redisTemplate.delete(key(token));
+    }
+
+    // 장바구니 조회 (실시간 가격, 상품 한 번에 로딩)
+    // - 게스트 줄은 DB id가 없으므로 itemId는 비워 두고 productId로 식별
+    public CartSummaryResponseDto getCart(String token) {
+        Map<Long, Integer> lines = isValidToken(token) ? readLines(token) : Map.of();
+        if (lines.isEmpty()) {
+            return CartSummaryResponseDto.builder()
+                    .items(List.of())
+                    .selectedItemCount(0)
+                    .selectedStoreCount(0)
+                    .subtotal(0)
+                    .pickupFee(0)
+                    .total(0)
+                    .build();
+        }
+
+        List<CartItemResponseDto> items = new ArrayList<>();
+        Set<Long> storeIds = new HashSet<>();
+        int subtotal = 0;
+        for (Product p : productRepository.findAllWithStoreByIdIn(lines.keySet())) {
+            int qty = lines.get(p.getId());
+            int lineTotal = p.getPrice() * qty;
+            subtotal += lineTotal;
+            storeIds.add(p.getStore().getId());
+            items.add(CartItemResponseDto.builder()
+                    .productId(p.getId())
+                    .productName(p.getName())
+                    .storeId(p.getStore().getId())
+                    .storeName(p.getStore().getStoreName())
+                    .unitPrice(p.getPrice())
+                    .quantity(qty)
+                    .lineTotal(lineTotal)
+                    .imageUrl(p.getImageUrl())
+                    .build());
+        }
+        int pickupFee = CartService.calcPickupFee(storeIds.size());
+
+        return CartSummaryResponseDto.builder()
+                .items(items)
+                .selectedItemCount(items.size())
+                .selectedStoreCount(storeIds.size())
+                .subtotal(subtotal)
+                .pickupFee(pickupFee)
+                .total(subtotal + pickupFee)
+                .build();
+    }
+
+    // 로그인 시 게스트 장바구니를 고객 장바구니로 병합 -> 병합된 상품 수 반환
+    // - DB 병합(한 번의 upsert 배치)이 커밋된 뒤 Redis 키 삭제 (실패하면 게스트 장바구니 유지)
+    public int mergeIntoCustomerCart(String token, Long customerId) {
+        if (!isValidToken(token)) return 0;
+        Map<Long, Integer> lines = readLines(token);
+        if (lines.isEmpty()) return 0;
+
+        int merged = cartService.mergeGuestCart(customerId, lines);
+        redisTemplate.delete(key(token));
+        return merged;
+    }
+
+    /* 내부 유틸 메서드 */
+    private Map<Long, Integer> readLines(String token) {
+        Map<Object, Object> raw = redisTemplate.opsForHash().entries(key(token));
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        raw.forEach((field, value) -> {
+            try {
+                int qty = Integer.parseInt(value.toString());
+                if (qty > 0) lines.put(Long.valueOf(field.toString()), qty);
+            } catch (NumberFormatException ignored) {
+                // 손상된 필드는 무시
+            }
+        });
+        return lines;
+    }
+
+    private void requireToken(String token) {
+        if (!isValidToken(token)) {
+            throw new IllegalArgumentException("게스트 장바구니 토큰이 올바르지 않습니다.");
+        }
+    }
+
+    private boolean isValidToken(String token) {
+        return token != null && TOKEN_PATTERN.matcher(token).matches();
+    }
+
+    private String key(String token) {
+        return KEY_PREFIX + token.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,266 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.MarkdownRuleRequestDto;
+import me.swudam.jangbo.dto.MarkdownRuleResponseDto;
+import me.swudam.jangbo.entity.MarkdownRule;
+import me.swudam.jangbo.entity.ProductMarkdown;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.CartItemRepository;
+import me.swudam.jangbo.repository.MarkdownRuleRepository;
+import me.swudam.jangbo.repository.ProductInventoryRepository;
+import me.swudam.jangbo.repository.ProductMarkdownRepository;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.StoreRepository;
+import me.swudam.jangbo.support.NotFoundException;
+import me.swudam.jangbo.support.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 마감 할인(마감세일) 규칙 관리 + 적용/복구 스케줄러
+// - 매분 실행 (RedisJobLock으로 한 노드만):
+//   1) 복구 시각이 지난 할인 되돌리기 (상인 단위)
+//   2) 적용 시각이 된 규칙 적용 (규칙 단위, 할인율 큰 규칙부터 -> 상품당 할인 1건)
+// - 적용/복구 모두 상품 현재 값을 잠금 조회 후 CASE UPDATE 한 번 (version + 1, priceUpdatedAt 갱신)
+//   + 장바구니 가격 변동 표시 일괄 갱신 + 가격 이력 + 변경 이벤트 1번 (캐시/검색 색인 무효화)
+// - 부하 분산: 상점 id로 정한 0~spread분 지연을 적용/복구 시각에 더하고, 한 번에 처리할 규칙/상인 수 제한
+//   -> 19:00 마감 상점들이 같은 분에 몰리지 않음 (남은 작업은 다음 분에)
+// - 복구: 다음 영업 시작(openTime) 전 spread분 이내, 가격이 그대로 할인가일 때만 원래 가격으로
+@Slf4j
+@Service
+public class MarkdownService {
+
+    private static final String JOB_NAME = "product-markdown-tick";
+    private static final LocalTime DEFAULT_OPEN_TIME = LocalTime.of(6, 0);
+
+    private final MarkdownRuleRepository ruleRepository;
+    private final ProductMarkdownRepository markdownRepository;
+    private final ProductRepository productRepository;
+    private final StoreRepository storeRepository;
+    private final CartItemRepository cartItemRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int spreadMinutes;
+    private final int maxRulesPerTick;
+    private final int maxMerchantsPerTick;
+
+    public MarkdownService(MarkdownRuleRepository ruleRepository,
+                           ProductMarkdownRepository markdownRepository,
+                           ProductRepository productRepository,
+                           StoreRepository storeRepository,
+                           CartItemRepository cartItemRepository,
+                           PriceHistoryService priceHistoryService,
+                           RedisJobLock jobLock,
+                           TransactionTemplate tx,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${jangbo.markdown.spread-minutes:10}") int spreadMinutes,
+                           @Value("${jangbo.markdown.max-rules-per-tick:50}") int maxRulesPerTick,
+                           @Value("${jangbo.markdown.max-merchants-per-tick:50}") int maxMerchantsPerTick) {
+        this.ruleRepository = ruleRepository;
+        this.markdownRepository = markdownRepository;
+        this.productRepository = productRepository;
+        this.storeRepository = storeRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.priceHistoryService = priceHistoryService;
+        this.jobLock = jobLock;
+        this.tx = tx;
+        this.eventPublisher = eventPublisher;
+        this.spreadMinutes = spreadMinutes;
+        this.maxRulesPerTick = maxRulesPerTick;
+        this.maxMerchantsPerTick = maxMerchantsPerTick;
+    }
+
+    /* 규칙 관리 (상인 전용) */
+
+    @Transactional
+    public MarkdownRuleResponseDto create(Long merchantId, MarkdownRuleRequestDto dto) {
+        Store store = storeRepository.findByMerchantId(merchantId)
+                .orElseThrow(() -> new NotFoundException("상점을 찾을 수 없습니다."));
+        if (store.getCloseTime() == null) {
+            throw new IllegalArgumentException("마감 시간이 설정된 상점만 마감 할인을 등록할 수 있습니다.");
+        }
+        String keyword = dto.getNameKeyword() == null || dto.getNameKeyword().isBlank() ? null : dto.getNameKeyword().trim();
+        MarkdownRule rule = MarkdownRule.builder()
+                .merchant(store.getMerchant())
+                .store(store)
+                .discountPercent(dto.getDiscountPercent())
+                .minutesBeforeClose(dto.getMinutesBeforeClose())
+                .nameKeyword(keyword)
+                .build();
+        return MarkdownRuleResponseDto.from(ruleRepository.save(rule));
+    }
+
+    @Transactional(readOnly = true)
+    public List<MarkdownRuleResponseDto> getRules(Long merchantId) {
+        return ruleRepository.findAllByMerchantIdOrderByIdDesc(merchantId).stream()
+                .map(MarkdownRuleResponseDto::from)
+                .toList();
+    }
+
+    // 활성/비활성 전환 (이미 적용된 할인은 예정대로 복구)
+    @Transactional
+    public MarkdownRuleResponseDto changeActive(Long merchantId, Long ruleId, boolean active) {
+        MarkdownRule rule = getRule(merchantId, ruleId);
+        rule.changeActive(active);
+        return MarkdownRuleResponseDto.from(rule);
+    }
+
+    // 삭제 (이미 적용된 할인은 예정대로 복구)
+    @Transactional
+    public void delete(Long merchantId, Long ruleId) {
+        ruleRepository.delete(getRule(merchantId, ruleId));
+    }
+
+    /* 스케줄러 */
+
+    @Scheduled(cron = "${jangbo.markdown.tick-cron:0 * * * * *}")
+    public void tick() {
+        Optional<String> token = jobLock.tryLock(JOB_NAME, Duration.ofMinutes(5));
+        if (token.isEmpty()) return;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            revertDue(now);
+            applyDue(now);
+        } finally {
+            jobLock.unlock(JOB_NAME, token.get());
+        }
+    }
+
+    // 복구 시각이 지난 할인 되돌리기 (상인마다 짧은 트랜잭션)
+    private void revertDue(LocalDateTime now) {
+        List<Long> merchantIds = markdownRepository.findRevertDueMerchantIds(now, PageRequest.of(0, maxMerchantsPerTick));
+        for (Long merchantId : merchantIds) {
+            tx.executeWithoutResult(status -> revert(merchantId, now));
+        }
+    }
+
+    private void revert(Long merchantId, LocalDateTime now) {
+        List<ProductMarkdown> due = markdownRepository.findAllByMerchantIdAndRevertAtLessThanEqual(merchantId, now);
+        if (due.isEmpty()) return;
+        Map<Long, ProductMarkdown> byProduct = due.stream()
+                .collect(Collectors.toMap(ProductMarkdown::getProductId, Function.identity()));
+
+        List<ProductInventoryRepository.InventoryChange> changes = new ArrayList<>();
+        List<PriceHistoryService.PriceChange> priceChanges = new ArrayList<>();
+        for (ProductRepository.InventoryState state : productRepository.lockInventory(merchantId, byProduct.keySet())) {
+            ProductMarkdown markdown = byProduct.get(state.getProductId());
+            if (!markdown.getMarkdownPrice().equals(state.getPrice())) continue; // 상인이 그 사이 가격을 바꿈
+            changes.add(new ProductInventoryRepository.InventoryChange(
+                    state.getProductId(), state.getStock(), state.getSoldOut(), markdown.getOriginalPrice(), true));
+            priceChanges.add(new PriceHistoryService.PriceChange(
+                    state.getProductId(), state.getPrice(), markdown.getOriginalPrice()));
+        }
+        applyPrices(merchantId, changes, priceChanges, now);
+        markdownRepository.deleteAllInBatch(due);
+    }
+
+    // 적용 시각이 된 규칙 적용
+    private void applyDue(LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        List<Long> dueRuleIds = ruleRepository.findPending(today).stream()
+                .filter(r -> isDue(r, now))
+                .sorted(Comparator.comparing(MarkdownRule::getDiscountPercent).reversed())
+                .limit(maxRulesPerTick)
+                .map(MarkdownRule::getId)
+                .toList();
+        for (Long ruleId : dueRuleIds) {
+            tx.executeWithoutResult(status -> apply(ruleId, now));
+        }
+    }
+
+    private void apply(Long ruleId, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        MarkdownRule rule = ruleRepository.findById(ruleId).orElse(null);
+        if (rule == null || !Boolean.TRUE.equals(rule.getActive()) || today.equals(rule.getLastAppliedOn())) return;
+        rule.markApplied(today);
+
+        Long merchantId = rule.getMerchant().getId();
+        List<Long> candidateIds = productRepository.findMarkdownCandidateIds(merchantId, rule.getNameKeyword(), today);
+        if (candidateIds.isEmpty()) return;
+
+        LocalDateTime revertAt = revertAt(rule.getStore(), now);
+        List<ProductInventoryRepository.InventoryChange> changes = new ArrayList<>();
+        List<ProductMarkdown> markdowns = new ArrayList<>();
+        List<PriceHistoryService.PriceChange> priceChanges = new ArrayList<>();
+        for (ProductRepository.InventoryState state : productRepository.lockInventory(merchantId, candidateIds)) {
+            int price = rule.discountedPrice(state.getPrice());
+            if (Boolean.TRUE.equals(state.getSoldOut()) || price >= state.getPrice()) continue;
+            changes.add(new ProductInventoryRepository.InventoryChange(
+                    state.getProductId(), state.getStock(), false, price, true));
+            markdowns.add(ProductMarkdown.builder()
+                    .productId(state.getProductId())
+                    .merchantId(merchantId)
+                    .ruleId(rule.getId())
+                    .originalPrice(state.getPrice())
+                    .markdownPrice(price)
+                    .appliedAt(now)
+                    .revertAt(revertAt)
+                    .build());
+            priceChanges.add(new PriceHistoryService.PriceChange(state.getProductId(), state.getPrice(), price));
+        }
+        applyPrices(merchantId, changes, priceChanges, now);
+        markdownRepository.saveAll(markdowns);
+    }
+
+    /* 내부 유틸 메서드 */
+
+    // 가격 일괄 반영 + 장바구니 가격 변동 표시 + 가격 이력 + 변경 이벤트 1번
+    private void applyPrices(Long merchantId, List<ProductInventoryRepository.InventoryChange> changes,
+                             List<PriceHistoryService.PriceChange> priceChanges, LocalDateTime now) {
+        if (changes.isEmpty()) return;
+        List<Long> productIds = changes.stream().map(ProductInventoryRepository.InventoryChange::productId).toList();
+        productRepository.applyInventory(changes, now, Instant.now());
+        cartItemRepository.refreshPriceChangedIn(productIds);
+        priceHistoryService.record(priceChanges, now);
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(merchantId, productIds));
+    }
+
+    // 오늘 적용 구간: [마감 - minutesBeforeClose + 지연, 마감) / 휴무일 제외
+    private boolean isDue(MarkdownRule rule, LocalDateTime now) {
+        Store store = rule.getStore();
+        if (store.getCloseTime() == null || store.isDayOff(now.getDayOfWeek())) return false;
+        LocalDateTime close = now.toLocalDate().atTime(store.getCloseTime());
+        int delay = Math.min(spreadOffset(store.getId()), rule.getMinutesBeforeClose() - 1);
+        LocalDateTime start = close.minusMinutes(rule.getMinutesBeforeClose()).plusMinutes(delay);
+        return !now.isBefore(start) && now.isBefore(close);
+    }
+
+    // 다음 영업 시작 전 spread분 이내 (상점별 지연 적용)
+    private LocalDateTime revertAt(Store store, LocalDateTime now) {
+        LocalTime open = store.getOpenTime() != null ? store.getOpenTime() : DEFAULT_OPEN_TIME;
+        LocalDateTime nextOpen = now.toLocalDate().atTime(open);
+        if (!nextOpen.isAfter(now)) nextOpen = nextOpen.plusDays(1);
+        return nextOpen.minusMinutes(spreadMinutes).plusMinutes(spreadOffset(store.getId()));
+    }
+
+    // 상점별 고정 지연 (0 ~ spreadMinutes분)
+    private int spreadOffset(Long storeId) {
+        return Math.floorMod(Long.hashCode(storeId), spreadMinutes + 1);
+    }
+
+    private MarkdownRule getRule(Long merchantId, Long ruleId) {
+        return ruleRepository.findByIdAndMerchantId(ruleId, merchantId)
+                .orElseThrow(() -> new NotFoundException("마감 할인 규칙을 찾을 수 없거나 접근 권한이 없습니다."));
+    }
+}
@@ -0,0 +1,48 @@
+package me.swudam.jangbo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 상인 알림 메일 (비동기 발송)
+// - 발송 실패는 기록만 (알림 실패가 배치/요청을 실패로 만들지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantNotificationService {
+
+    private static final int MAX_LISTED_PRODUCTS = 20; // 본문에 나열할 최대 상품 수
+
+    private final JavaMailSender mailSender;
+
+    // 유통기한 만료로 품절 처리된 상품 안내
+    @Async
+    public void sendExpiredProducts(String email, List<String> productNames) {
+        StringBuilder text = new StringBuilder()
+                .append("유통기한이 지나 다음 상품 ").append(productNames.size()).append("개가 품절 처리되었습니다.\n\n");
+        productNames.stream().limit(MAX_LISTED_PRODUCTS).forEach(name -> text.append("- ").append(name).append('\n'));
+        if (productNames.size() > MAX_LISTED_PRODUCTS) {
+            text.append("외 ").append(productNames.size() - MAX_LISTED_PRODUCTS).append("개\n");
+        }
+        text.append("\n다시 판매하려면 유통기한과 재고를 수정해 주세요.");
+        send(email, "[장보는친구] 유통기한 만료 상품 품절 처리 안내", text.toString());
+    }
+
+    /* 내부 유틸 메서드 */
+    private void send(String to, String subject, String text) {
+        try {
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setTo(to);
+            msg.setSubject(subject);
+            msg.setText(text);
+            mailSender.send(msg);
+        } catch (Exception e) {
+            log.warn("merchant notification failed: to={}, subject={}", to, subject, e);
+        }
+    }
+}
@@ -6,10 +6,15 @@ import me.swudam.jangbo.entity.Merchant;
 import lombok.RequiredArgsConstructor;
 import me.swudam.jangbo.entity.Order;
 import me.swudam.jangbo.entity.OrderStatus;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.MarkdownRuleRepository;
 import me.swudam.jangbo.repository.MerchantRepository;
+import me.swudam.jangbo.repository.RestockSubscriptionRepository;
 import me.swudam.jangbo.repository.OrderRepository;
 import me.swudam.jangbo.support.NotFoundException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +29,12 @@ public class MerchantService {
 
     private final MerchantRepository merchantRepository; // DB 접근용
     private final OrderRepository orderRepository; // 회원 탈퇴 시 주문 상태 MERCHANT_LEFT로
+    private final MarkdownRuleRepository markdownRuleRepository; // 탈퇴 시 마감 할인 규칙 정리
+    private final RestockSubscriptionRepository restockSubscriptionRepository; // 탈퇴로 삭제되는 상품의 재입고 알림 신청 정리
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화/검증
     private final EmailVerificationService emailVerificationService; // 이메일 인증 상태 확인/정리
+    private final ProductSyncService productSyncService; // 탈퇴로 함께 삭제되는 상품 기록 (앱 카탈로그 동기화)
+    private final ApplicationEventPublisher eventPublisher; // 상품 삭제 -> 검색 색인/캐시 반영
 
     // 이메일 인증 요구할지 여부: 기본값 true - properties 설정
     @Value("${auth.email.verify.required:true}")
@@ -97,8 +106,19 @@ public class MerchantService {
             order.setStatus(OrderStatus.MERCHANT_LEFT);
         }
 
-        // 2. 상인 삭제
+        // 2. 마감 할인 규칙 정리 (상점/상인 FK)
+        markdownRuleRepository.deleteAllByMerchantId(merchant.getId());
+
+        // 3. 상인 삭제 (상품은 cascade로 함께 삭제 -> 삭제 기록/이벤트를 먼저 남김)
+        List<Product> products = List.copyOf(merchant.getProducts());
+        productSyncService.recordDeleted(products);
+        if (!products.isEmpty()) {
+            restockSubscriptionRepository.deleteAllByProductIdIn(products.stream().map(Product::getId).toList());
+        }
         merchantRepository.delete(merchant);
+        if (!products.isEmpty()) {
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(products));
+        }
     }
 
     /* 신규 메서드: 내부 유틸 메서드 */
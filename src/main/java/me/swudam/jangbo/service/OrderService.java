@@ -1,16 +1,21 @@
 package me.swudam.jangbo.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import me.swudam.jangbo.dto.order.OrderProductResponseDto;
 import me.swudam.jangbo.dto.order.OrderRequestDto;
 import me.swudam.jangbo.dto.order.OrderResponseDto;
 import me.swudam.jangbo.dto.PickupCounterResponseDto;
 import me.swudam.jangbo.entity.*;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.event.ProductRestockedEvent;
 import me.swudam.jangbo.repository.CustomerRepository;
 import me.swudam.jangbo.repository.OrderRepository;
 import me.swudam.jangbo.repository.ProductRepository;
 import me.swudam.jangbo.repository.StoreRepository;
 import me.swudam.jangbo.support.OutOfStockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 /*
@@ -33,6 +39,13 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final CustomerRepository customerRepository;
     private final StoreRepository storeRepository;
+    private final ProductPopularityService productPopularityService; // 인기 지표 증가
+    private final ApplicationEventPublisher eventPublisher; // 재고 변동 -> 검색 색인 등 반영
+    private final StoreScheduleIndex storeScheduleIndex; // 주문 시 영업 시간 확인
+
+    // 영업 시간이 아닌 상점 주문: true면 거부(409), false면 경고 로그만 - properties 설정
+    @Value("${jangbo.order.reject-when-closed:true}")
+    private boolean rejectWhenClosed;
 
     // 픽업대 관련 상수
     private static final int MAX_PICKUP_SLOT = 10; // 픽업대 최대 개수
@@ -47,7 +60,7 @@ public class OrderService {
 
     /*
      * [1] 고객 주문 생성
-     * - 고객, 상점 존재 확인
+     * - 고객, 상점 존재 확인 + 상점 영업 시간 확인
      * - 주문 상품 처리: 재고 확인, 재고 감소, 품절 처리
      * - Order 생성 및 DB 저장
      * - OrderResponseDto 변환 후 반환
@@ -62,12 +75,20 @@ public class OrderService {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 고객입니다."));
 
+        LocalDateTime now = LocalDateTime.now();
         List<OrderResponseDto> result = new ArrayList<>();
+        List<Product> changedProducts = new ArrayList<>();
         boolean feeApplied = false; // 첫 주문에만 수수료 적용
 
         for (OrderRequestDto.StoreOrderDto storeOrder : orderRequestDto.getStoreOrders()) {
             Store store = storeRepository.findById(storeOrder.getStoreId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상점입니다."));
+            if (storeScheduleIndex.isClosed(store.getId(), now)) {
+                if (rejectWhenClosed) {
+                    throw new IllegalStateException("영업 시간이 아닌 상점입니다: " + store.getStoreName());
+                }
+                log.warn("order placed while store is closed: storeId={}, customerId={}", store.getId(), customerId);
+            }
 
             // 상품 → OrderProduct 변환 + 재고 차감/품절 처리
             List<OrderProduct> orderProducts = storeOrder.getProducts().stream().map(p -> {
@@ -81,6 +102,7 @@ public class OrderService {
                 if (remainingStock <= 0) product.markSoldOut();
                 else product.updateProduct(product.getName(), product.getOrigin(), product.getExpiryDate(),
                         product.getPrice(), remainingStock, product.getImageUrl());
+                changedProducts.add(product);
 
                 OrderProduct op = new OrderProduct();
                 op.setProduct(product);
@@ -113,6 +135,7 @@ public class OrderService {
             orderRepository.save(order);
             result.add(toDto(order));
         }
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(changedProducts));
         return result;
     }
 
@@ -149,9 +172,11 @@ public class OrderService {
         order.setStatus(OrderStatus.CANCELED); // 주문 취소 상태로 변경
         order.setPickupSlot(null);
 
-        // 재고 복원
+        // 재고 복원 (품절 상품은 품절 해제 -> 재입고 알림)
+        List<Long> restockedIds = new ArrayList<>();
         for (OrderProduct op : order.getOrderProducts()) {
             Product product = op.getProduct();
+            if (Boolean.TRUE.equals(product.getSoldOut())) restockedIds.add(product.getId());
             int restoredStock = product.getStock() + op.getQuantity(); // 재고 복원
             product.updateProduct(
                     product.getName(),
@@ -162,6 +187,11 @@ public class OrderService {
                     product.getImageUrl()
             );
         }
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(
+                order.getOrderProducts().stream().map(OrderProduct::getProduct).toList()));
+        if (!restockedIds.isEmpty()) {
+            eventPublisher.publishEvent(ProductRestockedEvent.of(restockedIds));
+        }
     }
 
     /*
@@ -278,6 +308,7 @@ public class OrderService {
         }
         order.setStatus(OrderStatus.COMPLETED);
         order.setPickupSlot(null); // 픽업대 해제
+        productPopularityService.recordCompleted(order); // 상품별 완료 주문 수/트렌딩 점수 증가
     }
 
     /*
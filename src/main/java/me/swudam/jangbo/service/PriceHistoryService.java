@@ -0,0 +1,221 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.CategoryPriceStatsResponseDto;
+import me.swudam.jangbo.dto.PriceChangeHistoryResponseDto;
+import me.swudam.jangbo.dto.PriceChartResponseDto;
+import me.swudam.jangbo.entity.Category;
+import me.swudam.jangbo.entity.ProductPriceDaily;
+import me.swudam.jangbo.repository.CategoryPriceDailyRepository;
+import me.swudam.jangbo.repository.ProductPriceDailyRepository;
+import me.swudam.jangbo.repository.ProductPriceHistoryRepository;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.ProductRow;
+import me.swudam.jangbo.support.NotFoundException;
+import me.swudam.jangbo.support.RedisJobLock;
+import me.swudam.jangbo.util.PriceDeltaCodec;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 상품 가격 이력
+// - 기록: 가격이 바뀌는 모든 경로(등록/수정/일괄 변경/마감 할인/일괄 등록)가 같은 트랜잭션에서 호출
+//   1) 월 단위 압축 행에 변경 항목 이어 붙이기 (PriceDeltaCodec, 추가 전용)
+//   2) 일별 집계(시가/종가/최저/최고) 갱신
+//   -> 둘 다 INSERT ... ON DUPLICATE KEY UPDATE JDBC 배치 (변경 건수와 무관하게 왕복 2번)
+// - 조회: 가격 차트는 일별 집계, 카테고리 통계는 하루 한 번 스냅샷 표만 읽음 (원본 이력/상품 전체를 훑지 않음)
+@Slf4j
+@Service
+public class PriceHistoryService {
+
+    private static final String CATEGORY_SNAPSHOT_JOB = "category-price-snapshot";
+    private static final int MAX_CHART_DAYS = 365;
+
+    private static final String HISTORY_APPEND_SQL =
+            "insert into product_price_history (product_id, bucket_month, base_price, data) values (?, ?, ?, ?) " +
+            "on duplicate key update data = concat(data, values(data))";
+
+    private static final String DAILY_UPSERT_SQL =
+            "insert into product_price_daily (product_id, bucket_day, open_price, close_price, min_price, max_price, change_count) " +
+            "values (?, ?, ?, ?, ?, ?, 1) " +
+            "on duplicate key update close_price = values(close_price), " +
+            "min_price = least(min_price, values(min_price)), max_price = greatest(max_price, values(max_price)), " +
+            "change_count = change_count + 1";
+
+    // 가격 변경 한 건 (등록은 previousPrice = price)
+    public record PriceChange(Long productId, int previousPrice, int price) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final ProductPriceHistoryRepository historyRepository;
+    private final ProductPriceDailyRepository dailyRepository;
+    private final CategoryPriceDailyRepository categoryDailyRepository;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+
+    public PriceHistoryService(JdbcTemplate jdbcTemplate,
+                               ProductRepository productRepository,
+                               ProductPriceHistoryRepository historyRepository,
+                               ProductPriceDailyRepository dailyRepository,
+                               CategoryPriceDailyRepository categoryDailyRepository,
+                               RedisJobLock jobLock,
+                               TransactionTemplate tx) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.historyRepository = historyRepository;
+        this.dailyRepository = dailyRepository;
+        this.categoryDailyRepository = categoryDailyRepository;
+        this.jobLock = jobLock;
+        this.tx = tx;
+    }
+
+    /* 기록 (호출 측 트랜잭션에 참여) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<PriceChange> changes, LocalDateTime at) {
+        if (changes.isEmpty()) return;
+        YearMonth month = YearMonth.from(at);
+        long offsetSeconds = Duration.between(month.atDay(1).atStartOfDay(), at).getSeconds();
+        int bucketMonth = month.getYear() * 100 + month.getMonthValue();
+        LocalDate day = at.toLocalDate();
+
+        List<Object[]> historyArgs = new ArrayList<>(changes.size());
+        List<Object[]> dailyArgs = new ArrayList<>(changes.size());
+        for (PriceChange c : changes) {
+            historyArgs.add(new Object[]{c.productId(), bucketMonth, c.previousPrice(),
+                    PriceDeltaCodec.encode(offsetSeconds, c.price() - c.previousPrice())});
+            dailyArgs.add(new Object[]{c.productId(), day, c.previousPrice(), c.price(),
+                    Math.min(c.previousPrice(), c.price()), Math.max(c.previousPrice(), c.price())});
+        }
+        jdbcTemplate.batchUpdate(HISTORY_APPEND_SQL, historyArgs);
+        jdbcTemplate.batchUpdate(DAILY_UPSERT_SQL, dailyArgs);
+    }
+
+    /* 조회 */
+
+    // 상품 가격 차트 (최근 days일, 등록일 이전은 제외)
+    @Transactional(readOnly = true)
+    public PriceChartResponseDto getPriceChart(Long productId, Integer days) {
+        ProductRow product = productRepository.findRowById(productId)
+                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없습니다."));
+        int n = (days == null) ? 30 : Math.max(1, Math.min(days, MAX_CHART_DAYS));
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(n - 1);
+        if (product.createdAt() != null && product.createdAt().toLocalDate().isAfter(from)) {
+            from = product.createdAt().toLocalDate();
+        }
+
+        Map<LocalDate, ProductPriceDaily> byDay = dailyRepository
+                .findAllByProductIdAndDayBetweenOrderByDayAsc(productId, from, to).stream()
+                .collect(Collectors.toMap(ProductPriceDaily::getDay, Function.identity()));
+        // 구간 첫날 가격: 직전 집계 종가 -> 없으면 구간 첫 집계의 시가 -> 없으면 현재 가격 (이력 도입 전 상품)
+        int price = dailyRepository.findFirstByProductIdAndDayLessThanOrderByDayDesc(productId, from)
+                .map(ProductPriceDaily::getClosePrice)
+                .orElseGet(() -> byDay.values().stream()
+                        .min((a, b) -> a.getDay().compareTo(b.getDay()))
+                        .map(ProductPriceDaily::getOpenPrice)
+                        .orElse(product.price()));
+
+        List<PriceChartResponseDto.Day> result = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            ProductPriceDaily daily = byDay.get(d);
+            if (daily != null) {
+                result.add(PriceChartResponseDto.Day.builder()
+                        .date(d)
+                        .openPrice(daily.getOpenPrice())
+                        .closePrice(daily.getClosePrice())
+                        .minPrice(daily.getMinPrice())
+                        .maxPrice(daily.getMaxPrice())
+                        .changeCount(daily.getChangeCount())
+                        .build());
+                price = daily.getClosePrice();
+            } else {
+                result.add(PriceChartResponseDto.Day.builder()
+                        .date(d).openPrice(price).closePrice(price).minPrice(price).maxPrice(price)
+                        .build());
+            }
+        }
+        return PriceChartResponseDto.builder()
+                .productId(productId)
+                .currentPrice(product.price())
+                .days(result)
+                .build();
+    }
+
+    // 카테고리 일별 가격 통계 (최근 days일)
+    @Transactional(readOnly = true)
+    public CategoryPriceStatsResponseDto getCategoryStats(Category category, Integer days) {
+        int n = (days == null) ? 30 : Math.max(1, Math.min(days, MAX_CHART_DAYS));
+        LocalDate to = LocalDate.now();
+        List<CategoryPriceStatsResponseDto.Day> result = categoryDailyRepository
+                .findAllByCategoryAndDayBetweenOrderByDayAsc(category, to.minusDays(n - 1), to).stream()
+                .map(c -> CategoryPriceStatsResponseDto.Day.builder()
+                        .date(c.getDay())
+                        .avgPrice(Math.round(c.getAvgPrice()))
+                        .minPrice(c.getMinPrice())
+                        .maxPrice(c.getMaxPrice())
+                        .productCount(c.getProductCount())
+                        .build())
+                .toList();
+        return CategoryPriceStatsResponseDto.builder()
+                .category(category)
+                .days(result)
+                .build();
+    }
+
+    // 상인 감사용 원본 변경 내역 (한 달, 소유권 검증)
+    @Transactional(readOnly = true)
+    public PriceChangeHistoryResponseDto getPriceChanges(Long merchantId, Long productId, YearMonth month) {
+        productRepository.findByIdAndMerchantId(productId, merchantId)
+                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없거나 접근 권한이 없습니다."));
+        YearMonth m = (month == null) ? YearMonth.now() : month;
+
+        List<PriceChangeHistoryResponseDto.Change> changes = new ArrayList<>();
+        historyRepository.findByProductIdAndMonth(productId, m.getYear() * 100 + m.getMonthValue())
+                .ifPresent(h -> {
+                    int previous = h.getBasePrice();
+                    for (PriceDeltaCodec.Point p : PriceDeltaCodec.decode(m.atDay(1).atStartOfDay(), h.getBasePrice(), h.getData())) {
+                        changes.add(PriceChangeHistoryResponseDto.Change.builder()
+                                .changedAt(p.at())
+                                .previousPrice(previous)
+                                .price(p.price())
+                                .build());
+                        previous = p.price();
+                    }
+                });
+        return PriceChangeHistoryResponseDto.builder()
+                .productId(productId)
+                .month(m)
+                .changes(changes)
+                .build();
+    }
+
+    /* 카테고리 스냅샷 (기본 매일 23:55, 다시 실행하면 그날 값을 덮어씀) */
+    @Scheduled(cron = "${jangbo.price-history.category-snapshot-cron:0 55 23 * * *}")
+    public void snapshotCategories() {
+        Optional<String> token = jobLock.tryLock(CATEGORY_SNAPSHOT_JOB, Duration.ofMinutes(10));
+        if (token.isEmpty()) return;
+        try {
+            LocalDate today = LocalDate.now();
+            Integer rows = tx.execute(status -> categoryDailyRepository.snapshot(today));
+            log.info("category price snapshot: {} categories on {}", rows, today);
+        } finally {
+            jobLock.unlock(CATEGORY_SNAPSHOT_JOB, token.get());
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package me.swudam.jangbo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.ProductCreateRequestDto;
+import me.swudam.jangbo.dto.ProductImportResultDto;
+import me.swudam.jangbo.dto.ProductResponseDto;
+import me.swudam.jangbo.entity.Merchant;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.ProductRow;
+import me.swudam.jangbo.repository.StoreRepository;
+import me.swudam.jangbo.util.CsvReader;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 상인 상품 일괄 등록/내보내기 (CSV, JSON)
+// - 등록: 요청 본문을 한 행씩 읽으며 검증 -> 유효한 행만 batch-size개씩 모아 청크 트랜잭션으로 저장
+//   - 상점/상인은 시작 시 한 번만 확인, 청크마다 참조(프록시)만 사용
+//   - 상품 id는 시퀀스 선할당이라 Hibernate가 insert를 JDBC 배치로 묶음 (세션 배치 크기 = batch-size)
+//   - 청크 저장 후 영속성 컨텍스트를 비워 메모리가 전체 행 수가 아닌 청크 크기에 비례
+//   - 잘못된 행은 건너뛰고 행 번호 + 사유를 결과에 담음 (이미 저장된 청크는 유지)
+// - 내보내기: 상품 id 순서 청크로 읽으며 바로 응답 스트림에 씀 (엔티티 대신 ProductRow)
+// - CSV 열: name, origin, expiryDate(yyyy-MM-dd), price, stock, imageUrl(선택) / 헤더 필수, 순서 무관, 그 외 열은 무시
+// - JSON: ProductCreateRequestDto 객체 배열
+@Slf4j
+@Service
+public class ProductBulkService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "origin", "expirydate", "price", "stock");
+    private static final String[] EXPORT_COLUMNS =
+            {"id", "name", "origin", "expiryDate", "price", "stock", "soldOut", "imageUrl", "createdAt", "updatedAt"};
+    private static final int MAX_REPORTED_ERRORS = 200;
+    private static final int EXPORT_CHUNK = 500;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final StoreRepository storeRepository;
+    private final ProductRepository productRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper; // 스프링 설정 ObjectMapper (LocalDate 지원)
+
+    @Value("${jangbo.product.import.batch-size:100}")
+    private int batchSize;
+    @Value("${jangbo.product.import.max-rows:5000}")
+    private int maxRows;
+
+    public ProductBulkService(StoreRepository storeRepository,
+                              ProductRepository productRepository,
+                              PriceHistoryService priceHistoryService,
+                              TransactionTemplate tx,
+                              ApplicationEventPublisher eventPublisher,
+                              Validator validator,
+                              ObjectMapper objectMapper) {
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.priceHistoryService = priceHistoryService;
+        this.tx = tx;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    /* 일괄 등록 */
+
+    public ProductImportResultDto importCsv(Long merchantId, InputStream in) throws IOException {
+        Importer importer = new Importer(merchantId);
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+
+        List<String> header = csv.next();
+        if (header == null) throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 필수 열이 없습니다: " + String.join(", ", missing));
+        }
+
+        int row = 1; // 헤더 = 1행
+        try {
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                row++;
+                if (fields.stream().allMatch(String::isBlank)) continue; // 빈 줄
+                if (!importer.hasRoom()) break;
+                try {
+                    importer.accept(row, toCreateDto(fields, columns));
+                } catch (IllegalArgumentException e) {
+                    importer.reject(row, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            // 파일 형식이 깨진 지점부터는 읽지 않음 (그 전까지 유효한 행은 등록)
+            importer.reject(row + 1, "CSV 형식이 올바르지 않아 이후 행을 읽지 못했습니다.");
+        }
+        return importer.finish();
+    }
+
+    public ProductImportResultDto importJson(Long merchantId, InputStream in) throws IOException {
+        Importer importer = new Importer(merchantId);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 본문은 상품 객체 배열이어야 합니다.");
+            }
+            int row = 0;
+            try {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    row++;
+                    JsonNode node = objectMapper.readTree(parser); // 한 객체씩 읽음 -> 값 형식 오류가 다음 행에 영향 없음
+                    if (!importer.hasRoom()) break;
+                    try {
+                        importer.accept(row, objectMapper.treeToValue(node, ProductCreateRequestDto.class));
+                    } catch (IOException e) {
+                        importer.reject(row, "값 형식이 올바르지 않습니다.");
+                    }
+                }
+            } catch (IOException e) {
+                importer.reject(row + 1, "JSON 형식이 올바르지 않아 이후 행을 읽지 못했습니다.");
+            }
+        }
+        return importer.finish();
+    }
+
+    /* 내보내기 */
+
+    public void exportCsv(Long merchantId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+        writer.write(String.join(",", EXPORT_COLUMNS));
+        writer.write("\r\n");
+        forEachChunk(merchantId, rows -> {
+            for (ProductRow r : rows) {
+                writer.write(Arrays.stream(new Object[]{r.id(), r.name(), r.origin(), r.expiryDate(), r.price(),
+                                r.stock(), r.soldOut(), r.imageUrl(), r.createdAt(), r.updatedAt()})
+                        .map(CsvReader::escape)
+                        .collect(Collectors.joining(",")));
+                writer.write("\r\n");
+            }
+            writer.flush();
+        });
+        writer.flush();
+    }
+
+    public void exportJson(Long merchantId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            forEachChunk(merchantId, rows -> {
+                for (ProductRow r : rows) {
+                    objectMapper.writeValue(generator, ProductResponseDto.from(r));
+                }
+                generator.flush();
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    /* 내부 유틸 메서드 */
+
+    private interface ChunkWriter {
+        void write(List<ProductRow> rows) throws IOException;
+    }
+
+    // 상품 id 순서 청크 (청크마다 짧은 조회, 전체를 메모리에 올리지 않음)
+    private void forEachChunk(Long merchantId, ChunkWriter writer) throws IOException {
+        long afterId = 0;
+        while (true) {
+            List<ProductRow> rows = productRepository.findRowsByMerchantAfterId(merchantId, afterId, EXPORT_CHUNK);
+            if (rows.isEmpty()) return;
+            writer.write(rows);
+            if (rows.size() < EXPORT_CHUNK) return;
+            afterId = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    private static ProductCreateRequestDto toCreateDto(List<String> fields, Map<String, Integer> columns) {
+        ProductCreateRequestDto dto = new ProductCreateRequestDto();
+        dto.setName(field(fields, columns, "name"));
+        dto.setOrigin(field(fields, columns, "origin"));
+        dto.setImageUrl(field(fields, columns, "imageurl"));
+        String expiry = field(fields, columns, "expirydate");
+        try {
+            dto.setExpiryDate(expiry == null ? null : LocalDate.parse(expiry));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유통기한은 yyyy-MM-dd 형식이어야 합니다.");
+        }
+        dto.setPrice(intField(fields, columns, "price", "가격"));
+        dto.setStock(intField(fields, columns, "stock", "재고 수량"));
+        return dto;
+    }
+
+    // 빈 값은 null (필수 여부는 DTO 검증에서 판단)
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) return null;
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer intField(List<String> fields, Map<String, Integer> columns, String column, String label) {
+        String value = field(fields, columns, column);
+        if (value == null) return null;
+        try {
+            return Integer.valueOf(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + "은(는) 숫자여야 합니다.");
+        }
+    }
+
+    private record Pending(int row, ProductCreateRequestDto dto) {
+    }
+
+    // 한 번의 일괄 등록 상태 (행 검증 -> 청크 모으기 -> 저장)
+    private class Importer {
+        private final Long merchantId;
+        private final Long storeId;
+        private final List<Pending> chunk = new ArrayList<>();
+        private final List<ProductImportResultDto.RowError> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        Importer(Long merchantId) {
+            this.merchantId = merchantId;
+            // 상점 자동 매핑 (상점 1개 전제, 단건 등록과 같은 규칙)
+            Store store = storeRepository.findByMerchantId(merchantId)
+                    .orElseThrow(() -> new IllegalArgumentException("상점 등록 후 상품을 등록할 수 있습니다."));
+            this.storeId = store.getId();
+        }
+
+        boolean hasRoom() {
+            if (total < maxRows) return true;
+            if (errors.isEmpty() || errors.get(errors.size() - 1).getRow() != -1) {
+                errors.add(ProductImportResultDto.RowError.builder()
+                        .row(-1)
+                        .message("한 번에 최대 " + maxRows + "행까지 등록할 수 있습니다. 나머지 행은 처리하지 않았습니다.")
+                        .build());
+            }
+            return false;
+        }
+
+        void accept(int row, ProductCreateRequestDto dto) {
+            total++;
+            Set<ConstraintViolation<ProductCreateRequestDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                addError(row, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+                return;
+            }
+            chunk.add(new Pending(row, dto));
+            if (chunk.size() >= batchSize) flush();
+        }
+
+        void reject(int row, String message) {
+            total++;
+            addError(row, message);
+        }
+
+        ProductImportResultDto finish() {
+            flush();
+            return ProductImportResultDto.builder()
+                    .totalRows(total)
+                    .importedCount(imported)
+                    .failedCount(failed)
+                    .errors(List.copyOf(errors))
+                    .errorsTruncated(failed > MAX_REPORTED_ERRORS)
+                    .build();
+        }
+
+        private void addError(int row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ProductImportResultDto.RowError.builder().row(row).message(message).build());
+            }
+        }
+
+        // 청크 저장 (insert는 JDBC 배치, 커밋 후 검색 색인/캐시 반영)
+        // - 저장 실패 시 해당 청크만 롤백하고 그 행들을 실패로 기록
+        private void flush() {
+            if (chunk.isEmpty()) return;
+            List<Pending> rows = List.copyOf(chunk);
+            chunk.clear();
+            try {
+                save(rows);
+                imported += rows.size();
+            } catch (DataAccessException e) {
+                log.warn("product import chunk failed: merchantId={}, rows={}", merchantId, rows.size(), e);
+                rows.forEach(p -> addError(p.row(), "저장 중 오류가 발생했습니다."));
+            }
+        }
+
+        private void save(List<Pending> rows) {
+            tx.executeWithoutResult(status -> {
+                em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                Merchant merchant = em.getReference(Merchant.class, merchantId);
+                Store store = em.getReference(Store.class, storeId);
+                List<Product> products = new ArrayList<>(rows.size());
+                for (Pending pending : rows) {
+                    ProductCreateRequestDto dto = pending.dto();
+                    Product product = Product.builder()
+                            .merchant(merchant)
+                            .store(store)
+                            .name(dto.getName())
+                            .origin(dto.getOrigin())
+                            .expiryDate(dto.getExpiryDate())
+                            .stock(dto.getStock())
+                            .price(dto.getPrice())
+                            .imageUrl(dto.getImageUrl())
+                            .soldOut(false) // 등록 시 기본값
+                            .build();
+                    em.persist(product);
+                    products.add(product);
+                }
+                em.flush();
+                priceHistoryService.record(products.stream()
+                        .map(p -> new PriceHistoryService.PriceChange(p.getId(), p.getPrice(), p.getPrice()))
+                        .toList(), LocalDateTime.now());
+                eventPublisher.publishEvent(ProductChangedEvent.upserted(products));
+                em.clear();
+            });
+        }
+    }
+}
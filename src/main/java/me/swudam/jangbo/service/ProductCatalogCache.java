@@ -0,0 +1,150 @@
+package me.swudam.jangbo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.swudam.jangbo.dto.ProductResponseDto;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 고객 상품 조회 로컬 캐시 (응답 DTO/ETag 보관)
+// - 단건: productId -> DTO, 목록: (상인 id 또는 전역, 정렬) -> DTO 목록, ETag: 같은 범위의 ETag 문자열
+// - 크기 제한: 단건은 항목 수, 목록은 담긴 상품 수 합(weight)으로 제한 -> 초과 시 Caffeine이 오래/덜 쓰인 것부터 제거
+// - 무효화: ProductChangedEvent 커밋 후 변경 상품 단건 + 그 상인 목록 + 전역 목록만 제거
+//   (다른 노드 변경도 CacheInvalidationBus가 같은 이벤트로 전달)
+//   (TTL은 이벤트 유실 대비 안전장치, 기본 10분)
+// - 조회 중 변경이 커밋되면 읽은 값을 캐시에 넣지 않음 (세대 번호 비교) -> 무효화 직후 이전 값이 다시 들어가는 경합 방지
+// - 지표: cache.gets{result=hit|miss}, cache.evictions 등 (CaffeineCacheMetrics, cache=product-catalog.*)
+//   jangbo.catalog.cache.hit.age: 응답한 캐시 값의 나이(초) -> 최대 얼마나 오래된 값을 내보내는지
+//   jangbo.catalog.cache.invalidation.lag: 변경 발생 -> 캐시 무효화까지 걸린 시간
+@Component
+public class ProductCatalogCache {
+
+    private record Cached<T>(T value, Instant loadedAt) {
+    }
+
+    private record ListKey(Long merchantId, String sort) { // merchantId null = 전역
+    }
+
+    private final boolean enabled;
+    private final Cache<Long, Cached<ProductResponseDto>> products;
+    private final Cache<ListKey, Cached<List<ProductResponseDto>>> lists;
+    private final Cache<String, Cached<String>> etags;
+    private final AtomicLong generation = new AtomicLong(); // 무효화마다 증가
+
+    private final DistributionSummary hitAge;
+    private final Timer invalidationLag;
+    private final Counter invalidations;
+
+    public ProductCatalogCache(MeterRegistry meterRegistry,
+                               @Value("${jangbo.catalog.cache.enabled:true}") boolean enabled,
+                               @Value("${jangbo.catalog.cache.max-products:10000}") long maxProducts,
+                               @Value("${jangbo.catalog.cache.max-list-items:50000}") long maxListItems,
+                               @Value("${jangbo.catalog.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.enabled = enabled;
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(maxListItems)
+                .weigher((ListKey k, Cached<List<ProductResponseDto>> v) -> v.value().size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.etags = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product-catalog.products");
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "product-catalog.lists");
+        CaffeineCacheMetrics.monitor(meterRegistry, etags, "product-catalog.etags");
+
+        this.hitAge = DistributionSummary.builder("jangbo.catalog.cache.hit.age")
+                .baseUnit("seconds")
+                .description("캐시에서 응답한 값의 나이")
+                .register(meterRegistry);
+        this.invalidationLag = Timer.builder("jangbo.catalog.cache.invalidation.lag")
+                .description("상품 변경부터 캐시 무효화까지 걸린 시간")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("jangbo.catalog.cache.invalidations")
+                .description("상품 변경 이벤트로 인한 캐시 무효화 횟수")
+                .register(meterRegistry);
+    }
+
+    /* 조회 (없으면 loader로 읽어서 보관) */
+    public ProductResponseDto product(Long productId, Supplier<ProductResponseDto> loader) {
+        return get(products, productId, loader);
+    }
+
+    public List<ProductResponseDto> merchantList(Long merchantId, String sort, Supplier<List<ProductResponseDto>> loader) {
+        return get(lists, new ListKey(merchantId, sort), loader);
+    }
+
+    public List<ProductResponseDto> globalList(String sort, Supplier<List<ProductResponseDto>> loader) {
+        return get(lists, new ListKey(null, sort), loader);
+    }
+
+    // ETag (null은 보관하지 않음 -> 없는 상품은 매번 확인)
+    public String productETag(Long productId, Supplier<String> loader) {
+        return get(etags, "p:" + productId, loader);
+    }
+
+    public String listETag(Long merchantId, String sort, Supplier<String> loader) {
+        return get(etags, (merchantId == null ? "g:" : "m:" + merchantId + ":") + sort, loader);
+    }
+
+    /* 무효화 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) return;
+        generation.incrementAndGet();
+        if (event.type() == ProductChangedEvent.Type.BULK_UPDATED) {
+            products.invalidateAll();
+            lists.invalidateAll();
+            etags.invalidateAll();
+        } else {
+            products.invalidateAll(event.productIds());
+            etags.invalidateAll(event.productIds().stream().map(id -> "p:" + id).toList());
+            // 전역 목록 + 변경 상품 상인의 목록 (정렬 기준 전부)
+            lists.asMap().keySet().removeIf(k -> k.merchantId() == null || event.merchantIds().contains(k.merchantId()));
+            etags.asMap().keySet().removeIf(k -> k.startsWith("g:")
+                    || event.merchantIds().stream().anyMatch(m -> k.startsWith("m:" + m + ":")));
+        }
+        invalidations.increment();
+        invalidationLag.record(Duration.between(event.occurredAt(), Instant.now()));
+    }
+
+    /* 내부 유틸 메서드 */
+    private <K, V> V get(Cache<K, Cached<V>> cache, K key, Supplier<V> loader) {
+        if (!enabled) return loader.get();
+        Cached<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hitAge.record(Duration.between(cached.loadedAt(), Instant.now()).toMillis() / 1000.0);
+            return cached.value();
+        }
+        long before = generation.get();
+        V value = loader.get();
+        // 읽는 동안 무효화가 없었을 때만 보관
+        if (value != null && generation.get() == before) {
+            cache.put(key, new Cached<>(value, Instant.now()));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.Merchant;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.MerchantRepository;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.support.RedisJobLock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 유통기한 만료 상품 자동 품절 처리
+// - 매일 자정 직후: 판매 중인데 유통기한이 지난 상품을 청크 단위로 품절 처리 (재고 0, markSoldOut과 같은 상태)
+//   -> 장바구니 담기/주문의 품절 검사에 그대로 걸림
+// - 조회는 (sold_out, expiry_date) 인덱스 범위 -> 처리된 상품은 다음 청크 조회에서 빠지므로 커서 불필요
+// - 끝나면 상인별로 처리된 상품을 모아 알림 메일 (비동기)
+// - 날짜가 바뀌면 목록 필터(expiry_date >= 오늘) 결과도 바뀌므로 마지막에 전체 무효화 이벤트 1번
+//   (고객 목록/검색은 이 배치와 무관하게 쿼리 조건으로 만료 상품을 제외)
+@Slf4j
+@Service
+public class ProductExpiryService {
+
+    private static final String JOB_NAME = "product-expiry-sweep";
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final MerchantRepository merchantRepository;
+    private final MerchantNotificationService notificationService;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductExpiryService(ProductRepository productRepository,
+                                MerchantRepository merchantRepository,
+                                MerchantNotificationService notificationService,
+                                RedisJobLock jobLock,
+                                TransactionTemplate tx,
+                                ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.merchantRepository = merchantRepository;
+        this.notificationService = notificationService;
+        this.jobLock = jobLock;
+        this.tx = tx;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 기본 매일 00:01
+    @Scheduled(cron = "${jangbo.product.expiry.sweep-cron:0 1 0 * * *}")
+    public void sweep() {
+        Optional<String> token = jobLock.tryLock(JOB_NAME, Duration.ofMinutes(30));
+        if (token.isEmpty()) return;
+        try {
+            LocalDate today = LocalDate.now();
+            Map<Long, List<String>> namesByMerchant = new HashMap<>();
+            int total = 0;
+            while (true) {
+                List<ProductRepository.ExpiredProduct> chunk = tx.execute(status -> {
+                    List<ProductRepository.ExpiredProduct> expired =
+                            productRepository.findExpiredSellable(today, PageRequest.of(0, CHUNK_SIZE));
+                    if (!expired.isEmpty()) {
+                        productRepository.markExpiredSoldOut(
+                                expired.stream().map(ProductRepository.ExpiredProduct::getProductId).toList(),
+                                today, LocalDateTime.now());
+                    }
+                    return expired;
+                });
+                if (chunk == null || chunk.isEmpty()) break;
+                chunk.forEach(p -> namesByMerchant
+                        .computeIfAbsent(p.getMerchantId(), k -> new ArrayList<>())
+                        .add(p.getName()));
+                total += chunk.size();
+                if (chunk.size() < CHUNK_SIZE) break;
+            }
+            log.info("expired products marked sold out: {} products, {} merchants", total, namesByMerchant.size());
+            eventPublisher.publishEvent(ProductChangedEvent.bulkUpdated());
+            notifyMerchants(namesByMerchant);
+        } finally {
+            jobLock.unlock(JOB_NAME, token.get());
+        }
+    }
+
+    private void notifyMerchants(Map<Long, List<String>> namesByMerchant) {
+        if (namesByMerchant.isEmpty()) return;
+        for (Merchant merchant : merchantRepository.findAllById(namesByMerchant.keySet())) {
+            if (merchant.getEmail() == null) continue;
+            notificationService.sendExpiredProducts(merchant.getEmail(), namesByMerchant.get(merchant.getId()));
+        }
+    }
+}
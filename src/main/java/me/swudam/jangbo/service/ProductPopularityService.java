@@ -0,0 +1,105 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.Order;
+import me.swudam.jangbo.entity.OrderProduct;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.support.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 상품 인기 지표 관리
+// - completedOrderCount: 픽업 완료된 주문 줄 수 (기존 인기순 집계와 같은 기준)
+// - trendingScore: 완료 시각 기준 지수 감쇠 점수 (반감기 jangbo.popularity.half-life-days)
+//   매번 전체 점수를 줄이는 대신 "고정 기준 시각(EPOCH)부터 커지는 가중치"를 더함
+//   -> exp((t - EPOCH) / tau) 를 더하면 상품 간 순위가 감쇠 점수 순위와 같음 (값 자체는 계속 커짐)
+//   -> 반감기 7일 기준 약 19년 뒤 double 범위를 넘으므로 그 전에 EPOCH를 옮기고 재계산
+// - 픽업 완료 시 일괄 UPDATE로 증가, 주문 상태 변경(탈퇴 등)으로 생기는 오차는 재계산 배치로 보정
+@Slf4j
+@Service
+public class ProductPopularityService {
+
+    private static final String JOB_NAME = "product-popularity-rebuild";
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long REBUILD_CHUNK = 1000; // 상품 id 구간 크기
+
+    private final ProductRepository productRepository;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final double tauSeconds;
+
+    public ProductPopularityService(ProductRepository productRepository,
+                                    RedisJobLock jobLock,
+                                    TransactionTemplate tx,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${jangbo.popularity.half-life-days:7}") double halfLifeDays) {
+        this.productRepository = productRepository;
+        this.jobLock = jobLock;
+        this.tx = tx;
+        this.eventPublisher = eventPublisher;
+        this.tauSeconds = halfLifeDays * 86400 / Math.log(2);
+    }
+
+    // 픽업 완료된 주문의 상품들 지표 증가 (주문 트랜잭션에 참여)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCompleted(Order order) {
+        Map<Long, Long> linesByProduct = order.getOrderProducts().stream()
+                .filter(op -> op.getProduct() != null)
+                .collect(Collectors.groupingBy(op -> op.getProduct().getId(), Collectors.counting()));
+        if (linesByProduct.isEmpty()) return;
+
+        double weight = trendingWeight(Instant.now());
+        // 같은 증가량끼리 묶어 UPDATE (보통 상품당 1줄 -> 쿼리 1번)
+        linesByProduct.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((count, productIds) ->
+                        productRepository.incrementPopularity(productIds, count, weight * count));
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(order.getOrderProducts().stream()
+                .map(OrderProduct::getProduct)
+                .filter(Objects::nonNull)
+                .toList()));
+    }
+
+    // 주문 이력으로 전체 재계산 (기본 매주 월요일 05:00, 상품 id 구간별 짧은 트랜잭션)
+    @Scheduled(cron = "${jangbo.popularity.rebuild-cron:0 0 5 * * MON}")
+    public void rebuild() {
+        Optional<String> token = jobLock.tryLock(JOB_NAME, Duration.ofHours(1));
+        if (token.isEmpty()) return;
+        try {
+            Long maxId = productRepository.findMaxId();
+            if (maxId == null) return;
+            long updated = 0;
+            for (long from = 1; from <= maxId; from += REBUILD_CHUNK) {
+                long fromId = from;
+                long toId = from + REBUILD_CHUNK - 1;
+                Integer n = tx.execute(status -> productRepository.rebuildPopularity(
+                        fromId, toId, EPOCH.getEpochSecond(), tauSeconds));
+                updated += n == null ? 0 : n;
+            }
+            log.info("product popularity rebuilt: {} products", updated);
+            eventPublisher.publishEvent(ProductChangedEvent.bulkUpdated());
+        } finally {
+            jobLock.unlock(JOB_NAME, token.get());
+        }
+    }
+
+    // 완료 시각의 트렌딩 가중치
+    private double trendingWeight(Instant completedAt) {
+        return Math.exp((completedAt.getEpochSecond() - EPOCH.getEpochSecond()) / tauSeconds);
+    }
+}
@@ -0,0 +1,387 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.util.BkTree;
+import me.swudam.jangbo.util.HangulJamo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 상품명 메모리 역색인 (LIKE '%kw%' 전체 스캔 대체)
+// - 색인 단위: 글자 1-gram + 2-gram (한글은 음절 단위라 2-gram만으로 대부분의 부분 검색이 걸러짐)
+// - 검색: 키워드의 n-gram 포스팅 교집합(가장 짧은 목록부터) -> 후보 이름에 실제 포함 여부 확인
+//   -> 결과는 DB의 대소문자 무시 LIKE 검색과 같음 (공백도 글자로 취급)
+// - 정렬/필터에 필요한 값(가격, 유통기한, 인기 지표, 판매 가능 여부 등)을 문서에 함께 보관 -> DB 조회 없이 id 순서 결정
+// - 갱신: ProductChangedEvent 커밋 후 SearchIndexUpdater가 upsert/remove, 기동 시 전체 재구성
+// - 초성 검색: 이름의 초성 문자열("ㄱㅅ ㄷㅂ")도 같은 방식으로 색인 (포스팅 키 앞에 CHOSEONG_KEY)
+// - 오타 허용 검색: 단어의 부분 문자열(2~6글자)을 자모로 분해해 BK-tree에 보관 -> 자모 편집 거리 이내 검색
+// - 쓰기는 synchronized로 직렬화, 읽기는 잠금 없음 (갱신 중 읽기는 최종 포함 여부 확인으로 보정)
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    // 색인 문서 (검색 정렬/필터용 스냅샷)
+    public record Doc(Long id, String name, String choseong, Long merchantId, Long storeId, Integer price, LocalDate expiryDate,
+                      LocalDateTime createdAt, long completedOrderCount, double trendingScore,
+                      boolean sellable, long version) {
+
+        // 커서 위치 비교용 문서 (정렬 키와 id만 채움)
+        public static Doc cursor(Long id, Integer price, LocalDate expiryDate, LocalDateTime createdAt,
+                                 long completedOrderCount, double trendingScore) {
+            return new Doc(id, null, null, null, null, price, expiryDate, createdAt,
+                    completedOrderCount, trendingScore, false, 0L);
+        }
+    }
+
+    private final boolean enabled;
+
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 초성 포스팅 키 접두어 (이름 n-gram과 구분)
+    private static final String CHOSEONG_KEY = "\u0001";
+
+    // 오타 허용 검색용 단어 조각
+    private static final int FUZZY_MIN_TERM = 2;
+    private static final int FUZZY_MAX_TERM = 6;
+    private final Map<String, Set<Long>> fuzzyTerms = new ConcurrentHashMap<>(); // 자모 조각 -> 상품 id
+    private volatile BkTree fuzzyTree = new BkTree();
+    private int deadFuzzyTerms = 0; // 트리에 남아 있지만 더 이상 쓰이지 않는 조각 수
+
+    // 재구성 중 삭제된 상품 (재구성이 먼저 읽은 스냅샷으로 되살리지 않도록)
+    private final Set<Long> removedWhileBuilding = ConcurrentHashMap.newKeySet();
+    // 재구성 중 반영된 상품 (재구성 청크 + 이벤트) -> 종료 시 여기 없는 문서만 제거
+    // (이미 읽은 청크 구간에 새로 생긴 상품/스캔 이후 커밋된 상품을 지우지 않도록, 노드별 시퀀스 id는 순서가 섞임)
+    private final Set<Long> upsertedWhileBuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+    private volatile boolean ready = false; // 최초 재구성 완료 여부
+
+    public ProductSearchIndex(@Value("${jangbo.search.index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // 색인 사용 가능 여부 (비활성/재구성 전에는 호출 측이 DB 검색으로 대체)
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /* 검색 */
+
+    // 부분 문자열 검색 + 정렬 -> 상품 id 목록
+    // - sort: recent / cheap / fresh / popular / trending (ProductService 정렬 키와 동일)
+    // - merchantId: null이면 전역
+    // - sellableOnly: 품절/재고 0 상품 제외
+    public List<Long> search(String keyword, String sort, Long merchantId, boolean sellableOnly) {
+        return search(List.of(keyword), sort, merchantId, sellableOnly);
+    }
+
+    // 여러 검색어(동의어 확장 결과) 중 하나라도 포함하는 상품 -> 합집합을 한 번에 정렬
+    public List<Long> search(Collection<String> keywords, String sort, Long merchantId, boolean sellableOnly) {
+        Map<Long, Doc> union = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            match(keyword, merchantId, sellableOnly).forEach(d -> union.putIfAbsent(d.id(), d));
+        }
+        List<Doc> matched = new ArrayList<>(union.values());
+        matched.sort(comparator(sort));
+        return matched.stream().map(Doc::id).toList();
+    }
+
+    // 커서 페이지 검색: 정렬 순서상 after 다음부터 limit건 (after가 null이면 첫 페이지)
+    // - after는 직전 페이지 마지막 문서의 정렬 키 -> 그 사이 삭제된 상품이 커서여도 이어서 조회
+    // - 유통기한이 availableOn 이전인 상품 제외 (DB 페이지 조회와 같은 조건)
+    public List<Doc> searchAfter(Collection<String> keywords, String sort, Long merchantId, LocalDate availableOn,
+                                 Doc after, int limit) {
+        Map<Long, Doc> union = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            match(keyword, merchantId, false).forEach(d -> union.putIfAbsent(d.id(), d));
+        }
+        Comparator<Doc> order = comparator(sort);
+        return union.values().stream()
+                .filter(d -> d.expiryDate() == null || !d.expiryDate().isBefore(availableOn))
+                .filter(d -> after == null || order.compare(d, after) > 0)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    // 오타 허용/초성 검색 (상위 limit건)
+    // - 초성만 입력: 초성 문자열 부분 일치 ("ㄷㅂ" -> 두부), 앞쪽 일치/짧은 이름 우선
+    // - 그 외: 검색어 단어마다 정확 일치(거리 0) 또는 자모 편집 거리 이내 조각을 포함하는 상품
+    //   -> 단어별 거리 합이 작은 순, 동률은 짧은 이름/트렌딩 점수 순
+    public List<Doc> searchFuzzy(String keyword, boolean sellableOnly, int limit) {
+        String q = normalize(keyword);
+        if (q.isEmpty()) return new ArrayList<>();
+
+        if (HangulJamo.isChoseongQuery(q)) {
+            List<Doc> matched = match(CHOSEONG_KEY, Doc::choseong, q, null, sellableOnly);
+            matched.sort(Comparator
+                    .comparingInt((Doc d) -> d.choseong().indexOf(q))
+                    .thenComparingInt(d -> d.name().length())
+                    .thenComparing(Doc::trendingScore, Comparator.reverseOrder())
+                    .thenComparing(Doc::id, Comparator.reverseOrder()));
+            return matched.size() > limit ? new ArrayList<>(matched.subList(0, limit)) : matched;
+        }
+
+        Map<Long, Integer> total = null;
+        for (String token : q.split("\\s+")) {
+            Map<Long, Integer> best = new HashMap<>();
+            for (Doc d : match("", Doc::name, token, null, sellableOnly)) {
+                best.put(d.id(), 0);
+            }
+            String jamo = HangulJamo.decompose(token);
+            int max = maxFuzzyDistance(jamo.length());
+            if (max > 0) {
+                fuzzyTree.search(jamo, max, (term, dist) -> {
+                    Set<Long> ids = fuzzyTerms.get(term);
+                    if (ids == null) return; // 지워진 조각
+                    ids.forEach(id -> best.merge(id, dist, Math::min));
+                });
+            }
+            if (total == null) {
+                total = best;
+            } else {
+                Map<Long, Integer> prev = total;
+                total = new HashMap<>();
+                for (Map.Entry<Long, Integer> e : best.entrySet()) {
+                    Integer before = prev.get(e.getKey());
+                    if (before != null) total.put(e.getKey(), before + e.getValue());
+                }
+            }
+            if (total.isEmpty()) return new ArrayList<>();
+        }
+
+        Map<Long, Integer> distances = total;
+        List<Doc> result = new ArrayList<>();
+        distances.keySet().forEach(id -> {
+            Doc d = docs.get(id);
+            if (d != null && (!sellableOnly || d.sellable())) result.add(d);
+        });
+        result.sort(Comparator
+                .comparingInt((Doc d) -> distances.get(d.id()))
+                .thenComparingInt(d -> d.name().length())
+                .thenComparing(Doc::trendingScore, Comparator.reverseOrder())
+                .thenComparing(Doc::id, Comparator.reverseOrder()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private List<Doc> match(String keyword, Long merchantId, boolean sellableOnly) {
+        return match("", Doc::name, normalize(keyword), merchantId, sellableOnly);
+    }
+
+    // 포스팅 교집합 + 실제 포함 여부 확인 (keyPrefix/field: 이름 색인 또는 초성 색인)
+    private List<Doc> match(String keyPrefix, Function<Doc, String> field, String q, Long merchantId, boolean sellableOnly) {
+        if (q.isEmpty()) return new ArrayList<>();
+
+        // 포스팅 목록을 짧은 순으로 -> 가장 짧은 목록만 순회하며 나머지에 포함되는지 확인
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(q)) {
+            Set<Long> ids = postings.get(keyPrefix + gram);
+            if (ids == null) return new ArrayList<>();
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Doc> result = new ArrayList<>();
+        Set<Long> smallest = lists.get(0);
+        for (Long id : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(id);
+            }
+            if (!inAll) continue;
+            Doc doc = docs.get(id);
+            if (doc == null || !field.apply(doc).contains(q)) continue; // 2-gram 조합 오탐 제거
+            if (merchantId != null && !merchantId.equals(doc.merchantId())) continue;
+            if (sellableOnly && !doc.sellable()) continue;
+            result.add(doc);
+        }
+        return result;
+    }
+
+    /* 갱신 */
+
+    // 추가/수정 (같은 상품의 더 높은 버전이 이미 있으면 무시 -> 재구성과 이벤트 반영 순서가 뒤바뀌어도 안전)
+    public synchronized void upsert(Product product) {
+        if (building) {
+            if (removedWhileBuilding.contains(product.getId())) return;
+            upsertedWhileBuilding.add(product.getId());
+        }
+        Doc next = toDoc(product);
+        Doc prev = docs.get(next.id());
+        if (prev != null && prev.version() > next.version()) return;
+
+        if (prev != null && !prev.name().equals(next.name())) {
+            unindex(prev);
+        }
+        docs.put(next.id(), next);
+        keys(next).forEach(g -> postings.computeIfAbsent(g, k -> ConcurrentHashMap.newKeySet()).add(next.id()));
+        for (String term : fuzzyTermsOf(next.name())) {
+            fuzzyTerms.computeIfAbsent(term, k -> {
+                if (!fuzzyTree.add(k)) deadFuzzyTerms--; // 지워졌던 조각 재사용
+                return ConcurrentHashMap.newKeySet();
+            }).add(next.id());
+        }
+    }
+
+    public synchronized void remove(Long productId) {
+        if (building) removedWhileBuilding.add(productId);
+        Doc prev = docs.remove(productId);
+        if (prev != null) {
+            unindex(prev);
+        }
+    }
+
+    // 전체 재구성 시작/종료 (기존 문서는 유지 -> 재구성 중에도 이전 결과로 응답 가능)
+    // - 재구성은 한 번에 하나만 (SearchIndexUpdater가 직렬화)
+    synchronized void beginRebuild() {
+        removedWhileBuilding.clear();
+        upsertedWhileBuilding.clear();
+        building = true;
+    }
+
+    // 재구성 중 한 번도 반영되지 않은 문서(재구성 청크에도 이벤트에도 없음 = 삭제된 상품) 제거 후 사용 시작
+    synchronized void finishRebuild() {
+        new ArrayList<>(docs.keySet()).stream()
+                .filter(id -> !upsertedWhileBuilding.contains(id))
+                .forEach(id -> {
+                    Doc prev = docs.remove(id);
+                    if (prev != null) unindex(prev);
+                });
+        compactFuzzyTree();
+        removedWhileBuilding.clear();
+        upsertedWhileBuilding.clear();
+        building = false;
+        ready = true;
+        log.info("product search index ready: {} products, {} grams", docs.size(), postings.size());
+    }
+
+    /* 내부 유틸 메서드 */
+    private void unindex(Doc doc) {
+        keys(doc).forEach(g -> unpost(postings, g, doc.id()));
+        for (String term : fuzzyTermsOf(doc.name())) {
+            if (unpost(fuzzyTerms, term, doc.id())) deadFuzzyTerms++;
+        }
+        if (deadFuzzyTerms > 1000 && deadFuzzyTerms > fuzzyTree.size() / 2) {
+            compactFuzzyTree();
+        }
+    }
+
+    // 포스팅에서 id 제거 -> 목록이 비어 키가 사라졌으면 true
+    private static boolean unpost(Map<String, Set<Long>> index, String key, Long id) {
+        boolean[] emptied = {false};
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            emptied[0] = ids.isEmpty();
+            return emptied[0] ? null : ids;
+        });
+        return emptied[0];
+    }
+
+    // BK-tree는 삭제가 없으므로 쓰이지 않는 조각이 쌓이면 살아 있는 조각으로 새로 구성해 교체
+    private void compactFuzzyTree() {
+        if (deadFuzzyTerms == 0) return;
+        BkTree tree = new BkTree();
+        fuzzyTerms.keySet().forEach(tree::add);
+        fuzzyTree = tree;
+        deadFuzzyTerms = 0;
+    }
+
+    // 검색어 자모 길이별 허용 거리 (두 글자 안팎은 1, 긴 검색어는 2)
+    private static int maxFuzzyDistance(int jamoLength) {
+        if (jamoLength <= 2) return 0;
+        return jamoLength <= 8 ? 1 : 2;
+    }
+
+    private static Doc toDoc(Product p) {
+        return new Doc(
+                p.getId(),
+                normalize(p.getName()),
+                HangulJamo.choseong(normalize(p.getName())),
+                p.getMerchant().getId(), // 프록시 식별자 -> 초기화 없음
+                p.getStore().getId(),
+                p.getPrice(),
+                p.getExpiryDate(),
+                p.getCreatedAt(),
+                p.getCompletedOrderCount() == null ? 0 : p.getCompletedOrderCount(),
+                p.getTrendingScore() == null ? 0 : p.getTrendingScore(),
+                // 판매 가능: 품절 아님 + 재고 1 이상
+                Boolean.FALSE.equals(p.getSoldOut()) && p.getStock() != null && p.getStock() > 0,
+                p.getVersion() == null ? 0 : p.getVersion()
+        );
+    }
+
+    static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 문서의 포스팅 키: 이름 n-gram + 초성 n-gram
+    private static Set<String> keys(Doc doc) {
+        Set<String> keys = grams(doc.name());
+        grams(doc.choseong()).forEach(g -> keys.add(CHOSEONG_KEY + g));
+        return keys;
+    }
+
+    // 오타 허용 검색 조각: 단어별 2~6글자 부분 문자열 (+ 더 긴 단어는 단어 전체)의 자모 분해
+    private static Set<String> fuzzyTermsOf(String name) {
+        Set<String> terms = new HashSet<>();
+        for (String token : name.split("\\s+")) {
+            int len = token.length();
+            for (int size = FUZZY_MIN_TERM; size <= Math.min(len, FUZZY_MAX_TERM); size++) {
+                for (int i = 0; i + size <= len; i++) {
+                    terms.add(HangulJamo.decompose(token.substring(i, i + size)));
+                }
+            }
+            if (len > FUZZY_MAX_TERM) terms.add(HangulJamo.decompose(token));
+        }
+        return terms;
+    }
+
+    // 색인용: 모든 1-gram + 2-gram
+    private static Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+            if (i + 1 < name.length()) grams.add(name.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 검색용: 한 글자면 1-gram, 그 이상이면 2-gram만
+    private static Set<String> queryGrams(String q) {
+        if (q.length() == 1) return Set.of(q);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < q.length(); i++) {
+            grams.add(q.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // ProductService 목록 정렬과 같은 순서 (동률은 id로 고정)
+    private static Comparator<Doc> comparator(String sort) {
+        Comparator<Doc> byCreatedDesc = Comparator.comparing(Doc::createdAt,
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+        Comparator<Doc> byIdDesc = Comparator.comparing(Doc::id, Comparator.reverseOrder());
+        return switch (sort == null ? "recent" : sort) {
+            case "cheap" -> Comparator.comparing(Doc::price).thenComparing(Doc::id);
+            case "fresh" -> Comparator.comparing(Doc::expiryDate, Comparator.reverseOrder()).thenComparing(byIdDesc);
+            case "popular" -> Comparator.comparingLong(Doc::completedOrderCount).reversed()
+                    .thenComparing(byCreatedDesc).thenComparing(byIdDesc);
+            case "trending" -> Comparator.comparingDouble(Doc::trendingScore).reversed().thenComparing(byIdDesc);
+            default -> byCreatedDesc.thenComparing(byIdDesc);
+        };
+    }
+}
@@ -2,19 +2,36 @@ package me.swudam.jangbo.service;
 
 import lombok.RequiredArgsConstructor;
 import me.swudam.jangbo.dto.ProductCreateRequestDto;
+import me.swudam.jangbo.dto.ProductInventoryBatchRequestDto;
+import me.swudam.jangbo.dto.ProductInventoryBatchResultDto;
+import me.swudam.jangbo.dto.ProductPageResponseDto;
+import me.swudam.jangbo.dto.ProductResponseDto;
 import me.swudam.jangbo.dto.ProductUpdateRequestDto;
 import me.swudam.jangbo.entity.Merchant;
-import me.swudam.jangbo.entity.OrderStatus;
 import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.event.ProductRestockedEvent;
+import me.swudam.jangbo.repository.CartItemRepository;
 import me.swudam.jangbo.repository.MerchantRepository;
+import me.swudam.jangbo.repository.ProductInventoryRepository;
 import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.ProductRow;
+import me.swudam.jangbo.repository.RestockSubscriptionRepository;
 import me.swudam.jangbo.repository.StoreRepository;
+import me.swudam.jangbo.support.ETags;
+import me.swudam.jangbo.support.KeysetCursor;
 import me.swudam.jangbo.support.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Locale;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 // 상품 도메인 서비스
 @Service
@@ -25,6 +42,18 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final MerchantRepository merchantRepository;
     private final StoreRepository storeRepository; // 주입 추가
+    private final CartItemRepository cartItemRepository; // 장바구니 가격 변동 표시 갱신용
+    private final ProductSearchIndex searchIndex; // 이름 검색 메모리 색인
+    private final SynonymDictionary synonyms; // 검색어 동의어/표기 확장
+    private final ProductCatalogCache catalogCache; // 고객 조회 응답/ETag 캐시
+    private final ProductSyncService productSyncService; // 삭제 기록 (앱 카탈로그 증분 동기화)
+    private final PriceHistoryService priceHistoryService; // 가격 변경 이력
+    private final RestockSubscriptionRepository restockSubscriptionRepository; // 상품 삭제 시 재입고 알림 신청 정리
+    private final ApplicationEventPublisher eventPublisher; // 상품 변경 -> 검색 색인 등 반영
+
+    // 커서 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     /* 조회 */
 
@@ -34,66 +63,211 @@ public class ProductService {
                 .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없거나 접근 권한이 없습니다."));
     }
 
-    // 단건 조회 (고객 전용: 소유권 미검증)
-    public Product getPublicProduct(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없습니다."));
-    }
-
     // 특정 상인 목록 정렬 조회 (상인/고객 공용: 상점 페이지)
-    // recent : 최신순, cheap : 저가순, fresh : 신선순 + popular : 인기순
+    // recent : 최신순, cheap : 저가순, fresh : 신선순 + popular : 인기순, trending : 최근 인기순
     public List<Product> getProductsByMerchant(Long merchantId, String sort) {
         String key = normalizeSort(sort);
         return switch (key) {
             case "recent" -> productRepository.findAllByMerchantIdOrderByCreatedAtDesc(merchantId);
             case "cheap" -> productRepository.findAllByMerchantIdOrderByPriceAsc(merchantId);
             case "fresh" -> productRepository.findAllByMerchantIdOrderByExpiryDateDesc(merchantId);
-            case "popular" -> productRepository.findPopularByMerchant(merchantId, OrderStatus.COMPLETED);
+            case "popular" -> productRepository.findAllByMerchantIdOrderByCompletedOrderCountDescCreatedAtDescIdDesc(merchantId);
+            case "trending" -> productRepository.findAllByMerchantIdOrderByTrendingScoreDescIdDesc(merchantId);
             default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + sort);
         };
     }
 
-    // 고객 전용 공개 조회
+    /* 고객 전용 공개 조회 (응답 DTO) */
+    // - 엔티티 대신 ProductRow로 조회 -> 영속성 컨텍스트 스냅샷/변경 감지/연관 프록시 없이 DTO로 변환
+    // - 단건/상인 목록/전역 목록은 ProductCatalogCache에 있으면 DB/트랜잭션 없이 반환 (SUPPORTS: 캐시 적중 시 커넥션을 잡지 않음)
+    // - 상품 변경 이벤트 커밋 후 해당 범위만 무효화
+    // - 목록/검색/페이지/ETag 집계는 유통기한 지난 상품 제외 (쿼리의 expiry_date 조건, 단건은 품절로 표시)
+
+    // 단건
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductResponseDto getPublicProductDto(Long productId) {
+        return catalogCache.product(productId, () -> productRepository.findRowById(productId)
+                .map(ProductResponseDto::from)
+                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없습니다.")));
+    }
+
     // 전역 목록 정렬
-    public List<Product> getPublicProducts(String sort) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductResponseDto> getPublicProductDtos(String sort) {
         String key = normalizeSort(sort);
-        return switch (key) {
-            case "recent" -> productRepository.findAllByOrderByCreatedAtDesc();
-            case "cheap" -> productRepository.findAllByOrderByPriceAsc();
-            case "fresh" -> productRepository.findAllByOrderByExpiryDateDesc();
-            case "popular" -> productRepository.findAllOrderByPopularity(OrderStatus.COMPLETED);
-            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + sort);
-        };
+        return catalogCache.globalList(key,
+                () -> ProductResponseDto.fromRows(productRepository.findRows(key, null, null, LocalDate.now())));
     }
 
-    // 전역 이름 검색 + 정렬 (고객 전용)
+    // 특정 상인 페이지용 공개 목록 (상인 전용 목록과 같은 정렬)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductResponseDto> getPublicProductDtosByMerchant(Long merchantId, String sort) {
+        String key = normalizeSort(sort);
+        return catalogCache.merchantList(merchantId, key,
+                () -> ProductResponseDto.fromRows(productRepository.findRows(key, merchantId, null, LocalDate.now())));
+    }
+
+    // 전역 이름 검색 + 정렬
     // - recent : 특정 상인 + 최신순 => merchantId 필수
     // - cheap : 전역 저가순
     // - fresh : 전역 신선순
-    public List<Product> searchPublicProducts(Long merchantId, String keyword, String sort) {
+    // - 검색 색인이 준비되어 있으면 동의어 확장 검색어 전체를 색인에서 한 번에 찾아 id 순서를 정하고 해당 상품만 조회
+    //   (색인 준비 전에는 원래 검색어로만 LIKE 검색)
+    public List<ProductResponseDto> searchPublicProductDtos(Long merchantId, String keyword, String sort) {
         final String q = (keyword == null) ? "" : keyword.trim();
         if (q.isEmpty()) {
             // 키워드가 없으면 전역 목록 동작으로 위임 -> AI 기능 구현시 예외처리 필요 !!!
-            return getPublicProducts(sort);
+            return getPublicProductDtos(sort);
         }
 
         String key = normalizeSort(sort);
-        return switch (key) {
-            case "recent" -> {
-                if (merchantId == null)
-                    throw new IllegalArgumentException("recent 검색은 merchantId가 필요합니다.");
-                yield productRepository.findByMerchantIdAndNameContainingIgnoreCaseOrderByCreatedAtDesc(merchantId, q);
-            }
-            case "cheap" -> productRepository.findByNameContainingIgnoreCaseOrderByPriceAsc(q);
-            case "fresh" -> productRepository.findByNameContainingIgnoreCaseOrderByExpiryDateDesc(q);
-            case "popular"  -> productRepository.findByNameOrderByPopularity(q, OrderStatus.COMPLETED);
-            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + sort);
-        };
+        if ("recent".equals(key) && merchantId == null) {
+            throw new IllegalArgumentException("recent 검색은 merchantId가 필요합니다.");
+        }
+        Long merchantFilter = "recent".equals(key) ? merchantId : null;
+        if (searchIndex.isReady()) {
+            return ProductResponseDto.fromRows(findRowsInOrder(searchIndex.search(expand(q), key, merchantFilter, false)));
+        }
+        return ProductResponseDto.fromRows(productRepository.findRows(key, merchantFilter, q, LocalDate.now()));
+    }
+
+    // 오타 허용/초성 검색 (입력마다 호출하는 용도)
+    // - "ㄷㅂ" -> 두부, "두뷰" -> 두부 처럼 관련도 순 상위 size건
+    // - 색인이 준비되기 전에는 일반 이름 검색(트렌딩순) 상위 size건으로 대체
+    public List<ProductResponseDto> searchFuzzyProductDtos(String keyword, Integer size) {
+        final String q = (keyword == null) ? "" : keyword.trim();
+        if (q.isEmpty()) return List.of();
+        int limit = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        if (!searchIndex.isReady()) {
+            return ProductResponseDto.fromRows(productRepository.findPage("trending", null, q, LocalDate.now(), null, limit));
+        }
+        return ProductResponseDto.fromRows(findRowsInOrder(searchIndex.searchFuzzy(q, false, limit).stream()
+                .map(ProductSearchIndex.Doc::id)
+                .toList()));
+    }
+
+    // 여러 검색어의 판매 가능 상품 한 번에 (장보기 목록)
+    // - 반환: 검색어(trim) -> 정렬된 상품 응답 목록, 요청 순서 유지
+    public Map<String, List<ProductResponseDto>> searchSellableProductDtos(Collection<String> keywords, String sort) {
+        Map<String, List<ProductResponseDto>> result = new LinkedHashMap<>();
+        sellableRows(keywords, normalizeSort(sort))
+                .forEach((q, rows) -> result.put(q, ProductResponseDto.fromRows(rows)));
+        return result;
+    }
+
+    /* 내부용 검색 (엔티티) */
+
+    // 판매 가능 상품 이름 검색 (AI 추천 등 내부용, 동의어 확장 포함)
+    // - sort: cheap / fresh 등 목록 정렬 키
+    public List<Product> searchSellableProducts(String keyword, String sort) {
+        final String q = (keyword == null) ? "" : keyword.trim();
+        if (q.isEmpty()) return List.of();
+        return searchSellableProducts(List.of(q), sort).getOrDefault(q, List.of());
+    }
+
+    // 여러 검색어의 판매 가능 상품을 한 번에 (AI 추천)
+    // - 반환: 검색어(trim) -> 정렬된 상품 목록 (상점 함께 로딩), 요청 순서 유지
+    // - 검색어별 결과는 조회 전용 행으로 구하고, 최종 결과 상품만 IN 쿼리 1번으로 엔티티 로딩
+    public Map<String, List<Product>> searchSellableProducts(Collection<String> keywords, String sort) {
+        Map<String, List<ProductRow>> rowsByKeyword = sellableRows(keywords, normalizeSort(sort));
+        Set<Long> ids = rowsByKeyword.values().stream()
+                .flatMap(List::stream)
+                .map(ProductRow::id)
+                .collect(Collectors.toSet());
+        Map<Long, Product> byId = ids.isEmpty() ? Map.of()
+                : productRepository.findAllWithStoreByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<String, List<Product>> result = new LinkedHashMap<>();
+        rowsByKeyword.forEach((q, rows) -> result.put(q,
+                rows.stream().map(r -> byId.get(r.id())).filter(Objects::nonNull).toList()));
+        return result;
+    }
+
+    /* 커서 페이지 조회 (고객 전용) */
+    // - 정렬 키 + id 키셋으로 size건만 조회 (size+1건을 읽어 다음 페이지 유무 판단)
+    // - 필터 규칙은 목록/검색 API와 동일 (검색 recent는 merchantId 필수, 나머지 정렬의 검색은 전역)
+
+    // 전역 목록 페이지
+    public ProductPageResponseDto getPublicProductPage(String sort, String cursor, Integer size) {
+        return page(normalizeSort(sort), null, null, cursor, size);
     }
 
-    // 특정 상인 페이지용 공개 목록 (고객 전용)
-    public List<Product> getPublicProductsByMerchant(Long merchantId, String sort) {
-        return getProductsByMerchant(merchantId, sort);  // 상점 페이지는 동일 로직 재사용
+    // 특정 상인 목록 페이지
+    public ProductPageResponseDto getPublicProductPageByMerchant(Long merchantId, String sort, String cursor, Integer size) {
+        return page(normalizeSort(sort), merchantId, null, cursor, size);
+    }
+
+    // 이름 검색 페이지 (키워드가 없으면 전역 목록 페이지)
+    public ProductPageResponseDto searchPublicProductPage(Long merchantId, String keyword, String sort, String cursor, Integer size) {
+        final String q = (keyword == null) ? "" : keyword.trim();
+        String key = normalizeSort(sort);
+        if (q.isEmpty()) {
+            return page(key, null, null, cursor, size);
+        }
+        if ("recent".equals(key)) {
+            if (merchantId == null)
+                throw new IllegalArgumentException("recent 검색은 merchantId가 필요합니다.");
+            return page(key, merchantId, q, cursor, size);
+        }
+        return page(key, null, q, cursor, size);
+    }
+
+    /* ETag (고객 조회 API의 조건부 GET 용) */
+    // 버전 값만 조회해서 ETag 계산 -> 변경 없으면 컨트롤러가 DTO 생성 없이 304 응답
+
+    // - 단건/상인 목록/전역 목록 ETag는 ProductCatalogCache에 보관 (검색어 ETag는 매번 계산)
+
+    // 단건 ETag: 상품 버전 + 가격 갱신 시각 (상품이 없으면 null -> 본 조회에서 404)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getPublicProductETag(Long productId) {
+        return catalogCache.productETag(productId, () -> productRepository.findVersionById(productId)
+                .map(v -> ETags.of("product", productId, v.getVersion(), v.getPriceUpdatedAt()))
+                .orElse(null));
+    }
+
+    // 특정 상인 목록 ETag
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getPublicProductsByMerchantETag(Long merchantId, String sort) {
+        String key = normalizeSort(sort);
+        return catalogCache.listETag(merchantId, key, () -> listETag("merchant:" + merchantId, key,
+                productRepository.aggregateVersionsByMerchant(merchantId, LocalDate.now())));
+    }
+
+    // 전역 이름 검색 ETag (키워드가 없으면 전역 목록 기준)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getSearchProductsETag(Long merchantId, String keyword, String sort) {
+        final String q = (keyword == null) ? "" : keyword.trim();
+        String key = normalizeSort(sort);
+        if (q.isEmpty()) {
+            // 키워드가 없으면 전역 목록 (merchantId 무관)
+            return catalogCache.listETag(null, key,
+                    () -> listETag("search:null:", key, productRepository.aggregateVersions(LocalDate.now())));
+        }
+        String scope = "search:" + merchantId + ":" + q;
+        if (searchIndex.isReady()) {
+            // 응답(searchPublicProductDtos)과 같은 id 목록 기준
+            return idsETag(scope, key, searchIndex.search(expand(q), key, "recent".equals(key) ? merchantId : null, false));
+        }
+        return listETag(scope, key, productRepository.aggregateVersionsByName(q, LocalDate.now()));
+    }
+
+    // 이름 검색 페이지 ETag
+    // - 색인 검색 페이지는 실제로 내려줄 페이지의 id만 집계 (전체 검색 결과를 매번 집계하지 않음)
+    // - 키워드가 없거나 색인 준비 전에는 목록/검색 ETag + 커서/크기
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getSearchProductPageETag(Long merchantId, String keyword, String sort, String cursor, Integer size) {
+        final String q = (keyword == null) ? "" : keyword.trim();
+        String key = normalizeSort(sort);
+        if (q.isEmpty() || !searchIndex.isReady()) {
+            return ETags.of(getSearchProductsETag(merchantId, keyword, sort), cursor, size);
+        }
+        if ("recent".equals(key) && merchantId == null) {
+            throw new IllegalArgumentException("recent 검색은 merchantId가 필요합니다.");
+        }
+        IndexPage page = indexPageDocs(key, "recent".equals(key) ? merchantId : null, q,
+                KeysetCursor.decode(cursor, key, cursorParsers(key)), pageLimit(size));
+        return ETags.of(idsETag("search:" + merchantId + ":" + q, key, page.ids()), page.hasNext());
     }
 
     /* CUD (상인 전용 */
@@ -127,7 +301,11 @@ public class ProductService {
                 .soldOut(false) // 등록 시 기본값
                 .build();
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        priceHistoryService.record(List.of(new PriceHistoryService.PriceChange(
+                saved.getId(), saved.getPrice(), saved.getPrice())), LocalDateTime.now());
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(saved));
+        return saved;
     }
 
     // 상품 수정
@@ -143,6 +321,9 @@ public class ProductService {
             throw new IllegalArgumentException("가격은 1원 이상이어야 합니다.");
         }
 
+        Integer oldPrice = product.getPrice();
+        boolean wasSoldOut = Boolean.TRUE.equals(product.getSoldOut());
+
         // 엔티티에 집약된 규칙 메서드 사용
         product.updateProduct(
                 dto.getName(),
@@ -153,6 +334,17 @@ public class ProductService {
                 dto.getImageUrl()
         );
 
+        // 가격이 바뀐 경우에만 이 상품을 담은 장바구니 줄의 가격 변동 표시 갱신 (product_id 인덱스 일괄 UPDATE)
+        if (!Objects.equals(oldPrice, dto.getPrice())) {
+            cartItemRepository.refreshPriceChanged(productId, dto.getPrice());
+            priceHistoryService.record(List.of(new PriceHistoryService.PriceChange(productId, oldPrice, dto.getPrice())),
+                    LocalDateTime.now());
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(product));
+        if (wasSoldOut) {
+            eventPublisher.publishEvent(ProductRestockedEvent.of(List.of(productId))); // 재입고 알림 (커밋 이후 비동기)
+        }
+
         return product; // JPA Dirty Checking
     }
 
@@ -162,6 +354,80 @@ public class ProductService {
         Product product = getProductById(merchantId, productId);
 
         productRepository.delete(product);
+        restockSubscriptionRepository.deleteAllByProductIdIn(List.of(productId));
+        productSyncService.recordDeleted(List.of(product));
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(product));
+    }
+
+    // 재고/가격 일괄 변경 (POS 재고 동기화 등)
+    // - 현재 값을 한 번에 잠금 조회 -> 빠진 상품이 있으면 전체 거부 (소유권 검증 1회)
+    // - 값이 실제로 바뀌는 상품만 CASE UPDATE 한 번으로 반영 (version + 1, 가격이 바뀐 상품만 priceUpdatedAt 갱신)
+    // - 재고 0은 품절 처리(markSoldOut과 같음), 품절 상품에 재고 1 이상은 품절 해제
+    // - 장바구니 가격 변동 표시 갱신, 변경 이벤트(캐시/색인 무효화)와 재입고 이벤트는 배치당 한 번
+    @Transactional
+    public ProductInventoryBatchResultDto updateInventory(Long merchantId, ProductInventoryBatchRequestDto dto) {
+        Map<Long, ProductInventoryBatchRequestDto.Item> items = new LinkedHashMap<>();
+        for (ProductInventoryBatchRequestDto.Item item : dto.getItems()) {
+            if (item.getStock() == null && item.getPrice() == null) {
+                throw new IllegalArgumentException("재고 또는 가격 중 하나는 입력해야 합니다. (productId=" + item.getProductId() + ")");
+            }
+            if (items.putIfAbsent(item.getProductId(), item) != null) {
+                throw new IllegalArgumentException("같은 상품이 중복되었습니다. (productId=" + item.getProductId() + ")");
+            }
+        }
+
+        List<ProductRepository.InventoryState> states = productRepository.lockInventory(merchantId, items.keySet());
+        if (states.size() != items.size()) {
+            Set<Long> found = states.stream()
+                    .map(ProductRepository.InventoryState::getProductId)
+                    .collect(Collectors.toSet());
+            List<Long> missing = items.keySet().stream().filter(id -> !found.contains(id)).toList();
+            throw new NotFoundException("상품을 찾을 수 없거나 접근 권한이 없습니다. " + missing);
+        }
+
+        List<ProductInventoryRepository.InventoryChange> changes = new ArrayList<>();
+        List<PriceHistoryService.PriceChange> priceChanges = new ArrayList<>();
+        List<Long> restockedIds = new ArrayList<>();
+        for (ProductRepository.InventoryState state : states) {
+            ProductInventoryBatchRequestDto.Item item = items.get(state.getProductId());
+            int stock = item.getStock() != null ? item.getStock() : state.getStock();
+            int price = item.getPrice() != null ? item.getPrice() : state.getPrice();
+            boolean soldOut = stock == 0;
+            boolean priceChanged = price != state.getPrice();
+            if (stock == state.getStock() && soldOut == Boolean.TRUE.equals(state.getSoldOut()) && !priceChanged) {
+                continue; // 바뀌는 값 없음 -> version 유지
+            }
+            changes.add(new ProductInventoryRepository.InventoryChange(
+                    state.getProductId(), stock, soldOut, price, priceChanged));
+            if (priceChanged) {
+                priceChanges.add(new PriceHistoryService.PriceChange(state.getProductId(), state.getPrice(), price));
+            }
+            if (Boolean.TRUE.equals(state.getSoldOut()) && !soldOut) {
+                restockedIds.add(state.getProductId());
+            }
+        }
+
+        List<Long> updatedIds = changes.stream().map(ProductInventoryRepository.InventoryChange::productId).toList();
+        List<Long> priceChangedIds = priceChanges.stream().map(PriceHistoryService.PriceChange::productId).toList();
+        if (!changes.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            productRepository.applyInventory(changes, now, Instant.now());
+            if (!priceChangedIds.isEmpty()) {
+                cartItemRepository.refreshPriceChangedIn(priceChangedIds);
+                priceHistoryService.record(priceChanges, now);
+            }
+            eventPublisher.publishEvent(ProductChangedEvent.upserted(merchantId, updatedIds));
+            if (!restockedIds.isEmpty()) {
+                eventPublisher.publishEvent(ProductRestockedEvent.of(restockedIds));
+            }
+        }
+
+        return ProductInventoryBatchResultDto.builder()
+                .requestedCount(items.size())
+                .updatedIds(updatedIds)
+                .unchangedCount(items.size() - updatedIds.size())
+                .priceChangedCount(priceChangedIds.size())
+                .build();
     }
 
     // 품절 처리 (재고를 강제로 0으로 만들고 soldOut = true)
@@ -170,15 +436,204 @@ public class ProductService {
     public Product markSoldOut(Long merchantId, Long productId) {
         Product product = getProductById(merchantId, productId);
         product.markSoldOut();
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(product));
         return product;
     }
 
 
     // 내부 유틸 메서드
+    // 동의어 확장 (정규화 결과가 비면 원래 검색어)
+    private List<String> expand(String q) {
+        List<String> terms = synonyms.expand(q);
+        return terms.isEmpty() ? List.of(q) : terms;
+    }
+
+    // id 순서대로 조회 (그 사이 삭제된 상품은 제외)
+    private List<ProductRow> findRowsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, ProductRow> byId = productRepository.findRowsByIdIn(ids, LocalDate.now()).stream()
+                .collect(Collectors.toMap(ProductRow::id, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // 검색어별 판매 가능 상품 (동의어 확장, 요청 순서 유지)
+    // - 색인 준비 시: 검색어별 id를 메모리 색인에서 구하고 합쳐서 IN 쿼리 1번
+    // - 색인 준비 전: 모든 검색어(동의어 포함)를 like ... or ... 쿼리 1번으로 읽고 메모리에서 검색어별로 나눔
+    private Map<String, List<ProductRow>> sellableRows(Collection<String> keywords, String sort) {
+        Map<String, List<String>> termsByKeyword = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            String q = (keyword == null) ? "" : keyword.trim();
+            if (!q.isEmpty()) termsByKeyword.putIfAbsent(q, expand(q));
+        }
+        Map<String, List<ProductRow>> result = new LinkedHashMap<>();
+        if (termsByKeyword.isEmpty()) return result;
+
+        if (searchIndex.isReady()) {
+            Map<String, List<Long>> idsByKeyword = new LinkedHashMap<>();
+            Set<Long> allIds = new LinkedHashSet<>();
+            termsByKeyword.forEach((q, terms) -> {
+                List<Long> ids = searchIndex.search(terms, sort, null, true);
+                idsByKeyword.put(q, ids);
+                allIds.addAll(ids);
+            });
+            Map<Long, ProductRow> byId = productRepository.findRowsByIdIn(allIds, LocalDate.now()).stream()
+                    .collect(Collectors.toMap(ProductRow::id, Function.identity()));
+            idsByKeyword.forEach((q, ids) -> result.put(q,
+                    ids.stream().map(byId::get).filter(Objects::nonNull).toList()));
+            return result;
+        }
+
+        List<ProductRow> candidates = productRepository.findSellableRowsByAnyNameContaining(
+                termsByKeyword.values().stream().flatMap(List::stream).toList(), LocalDate.now());
+        Comparator<ProductRow> order = rowOrder(sort);
+        termsByKeyword.forEach((q, terms) -> result.put(q, candidates.stream()
+                .filter(r -> {
+                    String name = r.name().toLowerCase(Locale.ROOT);
+                    return terms.stream().anyMatch(t -> name.contains(t.toLowerCase(Locale.ROOT)));
+                })
+                .sorted(order)
+                .toList()));
+        return result;
+    }
+
+    // 검색어 페이지는 색인이 준비되어 있으면 색인 순서(동의어 확장 포함) 기준 (준비 전에는 원래 검색어로 LIKE 키셋 조회)
+    private ProductPageResponseDto page(String sort, Long merchantId, String keyword, String cursor, Integer size) {
+        int limit = pageLimit(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, sort, cursorParsers(sort));
+        if (keyword != null && searchIndex.isReady()) {
+            return indexPage(sort, merchantId, keyword, after, limit);
+        }
+
+        List<ProductRow> rows = productRepository.findPage(sort, merchantId, keyword, LocalDate.now(), after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ProductRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = nextCursor(sort, last).encode();
+        }
+        return ProductPageResponseDto.builder()
+                .items(ProductResponseDto.fromRows(pageRows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 색인 검색 페이지
+    // - 색인이 정한 id 순서에서 커서 다음 limit+1건 -> 해당 id만 IN 쿼리 1번 (그 사이 삭제된 상품은 제외)
+    // - 다음 커서는 색인 문서 값으로 만듦 (DB 행이 빠져도 다음 페이지 위치 유지)
+    private ProductPageResponseDto indexPage(String sort, Long merchantId, String keyword, KeysetCursor after, int limit) {
+        IndexPage page = indexPageDocs(sort, merchantId, keyword, after, limit);
+        List<ProductRow> rows = findRowsInOrder(page.ids());
+        String nextCursor = null;
+        if (page.hasNext()) {
+            ProductSearchIndex.Doc last = page.docs().get(page.docs().size() - 1);
+            nextCursor = nextCursor(sort, last).encode();
+        }
+        return ProductPageResponseDto.builder()
+                .items(ProductResponseDto.fromRows(rows))
+                .nextCursor(nextCursor)
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    // 색인 검색 한 페이지 (본 조회와 ETag가 같은 페이지를 보도록 공용)
+    private record IndexPage(List<ProductSearchIndex.Doc> docs, boolean hasNext) {
+        List<Long> ids() {
+            return docs.stream().map(ProductSearchIndex.Doc::id).toList();
+        }
+    }
+
+    private IndexPage indexPageDocs(String sort, Long merchantId, String keyword, KeysetCursor after, int limit) {
+        List<ProductSearchIndex.Doc> docs = searchIndex.searchAfter(expand(keyword), sort, merchantId, LocalDate.now(),
+                cursorDoc(sort, after), limit + 1);
+        boolean hasNext = docs.size() > limit;
+        return new IndexPage(hasNext ? docs.subList(0, limit) : docs, hasNext);
+    }
+
+    private static int pageLimit(Integer size) {
+        return (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // 정렬 기준별 커서 값 형식 (nextCursor의 값 순서와 같음)
+    private static List<Function<String, ?>> cursorParsers(String sort) {
+        return switch (sort) {
+            case "cheap" -> List.of(Integer::valueOf);
+            case "fresh" -> List.of(LocalDate::parse);
+            case "popular" -> List.of(Long::valueOf, LocalDateTime::parse);
+            case "trending" -> List.of(Double::valueOf);
+            default -> List.of(LocalDateTime::parse);
+        };
+    }
+
+    private KeysetCursor nextCursor(String sort, ProductRow r) {
+        return switch (sort) {
+            case "cheap" -> KeysetCursor.of(sort, r.id(), r.price());
+            case "fresh" -> KeysetCursor.of(sort, r.id(), r.expiryDate());
+            case "popular" -> KeysetCursor.of(sort, r.id(), r.completedOrderCount(), r.createdAt());
+            case "trending" -> KeysetCursor.of(sort, r.id(), r.trendingScore());
+            default -> KeysetCursor.of(sort, r.id(), r.createdAt());
+        };
+    }
+
+    private KeysetCursor nextCursor(String sort, ProductSearchIndex.Doc d) {
+        return switch (sort) {
+            case "cheap" -> KeysetCursor.of(sort, d.id(), d.price());
+            case "fresh" -> KeysetCursor.of(sort, d.id(), d.expiryDate());
+            case "popular" -> KeysetCursor.of(sort, d.id(), d.completedOrderCount(), d.createdAt());
+            case "trending" -> KeysetCursor.of(sort, d.id(), d.trendingScore());
+            default -> KeysetCursor.of(sort, d.id(), d.createdAt());
+        };
+    }
+
+    // 커서 -> 색인 비교용 문서 (nextCursor의 역)
+    private static ProductSearchIndex.Doc cursorDoc(String sort, KeysetCursor c) {
+        if (c == null) return null;
+        return switch (sort) {
+            case "cheap" -> ProductSearchIndex.Doc.cursor(c.id(), c.value(0, Integer.class), null, null, 0L, 0d);
+            case "fresh" -> ProductSearchIndex.Doc.cursor(c.id(), null, c.value(0, LocalDate.class), null, 0L, 0d);
+            case "popular" -> ProductSearchIndex.Doc.cursor(c.id(), null, null,
+                    c.value(1, LocalDateTime.class), c.value(0, Long.class), 0d);
+            case "trending" -> ProductSearchIndex.Doc.cursor(c.id(), null, null, null, 0L, c.value(0, Double.class));
+            default -> ProductSearchIndex.Doc.cursor(c.id(), null, null, c.value(0, LocalDateTime.class), 0L, 0d);
+        };
+    }
+
+    // 인기순/트렌딩은 완료 주문 수에 따라 순서가 바뀌므로 popularitySum을 함께 반영
+    private String listETag(String scope, String sort, ProductRepository.VersionAggregate agg) {
+        boolean popularity = "popular".equals(sort) || "trending".equals(sort);
+        return ETags.of("products", scope, sort,
+                agg.getTotal(), agg.getVersionSum(), agg.getLastPriceUpdatedAt(), agg.getLastUpdatedAt(),
+                popularity ? agg.getPopularitySum() : null);
+    }
+
+    // id 목록 ETag: 집계 + id 순서 (같은 수/버전 합이라도 다른 상품이 들어오거나 순서가 바뀌면 달라짐)
+    private String idsETag(String scope, String sort, List<Long> ids) {
+        if (ids.isEmpty()) return ETags.of("products", scope, sort, 0);
+        return ETags.of(listETag(scope, sort, productRepository.aggregateVersionsByIdIn(ids, LocalDate.now())),
+                ids.hashCode());
+    }
+
+    // 목록 정렬과 같은 순서의 메모리 정렬 (동률은 id로 고정)
+    private static Comparator<ProductRow> rowOrder(String sort) {
+        Comparator<ProductRow> byIdDesc = Comparator.comparing(ProductRow::id, Comparator.reverseOrder());
+        Comparator<ProductRow> byCreatedDesc = Comparator.comparing(ProductRow::createdAt,
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+        return switch (sort) {
+            case "cheap" -> Comparator.comparing(ProductRow::price).thenComparing(ProductRow::id);
+            case "fresh" -> Comparator.comparing(ProductRow::expiryDate, Comparator.reverseOrder()).thenComparing(byIdDesc);
+            case "popular" -> Comparator.comparing(ProductRow::completedOrderCount, Comparator.reverseOrder())
+                    .thenComparing(byCreatedDesc).thenComparing(byIdDesc);
+            case "trending" -> Comparator.comparing(ProductRow::trendingScore, Comparator.reverseOrder()).thenComparing(byIdDesc);
+            default -> byCreatedDesc.thenComparing(byIdDesc);
+        };
+    }
+
     private String normalizeSort(String sort) {
         String key = (sort == null) ? "recent" : sort.toLowerCase(Locale.ROOT).trim();
         return switch (key) {
-            case "recent", "cheap", "fresh", "popular" -> key;
+            case "recent", "cheap", "fresh", "popular", "trending" -> key;
             default -> "recent";
         };
     }
@@ -0,0 +1,141 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.ProductResponseDto;
+import me.swudam.jangbo.dto.ProductSyncResponseDto;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.ProductTombstone;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.ProductRow;
+import me.swudam.jangbo.repository.ProductTombstoneRepository;
+import me.swudam.jangbo.support.RedisJobLock;
+import me.swudam.jangbo.support.SyncWatermark;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 고객 앱 상품 카탈로그 증분 동기화
+// - 변경분: products.updated_at (생성/수정/품절/재고 변동 모두 엔티티 저장으로 갱신) + 삭제 기록(product_tombstones)
+// - 워터마크 이후 ~ (지금 - 대기 구간) 이전 변경만 반환
+//   -> updated_at은 커밋 전에 찍히므로, 아직 커밋되지 않은 변경을 워터마크가 건너뛰지 않도록 최근 구간은 다음 요청으로 미룸
+//   -> updated_at 이후 대기 구간보다 늦게 커밋된 변경은 워터마크가 이미 지나가 다시 수정되거나 전체 동기화될 때까지 누락됨
+//      따라서 대기 구간 = max(settle-seconds, spring.transaction.default-timeout): 쓰기 트랜잭션 최대 시간보다 짧으면 안 됨
+//      (기본 300초 가정, 일괄 등록/유통기한 정리처럼 긴 트랜잭션도 이 안에 끝나도록 default-timeout으로 강제할 것)
+// - 삭제 기록은 retention-days 동안만 보관 -> 그보다 오래된 워터마크는 전체 동기화(fullSync)
+// - 인기 지표는 일괄 UPDATE로 updated_at을 바꾸지 않지만 응답 DTO에 포함되지 않으므로 동기화 대상 아님
+@Slf4j
+@Service
+public class ProductSyncService {
+
+    private static final String JOB_NAME = "product-tombstone-purge";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final int DEFAULT_SIZE = 500;
+    private static final int MAX_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductTombstoneRepository tombstoneRepository;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+
+    @Value("${jangbo.sync.settle-seconds:10}")
+    private long settleSeconds;
+    @Value("${spring.transaction.default-timeout:300s}")
+    private String maxTransactionTime; // 단위 없으면 초 (스프링 트랜잭션 설정과 같은 규칙)
+    @Value("${jangbo.sync.tombstone-retention-days:30}")
+    private long retentionDays;
+
+    public ProductSyncService(ProductRepository productRepository,
+                              ProductTombstoneRepository tombstoneRepository,
+                              RedisJobLock jobLock,
+                              TransactionTemplate tx) {
+        this.productRepository = productRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.jobLock = jobLock;
+        this.tx = tx;
+    }
+
+    // 상품 삭제 기록 (삭제 트랜잭션에 참여 -> 상품 삭제와 함께 커밋/롤백)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Collection<Product> products) {
+        if (products.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.saveAll(products.stream().map(p -> ProductTombstone.of(p, now)).toList());
+    }
+
+    // since 워터마크 이후 변경분 (없거나 보관 기간보다 오래되면 전체 동기화 첫 페이지)
+    @Transactional(readOnly = true)
+    public ProductSyncResponseDto changesSince(String since, Integer size) {
+        int limit = (size == null) ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        LocalDateTime now = LocalDateTime.now();
+        long settle = Math.max(settleSeconds, DurationStyle.detectAndParse(maxTransactionTime, ChronoUnit.SECONDS).toSeconds());
+        LocalDateTime until = now.minusSeconds(settle);
+
+        SyncWatermark from = SyncWatermark.decode(since);
+        boolean fullSync = from == null || from.deletionsAt().isBefore(now.minusDays(retentionDays));
+        if (fullSync) {
+            // 빈 카탈로그에서 시작 -> 상품은 처음부터, 지난 삭제 기록은 건너뜀
+            from = new SyncWatermark(BEGINNING, 0L, until, 0L);
+        }
+
+        List<ProductRow> rows = productRepository.findRowsUpdatedAfter(
+                from.productsAt(), from.productId(), until, limit + 1);
+        List<ProductTombstone> tombstones = tombstoneRepository.findAfter(
+                from.deletionsAt(), from.tombstoneId(), until, PageRequest.of(0, limit + 1));
+
+        // 다 읽은 쪽은 until까지 전진 (변경이 없어도 워터마크가 보관 기간 밖으로 밀려나지 않도록)
+        boolean moreRows = rows.size() > limit;
+        boolean moreTombstones = tombstones.size() > limit;
+        if (moreRows) rows = rows.subList(0, limit);
+        if (moreTombstones) tombstones = tombstones.subList(0, limit);
+
+        LocalDateTime productsAt = until;
+        long productId = 0L;
+        if (moreRows) {
+            ProductRow last = rows.get(rows.size() - 1);
+            productsAt = last.updatedAt();
+            productId = last.id();
+        }
+        LocalDateTime deletionsAt = until;
+        long tombstoneId = 0L;
+        if (moreTombstones) {
+            ProductTombstone last = tombstones.get(tombstones.size() - 1);
+            deletionsAt = last.getDeletedAt();
+            tombstoneId = last.getId();
+        }
+        SyncWatermark next = new SyncWatermark(productsAt, productId, deletionsAt, tombstoneId);
+        boolean hasMore = moreRows || moreTombstones;
+        return ProductSyncResponseDto.builder()
+                .fullSync(fullSync)
+                .upserted(ProductResponseDto.fromRows(rows))
+                .deletedIds(tombstones.stream().map(ProductTombstone::getProductId).distinct().toList())
+                .watermark(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // 보관 기간이 지난 삭제 기록 정리 (기본 매일 04:45)
+    @Scheduled(cron = "${jangbo.sync.tombstone-purge-cron:0 45 4 * * *}")
+    public void purgeTombstones() {
+        Optional<String> token = jobLock.tryLock(JOB_NAME, Duration.ofMinutes(30));
+        if (token.isEmpty()) return;
+        try {
+            LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+            Integer deleted = tx.execute(status -> tombstoneRepository.deleteDeletedBefore(before));
+            log.info("product tombstones purged: {}", deleted);
+        } finally {
+            jobLock.unlock(JOB_NAME, token.get());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package me.swudam.jangbo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.CustomerNotificationPageResponseDto;
+import me.swudam.jangbo.dto.RestockSubscriptionResponseDto;
+import me.swudam.jangbo.entity.CustomerNotification;
+import me.swudam.jangbo.entity.NotificationType;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.RestockSubscription;
+import me.swudam.jangbo.event.ProductRestockedEvent;
+import me.swudam.jangbo.repository.CustomerNotificationRepository;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.RestockSubscriptionRepository;
+import me.swudam.jangbo.support.NotFoundException;
+import me.swudam.jangbo.support.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+// 재입고 알림 (품절 상품 판매 재개 시 신청 고객에게 앱 알림 + 메일)
+// - 신청: 품절 상품에만, 고객 x 상품 1건 (중복 신청은 무시)
+// - 발송: ProductRestockedEvent 커밋 이후 전용 스레드 풀 대기열에 상품 단위로 넣고 바로 반환
+//   -> 상인 수정 트랜잭션/요청 스레드는 구독자 수와 무관
+// - 상품 하나의 발송은 jangbo.restock.notify.batch-size명씩:
+//   짧은 트랜잭션에서 "아직 판매 중인지 확인 -> 앱 알림 일괄 INSERT -> 신청 삭제" 후 커밋, 그 다음 메일을 한 SMTP 연결로 묶어 발송
+//   (커밋 후 발송 -> 중간에 실패/재시작해도 같은 고객에게 두 번 보내지 않음, 메일 실패는 기록만)
+// - 발송 도중 다시 품절되면 중단 (남은 신청은 다음 재입고 때 발송)
+// - 같은 상품 발송은 Redis 잠금으로 한 번에 하나만 (노드/스레드 간 불필요한 경합 방지)
+//   중복 발송 방지는 신청 행 선점(FOR UPDATE SKIP LOCKED + 같은 트랜잭션에서 삭제)이 담당 -> 잠금 TTL이 지나도 안전
+@Slf4j
+@Service
+public class RestockNotificationService {
+
+    private static final String LOCK_PREFIX = "restock-notify:";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private static final String NOTIFICATION_INSERT_SQL =
+            "insert into customer_notifications (customer_id, type, product_id, message, is_read, created_at) " +
+            "values (?, ?, ?, ?, false, ?)";
+
+    private final RestockSubscriptionRepository subscriptionRepository;
+    private final CustomerNotificationRepository notificationRepository;
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender mailSender;
+    private final RedisJobLock jobLock;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    public RestockNotificationService(RestockSubscriptionRepository subscriptionRepository,
+                                      CustomerNotificationRepository notificationRepository,
+                                      ProductRepository productRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      JavaMailSender mailSender,
+                                      RedisJobLock jobLock,
+                                      TransactionTemplate tx,
+                                      @Value("${jangbo.restock.notify.batch-size:500}") int batchSize,
+                                      @Value("${jangbo.restock.notify.threads:2}") int threads,
+                                      @Value("${jangbo.restock.notify.queue-capacity:1000}") int queueCapacity) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.notificationRepository = notificationRepository;
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mailSender = mailSender;
+        this.jobLock = jobLock;
+        this.tx = tx;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "restock-notify");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /* 신청/취소/조회 (고객) */
+    @Transactional
+    public void subscribe(Long customerId, Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new NotFoundException("상품을 찾을 수 없습니다."));
+        if (!Boolean.TRUE.equals(product.getSoldOut())) {
+            throw new IllegalStateException("품절된 상품만 재입고 알림을 신청할 수 있습니다.");
+        }
+        if (subscriptionRepository.existsByProductIdAndCustomerId(productId, customerId)) return;
+        subscriptionRepository.save(RestockSubscription.builder()
+                .productId(productId)
+                .customerId(customerId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional
+    public void unsubscribe(Long customerId, Long productId) {
+        subscriptionRepository.deleteByProductIdAndCustomerId(productId, customerId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RestockSubscriptionResponseDto> getSubscriptions(Long customerId) {
+        return subscriptionRepository.findSubscribedProducts(customerId).stream()
+                .map(s -> RestockSubscriptionResponseDto.builder()
+                        .productId(s.getProductId())
+                        .productName(s.getProductName())
+                        .price(s.getPrice())
+                        .soldOut(s.getSoldOut())
+                        .subscribedAt(s.getSubscribedAt())
+                        .build())
+                .toList();
+    }
+
+    /* 알림함 (고객) */
+    @Transactional(readOnly = true)
+    public CustomerNotificationPageResponseDto getNotifications(Long customerId, Long before, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<CustomerNotification> page = notificationRepository.findPage(
+                customerId, before == null ? Long.MAX_VALUE : before, PageRequest.of(0, limit));
+        return CustomerNotificationPageResponseDto.builder()
+                .notifications(page.stream()
+                        .map(n -> CustomerNotificationPageResponseDto.Item.builder()
+                                .id(n.getId())
+                                .type(n.getType())
+                                .productId(n.getProductId())
+                                .message(n.getMessage())
+                                .read(n.isRead())
+                                .createdAt(n.getCreatedAt())
+                                .build())
+                        .toList())
+                .unreadCount(notificationRepository.countByCustomerIdAndReadFalse(customerId))
+                .nextBefore(page.size() < limit ? null : page.get(page.size() - 1).getId())
+                .build();
+    }
+
+    @Transactional
+    public int markRead(Long customerId, Collection<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) return 0;
+        return notificationRepository.markRead(customerId, notificationIds);
+    }
+
+    /* 발송 (커밋 이후 대기열에 넣기만 함) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRestocked(ProductRestockedEvent event) {
+        for (Long productId : event.productIds()) {
+            try {
+                executor.execute(() -> notifySafely(productId));
+            } catch (RejectedExecutionException e) {
+                // 대기열 초과: 신청은 남아 있으므로 다음 재입고 때 발송
+                log.warn("restock notification queue full, skipped: productId={}", productId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /* 내부 유틸 메서드 */
+    private void notifySafely(Long productId) {
+        try {
+            notifySubscribers(productId);
+        } catch (RuntimeException e) {
+            log.warn("restock notification failed: productId={}", productId, e);
+        }
+    }
+
+    private void notifySubscribers(Long productId) {
+        String lockName = LOCK_PREFIX + productId;
+        Optional<String> token = jobLock.tryLock(lockName, Duration.ofMinutes(10));
+        if (token.isEmpty()) return; // 다른 노드/스레드가 발송 중
+        try {
+            int sent = 0;
+            while (true) {
+                Optional<Batch> batch = tx.execute(status -> claimBatch(productId));
+                if (batch == null || batch.isEmpty()) break;
+                sendMails(batch.get());
+                sent += batch.get().targets().size();
+            }
+            if (sent > 0) log.info("restock notifications sent: productId={}, customers={}", productId, sent);
+        } finally {
+            jobLock.unlock(lockName, token.get());
+        }
+    }
+
+    private record Batch(String productName, List<RestockSubscriptionRepository.RestockTarget> targets) {
+    }
+
+    // 한 묶음 알림 생성 + 신청 삭제 (판매 중이 아니거나 남은 신청이 없으면 empty)
+    private Optional<Batch> claimBatch(Long productId) {
+        Optional<Product> product = productRepository.findById(productId);
+        if (product.isEmpty() || Boolean.TRUE.equals(product.get().getSoldOut())) return Optional.empty();
+
+        // 행 잠금으로 선점 -> 잠금 TTL이 지나 다른 노드가 같은 상품을 발송해도 같은 신청은 한 번만
+        List<Long> claimed = subscriptionRepository.claimIds(productId, batchSize);
+        if (claimed.isEmpty()) return Optional.empty();
+        List<RestockSubscriptionRepository.RestockTarget> targets = subscriptionRepository.findTargetsByIdIn(claimed);
+
+        String name = product.get().getName();
+        String message = name + " 상품이 다시 입고되었습니다.";
+        LocalDateTime now = LocalDateTime.now();
+        if (!targets.isEmpty()) {
+            jdbcTemplate.batchUpdate(NOTIFICATION_INSERT_SQL, targets.stream()
+                    .map(t -> new Object[]{t.getCustomerId(), NotificationType.RESTOCK.name(), productId, message, now})
+                    .toList());
+        }
+        subscriptionRepository.deleteAllByIdIn(claimed); // 탈퇴 고객 신청도 함께 정리
+        return Optional.of(new Batch(name, targets));
+    }
+
+    // 한 묶음 메일 (JavaMailSender가 한 연결로 연속 발송)
+    private void sendMails(Batch batch) {
+        if (batch.targets().isEmpty()) return;
+        String subject = "[장보는친구] 재입고 알림: " + batch.productName();
+        String text = batch.productName() + " 상품이 다시 판매 중입니다.\n품절되기 전에 장보는친구에서 확인해 보세요.";
+        SimpleMailMessage[] messages = batch.targets().stream()
+                .map(t -> {
+                    SimpleMailMessage msg = new SimpleMailMessage();
+                    msg.setTo(t.getEmail());
+                    msg.setSubject(subject);
+                    msg.setText(text);
+                    return msg;
+                })
+                .toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+        } catch (Exception e) {
+            // 앱 알림은 이미 저장됨 -> 메일 실패는 기록만
+            log.warn("restock mail failed: product={}, recipients={}", batch.productName(), messages.length, e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package me.swudam.jangbo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.event.StoreChangedEvent;
+import me.swudam.jangbo.repository.ProductRepository;
+import me.swudam.jangbo.repository.StoreRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 검색 색인 갱신 (상품 검색 색인 + 자동완성 색인)
+// - 기동 완료 시 상품 id 순서 청크 + 상점 전체로 재구성
+// - 상품 변경은 커밋 이후 반영 (롤백된 변경이 색인에 남지 않도록), 최신 상태를 다시 읽어 upsert
+//   (커밋 이후 리스너는 끝난 트랜잭션의 영속성 컨텍스트가 아직 묶여 있어 오래된 관리 엔티티를 돌려받을 수 있음
+//    -> 새 읽기 전용 트랜잭션(REQUIRES_NEW)에서 다시 읽음)
+// - 트랜잭션 밖에서 발행된 이벤트(일괄 배치, 다른 노드 변경 등)는 즉시 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexUpdater {
+
+    private static final int REBUILD_CHUNK = 1000;
+
+    private final ProductSearchIndex index;
+    private final AutocompleteIndex autocompleteIndex;
+    private final ProductRepository productRepository;
+    private final StoreRepository storeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!index.isEnabled()) return;
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!index.isEnabled()) return;
+        try {
+            switch (event.type()) {
+                case DELETED -> event.productIds().forEach(id -> {
+                    index.remove(id);
+                    autocompleteIndex.removeProduct(id);
+                });
+                case BULK_UPDATED -> rebuild();
+                case UPSERTED -> freshReadTx().executeWithoutResult(status -> {
+                    Map<Long, Product> found = productRepository.findAllById(event.productIds()).stream()
+                            .collect(Collectors.toMap(Product::getId, Function.identity()));
+                    for (Long id : event.productIds()) {
+                        Product p = found.get(id);
+                        if (p == null) { // 그 사이 삭제됨
+                            index.remove(id);
+                            autocompleteIndex.removeProduct(id);
+                        } else {
+                            index.upsert(p);
+                            autocompleteIndex.upsertProduct(p);
+                        }
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            // 색인 갱신 실패가 이미 커밋된 요청을 실패로 만들지 않도록 기록만 (다음 재구성에서 보정)
+            log.warn("product search index update failed: {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (!index.isEnabled()) return;
+        try {
+            switch (event.type()) {
+                case DELETED -> autocompleteIndex.removeStore(event.storeId());
+                case UPSERTED -> freshReadTx().executeWithoutResult(status ->
+                        storeRepository.findById(event.storeId()).ifPresentOrElse(
+                                autocompleteIndex::upsertStore,
+                                () -> autocompleteIndex.removeStore(event.storeId())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("store autocomplete update failed: {}", event, e);
+        }
+    }
+
+    // 전체 재구성 (기존 색인은 재구성 중에도 계속 응답, 청크마다 새 읽기 전용 트랜잭션)
+    // - 한 번에 하나만: 진행 중에 다시 요청되면 기다리지 않고 표시만 -> 진행 중인 쪽이 끝난 뒤 한 번 더 실행
+    public void rebuild() {
+        rebuildRequested.set(true);
+        while (rebuildRequested.get() && rebuildLock.tryLock()) {
+            try {
+                if (rebuildRequested.getAndSet(false)) rebuildOnce();
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+
+    /* 내부 유틸 메서드 */
+    private void rebuildOnce() {
+        index.beginRebuild();
+        autocompleteIndex.beginRebuild();
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Product> chunk = freshReadTx().execute(status ->
+                    productRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, REBUILD_CHUNK)));
+            if (chunk.isEmpty()) break;
+            for (Product p : chunk) {
+                index.upsert(p);
+                autocompleteIndex.upsertProduct(p);
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < REBUILD_CHUNK) break;
+        }
+        index.finishRebuild();
+        List<Store> stores = freshReadTx().execute(status -> storeRepository.findAll());
+        stores.forEach(autocompleteIndex::upsertStore);
+        autocompleteIndex.finishRebuild();
+    }
+
+    // 커밋된 최신 상태를 읽기 위한 새 읽기 전용 트랜잭션
+    private TransactionTemplate freshReadTx() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(true);
+        return tx;
+    }
+}
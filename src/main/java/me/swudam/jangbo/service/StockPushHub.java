@@ -0,0 +1,231 @@
+package me.swudam.jangbo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.dto.StockUpdateDto;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 상품 재고/품절 실시간 푸시 (SSE)
+// - 구독: 클라이언트가 보고 있는 상품(상세/장바구니) id 목록으로 SseEmitter 등록 -> 다음 전송 주기에 현재 상태 1번
+// - 공급: ProductChangedEvent 커밋 후 (주문 재고 차감/복원, 상품 수정/품절, 일괄 변경, 다른 노드 변경 포함)
+//   -> 구독 중인 상품 id만 "변경됨"으로 표시 (이벤트마다 조회/전송하지 않음)
+// - 합치기: 주기(1초 / max-updates-per-second)마다 표시된 상품을 IN 쿼리 1번으로 읽고
+//   재고/품절/가격이 실제로 바뀐 상품만 전송 -> 상품당 초당 최대 N번, 주문이 몰려도 이벤트 수와 무관
+// - 전송: 상품별 메시지를 한 번만 직렬화해서 그 상품 구독자 전원에게 같은 문자열 전송, 실패한 구독은 제거
+// - 조회/전송은 전용 스레드 1개 (요청/스케줄러 스레드를 붙잡지 않고, 한 emitter에 동시에 쓰지 않음)
+// - heartbeat: 25초마다 주석 전송 (프록시 유휴 끊김 방지 + 끊긴 클라이언트 정리)
+@Slf4j
+@Component
+public class StockPushHub {
+
+    public static final int MAX_PRODUCTS_PER_SUBSCRIPTION = 100;
+    private static final long HEARTBEAT_MILLIS = 25_000;
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Set<Long> productIds;
+        final AtomicBoolean closed = new AtomicBoolean(); // 완료/타임아웃/오류/전송 실패가 겹쳐도 한 번만 정리
+
+        Subscriber(SseEmitter emitter, Set<Long> productIds) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final long intervalMillis;
+
+    private final Map<Long, Set<Subscriber>> byProduct = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Queue<Subscriber> joined = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<Long, String> lastSent = new HashMap<>(); // 전송 스레드 전용
+    private final ScheduledExecutorService executor;
+    private long lastHeartbeat = System.currentTimeMillis();
+
+    public StockPushHub(ProductRepository productRepository,
+                        ObjectMapper objectMapper,
+                        @Value("${jangbo.stock-push.timeout-minutes:30}") long timeoutMinutes,
+                        @Value("${jangbo.stock-push.max-subscribers:5000}") int maxSubscribers,
+                        @Value("${jangbo.stock-push.max-updates-per-second:2}") int maxUpdatesPerSecond) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.intervalMillis = 1000L / Math.max(1, maxUpdatesPerSecond);
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "stock-push");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /* 구독 */
+    public SseEmitter subscribe(Collection<Long> productIds) {
+        Set<Long> ids = productIds.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("구독할 상품 id를 입력하세요.");
+        }
+        if (ids.size() > MAX_PRODUCTS_PER_SUBSCRIPTION) {
+            throw new IllegalArgumentException("상품은 최대 " + MAX_PRODUCTS_PER_SUBSCRIPTION + "개까지 구독할 수 있습니다.");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 재고 구독이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, ids);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        ids.forEach(id -> byProduct.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(subscriber));
+        joined.add(subscriber);
+        return emitter;
+    }
+
+    /* 변경 표시 (커밋 이후) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (byProduct.isEmpty()) return;
+        if (event.type() == ProductChangedEvent.Type.BULK_UPDATED) {
+            dirty.addAll(byProduct.keySet());
+            return;
+        }
+        for (Long id : event.productIds()) {
+            if (byProduct.containsKey(id)) dirty.add(id);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        byProduct.values().stream().flatMap(Set::stream).distinct().forEach(s -> s.emitter.complete());
+    }
+
+    /* 전송 (전용 스레드) */
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("stock push flush failed", e);
+        }
+    }
+
+    private void flush() {
+        List<Subscriber> newcomers = new ArrayList<>();
+        for (Subscriber s; (s = joined.poll()) != null; ) {
+            if (!s.closed.get()) newcomers.add(s);
+        }
+        Set<Long> changed = new HashSet<>(dirty);
+        dirty.removeAll(changed);
+        changed.retainAll(byProduct.keySet());
+
+        Set<Long> toLoad = new HashSet<>(changed);
+        newcomers.forEach(s -> toLoad.addAll(s.productIds));
+        if (!toLoad.isEmpty()) {
+            Map<Long, String> messages = load(toLoad);
+            // 기존 구독자: 실제로 값이 바뀐 상품만
+            for (Long id : changed) {
+                String message = messages.get(id);
+                if (message.equals(lastSent.put(id, message))) continue;
+                for (Subscriber s : byProduct.getOrDefault(id, Set.of())) {
+                    if (!newcomers.contains(s)) send(s, message);
+                }
+            }
+            // 새 구독자: 구독한 상품 전부 현재 값
+            for (Subscriber s : newcomers) {
+                for (Long id : s.productIds) {
+                    String message = messages.get(id);
+                    lastSent.putIfAbsent(id, message);
+                    send(s, message);
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeat >= HEARTBEAT_MILLIS) {
+            lastHeartbeat = now;
+            byProduct.values().stream().flatMap(Set::stream).distinct().forEach(this::heartbeat);
+        }
+    }
+
+    // 상품 id -> 전송할 JSON (없는 상품은 삭제 메시지)
+    private Map<Long, String> load(Set<Long> ids) {
+        Map<Long, ProductRepository.InventoryState> states = productRepository.findInventoryByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductRepository.InventoryState::getProductId, Function.identity()));
+        Map<Long, String> messages = new HashMap<>();
+        for (Long id : ids) {
+            ProductRepository.InventoryState s = states.get(id);
+            messages.put(id, toJson(s == null ? StockUpdateDto.deleted(id)
+                    : StockUpdateDto.of(id, s.getStock(), s.getSoldOut(), s.getPrice())));
+        }
+        return messages;
+    }
+
+    private void send(Subscriber s, String message) {
+        if (s.closed.get()) return;
+        try {
+            s.emitter.send(SseEmitter.event().name("stock").data(message, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            remove(s);
+        }
+    }
+
+    private void heartbeat(Subscriber s) {
+        if (s.closed.get()) return;
+        try {
+            s.emitter.send(SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            remove(s);
+        }
+    }
+
+    private void remove(Subscriber s) {
+        if (!s.closed.compareAndSet(false, true)) return;
+        subscriberCount.decrementAndGet();
+        for (Long id : s.productIds) {
+            byProduct.computeIfPresent(id, (k, set) -> {
+                set.remove(s);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        // 구독자가 없어진 상품의 마지막 전송 값은 전송 스레드에서 정리 (종료 중이면 생략)
+        if (executor.isShutdown()) return;
+        try {
+            executor.execute(() -> lastSent.keySet().retainAll(byProduct.keySet()));
+        } catch (RejectedExecutionException e) {
+            // isShutdown 확인 직후 종료된 경우
+        }
+    }
+
+    private String toJson(StockUpdateDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package me.swudam.jangbo.service;
+
+import me.swudam.jangbo.dto.StoreCardResponseDto;
+import me.swudam.jangbo.event.StoreChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 상점 카드 목록 로컬 캐시 (전체 목록 1개 보관 -> 페이지는 잘라서 응답)
+// - 무효화: StoreChangedEvent 커밋 후 (다른 노드 변경도 CacheInvalidationBus가 같은 이벤트로 전달)
+// - 별점은 리뷰 작성/삭제로 바뀌지만 이벤트가 없으므로 TTL(기본 5분)만큼 늦게 반영
+// - 조회 중 변경이 커밋되면 읽은 값을 보관하지 않음 (ProductCatalogCache와 같은 세대 번호 비교)
+@Component
+public class StoreCardCache {
+
+    private record Cached(List<StoreCardResponseDto> cards, Instant loadedAt) {
+    }
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final AtomicReference<Cached> cached = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong(); // 무효화마다 증가
+
+    public StoreCardCache(@Value("${jangbo.store.cards.cache.enabled:true}") boolean enabled,
+                          @Value("${jangbo.store.cards.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /* 조회 (없거나 만료되면 loader로 읽어서 보관) */
+    public List<StoreCardResponseDto> cards(Supplier<List<StoreCardResponseDto>> loader) {
+        if (!enabled) return loader.get();
+        Cached c = cached.get();
+        if (c != null && c.loadedAt().plus(ttl).isAfter(Instant.now())) {
+            return c.cards();
+        }
+        long before = generation.get();
+        List<StoreCardResponseDto> cards = List.copyOf(loader.get());
+        // 읽는 동안 무효화가 없었을 때만 보관
+        if (generation.get() == before) {
+            cached.set(new Cached(cards, Instant.now()));
+        }
+        return cards;
+    }
+
+    /* 무효화 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        generation.incrementAndGet();
+        cached.set(null);
+    }
+}
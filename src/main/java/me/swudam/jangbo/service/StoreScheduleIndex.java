@@ -0,0 +1,191 @@
+package me.swudam.jangbo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.entity.DayOff;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.event.StoreChangedEvent;
+import me.swudam.jangbo.repository.StoreRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 상점 주간 영업 시간 메모리 색인 ("지금 영업 중" / "T 시각에 영업 중" 필터, 주문 시 영업 확인)
+// - 한 주를 월요일 00:00부터 분 단위(0 ~ 10079)로 펴고, 상점마다 휴무가 아닌 요일의 [오픈, 마감) 구간을 만듦
+//   (마감 <= 오픈이면 자정을 넘겨 다음 날 마감, 같으면 24시간 / 일요일 밤 -> 월요일 새벽은 두 구간으로 나눔)
+// - 상점별 구간 배열 + 한 주 168칸(시간 단위) 후보 집합만 보관 -> 메모리는 상점 수에 비례 (구간 경계 수와 무관)
+//   조회: 해당 시간 칸의 후보만 상점 구간 이진 탐색으로 확인 / 단건 확인은 그 상점 구간만 이진 탐색
+// - 갱신: 기동 완료 시 + 주기적으로 전체 구성, 그 사이 StoreChangedEvent(상점 등록/수정/삭제, 다른 노드 변경 포함) 커밋 후
+//   해당 상점의 구간과 시간 칸만 바꿈 (전체 재계산 없음)
+//   -> 이벤트 반영이 실패하거나 다른 노드 이벤트를 놓쳐도(Redis pub/sub은 유실 가능) 다음 주기 재구성에서 복구
+// - 오픈/마감 시간이 없는 상점은 색인에서 제외 ("영업 중" 필터에는 안 보이고, 주문 확인에서는 막지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreScheduleIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final int HOURS_PER_WEEK = MINUTES_PER_WEEK / 60;
+
+    // 색인 본체 (전체 재구성 시 새로 만들어 교체, 이벤트 반영은 현재 본체를 부분 수정)
+    // - intervals: 상점 id -> 시작분 오름차순 구간 [시작0, 끝0, 시작1, 끝1, ...] (불변 배열, 통째로 교체)
+    // - byHour: 주 시간 칸(0 ~ 167) -> 그 시간 안에 한 번이라도 영업하는 상점 (조회 후보)
+    private record Index(Map<Long, int[]> intervals, List<Set<Long>> byHour) {
+        static Index empty() {
+            List<Set<Long>> byHour = new ArrayList<>(HOURS_PER_WEEK);
+            for (int h = 0; h < HOURS_PER_WEEK; h++) byHour.add(ConcurrentHashMap.newKeySet());
+            return new Index(new ConcurrentHashMap<>(), byHour);
+        }
+    }
+
+    private final StoreRepository storeRepository;
+
+    private volatile Index index = Index.empty(); // 변경은 synchronized(this), 조회는 잠금 없음
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 주기 재구성 (놓친 이벤트/반영 실패 복구)
+    @Scheduled(cron = "${jangbo.store.schedule.rebuild-cron:0 */10 * * * *}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("store schedule index rebuild failed", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case DELETED -> remove(event.storeId());
+                case UPSERTED -> storeRepository.findWithDayOffById(event.storeId()).ifPresentOrElse(
+                        s -> upsert(s.getId(), s.getOpenTime(), s.getCloseTime(), s.getDayOff()),
+                        () -> remove(event.storeId()));
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기 재구성에서 복구
+            log.warn("store schedule index update failed: {}", event, e);
+        }
+    }
+
+    /* 조회 */
+    // at 시각에 영업 중인 상점 id (불변 집합)
+    public Set<Long> openStoreIds(LocalDateTime at) {
+        Index idx = index;
+        int t = minuteOfWeek(at);
+        Set<Long> open = new HashSet<>();
+        for (Long storeId : idx.byHour().get(t / 60)) {
+            int[] iv = idx.intervals().get(storeId);
+            if (iv != null && isOpen(iv, t)) open.add(storeId);
+        }
+        return Collections.unmodifiableSet(open);
+    }
+
+    // 영업 시간이 등록되어 있고 at 시각에 영업 중이 아니면 true (시간 미등록 상점은 false)
+    public boolean isClosed(Long storeId, LocalDateTime at) {
+        int[] iv = index.intervals().get(storeId);
+        return iv != null && !isOpen(iv, minuteOfWeek(at));
+    }
+
+    /* 갱신 */
+    // 전체 재구성 (상점 스칼라 조회 1번 + 휴무 요일 1번) -> 새 본체로 교체
+    public synchronized void rebuild() {
+        Map<Long, Set<DayOff>> dayOffs = storeRepository.findAllDayOffs().stream()
+                .collect(Collectors.groupingBy(StoreRepository.StoreDayOffRow::getStoreId,
+                        Collectors.mapping(r -> DayOff.valueOf(r.getDayOff()), Collectors.toSet())));
+        Index next = Index.empty();
+        for (StoreRepository.StoreCardRow row : storeRepository.findCardRows()) {
+            put(next, row.getStoreId(), weeklyIntervals(row.getOpenTime(), row.getCloseTime(),
+                    dayOffs.getOrDefault(row.getStoreId(), Set.of())));
+        }
+        index = next;
+        log.debug("store schedule index built: {} stores", next.intervals().size());
+    }
+
+    public synchronized void upsert(Long storeId, LocalTime openTime, LocalTime closeTime, Set<DayOff> dayOff) {
+        put(index, storeId, weeklyIntervals(openTime, closeTime, dayOff));
+    }
+
+    public synchronized void remove(Long storeId) {
+        put(index, storeId, null);
+    }
+
+    /* 내부 유틸 메서드 */
+    // 한 상점의 구간 교체 (null이면 제거)
+    // - 새 시간 칸에 먼저 넣고 빠진 칸만 제거 -> 동시 조회는 이전/새 구간 중 하나로 판단
+    private static void put(Index idx, Long storeId, int[] intervals) {
+        int[] prev = (intervals == null) ? idx.intervals().remove(storeId) : idx.intervals().put(storeId, intervals);
+        BitSet hours = hours(intervals);
+        BitSet stale = hours(prev);
+        stale.andNot(hours);
+        hours.stream().forEach(h -> idx.byHour().get(h).add(storeId));
+        stale.stream().forEach(h -> idx.byHour().get(h).remove(storeId));
+    }
+
+    // 구간이 걸치는 시간 칸
+    private static BitSet hours(int[] intervals) {
+        BitSet hours = new BitSet(HOURS_PER_WEEK);
+        if (intervals == null) return hours;
+        for (int i = 0; i < intervals.length; i += 2) {
+            hours.set(intervals[i] / 60, (intervals[i + 1] - 1) / 60 + 1);
+        }
+        return hours;
+    }
+
+    // t가 [시작, 끝) 구간 중 하나에 속하는지 (시작 <= t 인 마지막 구간만 확인, 구간은 겹치지 않음)
+    private static boolean isOpen(int[] intervals, int t) {
+        int lo = 0, hi = intervals.length / 2 - 1, found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (intervals[mid * 2] <= t) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found >= 0 && t < intervals[found * 2 + 1];
+    }
+
+    // 한 주의 영업 구간 [시작분, 끝분)을 시작 순으로 편 배열 (시간 미등록이면 null)
+    private static int[] weeklyIntervals(LocalTime openTime, LocalTime closeTime, Set<DayOff> dayOff) {
+        if (openTime == null || closeTime == null) return null;
+        int open = openTime.getHour() * 60 + openTime.getMinute();
+        int close = closeTime.getHour() * 60 + closeTime.getMinute();
+        int length = close > open ? close - open : close - open + MINUTES_PER_DAY; // 같으면 24시간
+
+        List<int[]> intervals = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (dayOff.stream().anyMatch(d -> d.name().equals(day.name()))) continue;
+            int start = (day.getValue() - 1) * MINUTES_PER_DAY + open;
+            int end = start + length;
+            if (end <= MINUTES_PER_WEEK) {
+                intervals.add(new int[]{start, end});
+            } else { // 일요일 밤 -> 월요일 새벽
+                intervals.add(new int[]{start, MINUTES_PER_WEEK});
+                intervals.add(new int[]{0, end - MINUTES_PER_WEEK});
+            }
+        }
+        intervals.sort(Comparator.comparingInt(iv -> iv[0]));
+        return intervals.stream().flatMapToInt(Arrays::stream).toArray();
+    }
+
+    private static int minuteOfWeek(LocalDateTime at) {
+        return (at.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + at.getHour() * 60 + at.getMinute();
+    }
+}
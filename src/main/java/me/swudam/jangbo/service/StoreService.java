@@ -3,10 +3,14 @@ package me.swudam.jangbo.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.dto.StoreCardPageResponseDto;
+import me.swudam.jangbo.dto.StoreCardResponseDto;
 import me.swudam.jangbo.dto.StoreFormDto;
 import me.swudam.jangbo.entity.DayOff;
 import me.swudam.jangbo.entity.Merchant;
 import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.event.StoreChangedEvent;
+import me.swudam.jangbo.repository.MarkdownRuleRepository;
 import me.swudam.jangbo.repository.MerchantRepository;
 import me.swudam.jangbo.repository.StoreRepository;
 import me.swudam.jangbo.support.NotFoundException;
@@ -15,11 +19,13 @@ import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,12 +36,20 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final MerchantRepository merchantRepository;
+    private final MarkdownRuleRepository markdownRuleRepository; // 상점 삭제 시 마감 할인 규칙 정리
+    private final ApplicationEventPublisher eventPublisher; // 상점 변경 -> 자동완성 색인/캐시 반영
+    private final ReviewService reviewService; // 상점 카드 평균 별점 (일괄 조회)
+    private final StoreCardCache storeCardCache; // 상점 카드 목록 캐시
+    private final StoreScheduleIndex storeScheduleIndex; // 영업 중 필터
 
     // AI 호출용 (Spring AI) — AiConfig 에서 주입됨
     private final ChatClient chatClient;
 
     private final ObjectMapper om = new ObjectMapper();
 
+    private static final int DEFAULT_CARD_PAGE_SIZE = 20;
+    private static final int MAX_CARD_PAGE_SIZE = 100;
+
 
     @Value("${uploadPath}")
     private String uploadPath;
@@ -96,6 +110,7 @@ public class StoreService {
         }
 
         storeRepository.save(store);
+        eventPublisher.publishEvent(StoreChangedEvent.upserted(store));
         return store.getId();
     }
 
@@ -167,6 +182,7 @@ public class StoreService {
         }
 
         storeRepository.save(store);
+        eventPublisher.publishEvent(StoreChangedEvent.upserted(store));
     }
 
     /* D: 상점 삭제 */
@@ -174,7 +190,9 @@ public class StoreService {
     public void deleteStore(Long storeId) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotFoundException("상점을 찾을 수 없습니다."));
+        markdownRuleRepository.deleteAllByStoreId(storeId);
         storeRepository.delete(store);
+        eventPublisher.publishEvent(StoreChangedEvent.deleted(store));
     }
 
     /* 상점 리스트 정렬 - 최신순, 인기순 */
@@ -199,6 +217,60 @@ public class StoreService {
         return storeFormDtos;
     }
 
+    /* 상점 카드 목록 (최신순 + 평균 별점, 페이지) */
+    // - 상점 수와 무관하게 쿼리 3번: 상점 스칼라 조회 1 + 휴무 요일 전체 1 + 평균 별점 IN 집계 1
+    //   (StoreFormDto.of처럼 상점마다 휴무 컬렉션/상인 프록시를 읽지 않음)
+    // - 전체 목록을 한 번에 캐시하고 페이지는 잘라서 응답 (상점 수는 상품보다 훨씬 적음)
+    // - openAt이 있으면 그 시각에 영업 중인 상점만 (영업 시간 색인 조회 1번, 상점별 시간 계산 없음)
+    @Transactional(readOnly = true)
+    public StoreCardPageResponseDto getStoreCards(Integer page, Integer size, LocalDateTime openAt) {
+        int p = page == null ? 0 : Math.max(page, 0);
+        int limit = size == null ? DEFAULT_CARD_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_CARD_PAGE_SIZE);
+
+        List<StoreCardResponseDto> cards = storeCardCache.cards(this::loadStoreCards);
+        if (openAt != null) {
+            Set<Long> open = storeScheduleIndex.openStoreIds(openAt);
+            cards = cards.stream().filter(c -> open.contains(c.getStoreId())).toList();
+        }
+        int from = (int) Math.min((long) p * limit, cards.size());
+        int to = Math.min(from + limit, cards.size());
+        return StoreCardPageResponseDto.builder()
+                .stores(cards.subList(from, to))
+                .page(p)
+                .size(limit)
+                .totalCount(cards.size())
+                .hasNext(to < cards.size())
+                .build();
+    }
+
+    private List<StoreCardResponseDto> loadStoreCards() {
+        List<StoreRepository.StoreCardRow> rows = storeRepository.findCardRows();
+        if (rows.isEmpty()) return List.of();
+
+        Map<Long, List<DayOff>> dayOffs = storeRepository.findAllDayOffs().stream()
+                .collect(Collectors.groupingBy(StoreRepository.StoreDayOffRow::getStoreId,
+                        Collectors.mapping(r -> DayOff.valueOf(r.getDayOff()), Collectors.toList())));
+        Map<Long, Double> ratings = reviewService.getStoreAverageRatings(
+                rows.stream().map(StoreRepository.StoreCardRow::getStoreId).toList());
+
+        return rows.stream()
+                .map(r -> StoreCardResponseDto.builder()
+                        .storeId(r.getStoreId())
+                        .merchantId(r.getMerchantId())
+                        .storeName(r.getStoreName())
+                        .storeImgPath(r.getStoreImgPath())
+                        .storeAddress(r.getStoreAddress())
+                        .openTime(r.getOpenTime())
+                        .closeTime(r.getCloseTime())
+                        .dayOff(dayOffs.getOrDefault(r.getStoreId(), List.of()).stream().sorted().toList())
+                        .storePhoneNumber(r.getStorePhoneNumber())
+                        .category(r.getCategory())
+                        .tagline(Objects.requireNonNullElse(r.getTagline(), ""))
+                        .averageRating(ratings.getOrDefault(r.getStoreId(), 0.0))
+                        .build())
+                .toList();
+    }
+
     /* AI: 한 줄 소개 추천 */
     // 입력: 상점명, 카테고리(선택), 키워드들(선택)
     // 출력: 길이 80자 이하의 한국어 문장 3개 내외
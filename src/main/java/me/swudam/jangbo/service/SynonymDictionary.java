@@ -0,0 +1,129 @@
+package me.swudam.jangbo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 검색어 동의어/표기 사전 (기본: classpath:search/synonyms.txt)
+// - 동의어 묶음: "계란, 달걀" -> 어느 쪽으로 검색해도 둘 다 찾음
+// - 표기 차이: 대소문자/공백 무시하고 비교, 공백을 뺀 형태도 함께 검색 ("방울 토마토" -> "방울토마토")
+// - 수량 단위 제거: "대파 1단", "우유 1L" -> "대파", "우유"
+// - 확장 결과는 검색 색인에 한 번에 넘겨 합집합으로 조회 (동의어마다 쿼리하지 않음)
+@Slf4j
+@Component
+public class SynonymDictionary {
+
+    private static final int MAX_VARIANTS = 16; // 단어별 치환 조합 상한
+
+    private final Map<String, List<String>> groups = new HashMap<>(); // 공백 없는 소문자 -> 같은 묶음 단어들
+    private final Pattern unitPattern;
+
+    public SynonymDictionary(ResourceLoader resourceLoader,
+                             @Value("${jangbo.search.synonyms-location:classpath:search/synonyms.txt}") String location) {
+        List<String> units = new ArrayList<>();
+        Resource resource = resourceLoader.getResource(location);
+        if (resource.exists()) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) continue;
+                    if (line.startsWith("unit:")) {
+                        units.addAll(split(line.substring("unit:".length())));
+                    } else {
+                        addGroup(split(line));
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("synonym dictionary load failed: {}", location, e);
+            }
+        } else {
+            log.warn("synonym dictionary not found: {}", location);
+        }
+        // 긴 단위부터 (kg이 g보다 먼저), 뒤에 영문이 이어지면 단위로 보지 않음
+        String alternation = units.stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        this.unitPattern = units.isEmpty() ? null
+                : Pattern.compile("\\d+(?:\\.\\d+)?\\s*(?:" + alternation + ")(?![a-z])", Pattern.CASE_INSENSITIVE);
+        log.info("synonym dictionary loaded: {} words, {} units", groups.size(), units.size());
+    }
+
+    // 검색어 확장 -> 첫 번째가 정규화된 원래 검색어 (정규화 결과가 비면 빈 목록)
+    public List<String> expand(String keyword) {
+        String base = normalize(keyword);
+        if (base.isEmpty()) return List.of();
+
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(base);
+        // 검색어 전체가 사전 단어인 경우 ("방울 토마토")
+        variants.addAll(groups.getOrDefault(compact(base), List.of()));
+        // 단어별 치환 ("유기농 계란" -> "유기농 달걀")
+        String[] tokens = base.split(" ");
+        if (tokens.length > 1) {
+            List<String> combos = List.of("");
+            for (String token : tokens) {
+                List<String> options = groups.getOrDefault(compact(token), List.of(token));
+                List<String> next = new ArrayList<>();
+                for (String prefix : combos) {
+                    for (String option : options) {
+                        if (next.size() >= MAX_VARIANTS) break;
+                        next.add(prefix.isEmpty() ? option : prefix + " " + option);
+                    }
+                }
+                combos = next;
+            }
+            variants.addAll(combos);
+        }
+        // 띄어쓰기 차이: 공백을 뺀 형태
+        new ArrayList<>(variants).forEach(v -> variants.add(compact(v)));
+        return List.copyOf(variants);
+    }
+
+    // 정규화: 소문자 + 수량 단위 제거 + 공백 하나로
+    public String normalize(String keyword) {
+        if (keyword == null) return "";
+        String s = keyword.toLowerCase(Locale.ROOT);
+        if (unitPattern != null) {
+            String stripped = unitPattern.matcher(s).replaceAll(" ");
+            if (!stripped.isBlank()) s = stripped; // 단위만 있는 검색어는 그대로
+        }
+        return s.trim().replaceAll("\\s+", " ");
+    }
+
+    /* 내부 유틸 메서드 */
+    private void addGroup(List<String> words) {
+        if (words.size() < 2) return;
+        List<String> members = words.stream().map(w -> w.toLowerCase(Locale.ROOT)).distinct().toList();
+        for (String word : members) {
+            // 여러 묶음에 나오는 단어는 합침
+            List<String> existing = groups.get(compact(word));
+            List<String> merged = new ArrayList<>(existing == null ? List.of() : existing);
+            members.stream().filter(m -> !merged.contains(m)).forEach(merged::add);
+            groups.put(compact(word), merged);
+        }
+    }
+
+    private static List<String> split(String line) {
+        return Arrays.stream(line.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    private static String compact(String s) {
+        return s.replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,109 @@
+package me.swudam.jangbo.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import me.swudam.jangbo.event.ProductChangedEvent;
+import me.swudam.jangbo.event.StoreChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 노드 간 캐시 무효화 버스 (Redis pub/sub)
+// - 로컬 상품/상점 변경 이벤트를 커밋 이후 채널로 발행 -> 다른 노드는 같은 이벤트를 remote=true로 다시 발행
+//   -> 각 노드의 로컬 캐시/검색 색인이 자기 노드 변경과 같은 경로로 무효화 (구독자는 버스를 몰라도 됨)
+// - 메시지: 대상(PRODUCT/STORE) + 변경 종류 + 상품/상점 id + 상인 id + 발생 시각 + 보낸 노드 id
+// - 자기 노드가 보낸 메시지와 remote 이벤트는 다시 내보내지 않음 (무한 전파 방지)
+// - 무효화 이후 이전 값이 다시 캐시되는 경합은 각 캐시의 버전(세대) 비교로 방지
+// - pub/sub은 유실될 수 있음 (구독 끊김 등) -> 캐시 TTL/주기 재구성이 최종 보정
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public enum Target { PRODUCT, STORE }
+
+    // 채널로 주고받는 메시지 (JSON)
+    record InvalidationMessage(String origin, Target target, String type,
+                               List<Long> ids, Set<Long> merchantIds, long occurredAt) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper om = new ObjectMapper();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${jangbo.cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${jangbo.cache.invalidation.channel:jangbo:cache-invalidation}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /* 발행 (커밋 이후) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled || event.remote()) return;
+        publish(new InvalidationMessage(nodeId, Target.PRODUCT, event.type().name(),
+                event.productIds(), event.merchantIds(), event.occurredAt().toEpochMilli()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        if (!enabled || event.remote()) return;
+        publish(new InvalidationMessage(nodeId, Target.STORE, event.type().name(),
+                List.of(event.storeId()), Set.of(event.merchantId()), event.occurredAt().toEpochMilli()));
+    }
+
+    /* 수신 (다른 노드 변경 -> 로컬 이벤트로 다시 발행) */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage m = om.readValue(new String(message.getBody(), StandardCharsets.UTF_8),
+                    InvalidationMessage.class);
+            if (nodeId.equals(m.origin())) return;
+            Instant occurredAt = Instant.ofEpochMilli(m.occurredAt());
+            switch (m.target()) {
+                case PRODUCT -> eventPublisher.publishEvent(new ProductChangedEvent(
+                        m.ids(), m.merchantIds(), ProductChangedEvent.Type.valueOf(m.type()), occurredAt, true));
+                case STORE -> eventPublisher.publishEvent(new StoreChangedEvent(
+                        m.ids().get(0), m.merchantIds().iterator().next(),
+                        StoreChangedEvent.Type.valueOf(m.type()), occurredAt, true));
+            }
+        } catch (Exception e) {
+            log.warn("cache invalidation message dropped: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+        }
+    }
+
+    /* 내부 유틸 메서드 */
+    private void publish(InvalidationMessage m) {
+        try {
+            redisTemplate.convertAndSend(channel, om.writeValueAsString(m));
+        } catch (Exception e) {
+            // 다른 노드는 TTL로 보정
+            log.warn("cache invalidation publish failed: {}", m, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.swudam.jangbo.support;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 버전 기반 ETag 생성/비교 유틸
+// - 응답 본문 대신 "버전 값들"로 ETag를 만들기 때문에 DTO를 만들지 않고도 304 판단 가능
+// - 의미 기반 비교이므로 약한(W/) ETag 사용
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // 버전 구성 요소들 -> 약한 ETag 문자열 (W/"md5")
+    public static String of(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(p -> Objects.toString(p, "-"))
+                .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // If-None-Match 헤더가 현재 ETag와 일치하는지 (약한 비교, 콤마 목록/와일드카드 지원)
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) return false;
+        String current = strip(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.equals("*") || strip(c).equals(current)) return true;
+        }
+        return false;
+    }
+
+    private static String strip(String tag) {
+        String t = tag.trim();
+        return t.startsWith("W/") ? t.substring(2) : t;
+    }
+}
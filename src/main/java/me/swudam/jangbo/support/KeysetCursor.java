@@ -0,0 +1,51 @@
+package me.swudam.jangbo.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 키셋 페이지네이션 커서 (불투명 문자열)
+// - 마지막 행의 정렬 키 값들 + id 를 "sort|v1|v2|...|id" 로 이어 붙여 Base64URL 인코딩
+// - 정렬 기준이 다른 커서를 섞어 쓰면 거절
+// - 해석 시 값마다 형식(parser)을 받아 모두 변환/검증 -> 잘못된 커서는 쿼리 전에 IllegalArgumentException(400)
+public record KeysetCursor(String sort, List<Object> values, long id) {
+
+    private static final String SEP = "|";
+
+    public static KeysetCursor of(String sort, long id, Object... values) {
+        return new KeysetCursor(sort, Arrays.asList(values), id);
+    }
+
+    public String encode() {
+        String raw = sort + SEP + values.stream().map(String::valueOf).collect(Collectors.joining(SEP)) + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 해석 (없으면 null = 첫 페이지), parsers: 정렬 키 값별 형식 (개수 = 값 개수)
+    public static KeysetCursor decode(String cursor, String expectedSort, List<Function<String, ?>> parsers) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != parsers.size() + 2 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            List<Object> values = new ArrayList<>(parsers.size());
+            for (int i = 0; i < parsers.size(); i++) {
+                values.add(parsers.get(i).apply(parts[i + 1]));
+            }
+            return new KeysetCursor(parts[0], List.copyOf(values), Long.parseLong(parts[parts.length - 1]));
+        } catch (IllegalArgumentException | DateTimeException e) { // Base64/숫자/날짜 형식 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public <T> T value(int index, Class<T> type) {
+        return type.cast(values.get(index));
+    }
+}
@@ -0,0 +1,37 @@
+package me.swudam.jangbo.support;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import me.swudam.jangbo.entity.Product;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 상품 id 시퀀스 준비 (IDENTITY -> SEQUENCE 전환 대비)
+// - 시퀀스가 없으면 생성 (증가 폭 = 엔티티의 allocationSize)
+// - 현재 값을 max(product_id) + allocationSize 이상으로 올림 -> 기존 행과 겹치는 id가 나오지 않음
+//   (MariaDB SETVAL은 현재 값보다 작은 값이면 무시하므로 여러 노드가 동시에 실행해도 안전)
+// - EntityManagerFactory 생성(스키마 준비) 이후, 웹 요청을 받기 전에 실행
+// - 실패하면 기동 중단 (시퀀스가 어긋난 채로 뜨면 상품 등록이 PK 충돌로 실패)
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ProductIdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        try {
+            jdbcTemplate.execute("create sequence if not exists product_seq start with 1 increment by "
+                    + Product.ID_ALLOCATION_SIZE);
+            Long maxId = jdbcTemplate.queryForObject("select max(product_id) from products", Long.class);
+            if (maxId != null) {
+                jdbcTemplate.queryForObject("select setval(product_seq, ?)", Long.class,
+                        maxId + Product.ID_ALLOCATION_SIZE);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("상품 id 시퀀스를 준비하지 못했습니다.", e);
+        }
+    }
+}
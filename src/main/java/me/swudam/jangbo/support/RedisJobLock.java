@@ -0,0 +1,41 @@
+package me.swudam.jangbo.support;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// 여러 서버 노드에서 같은 배치 작업이 동시에 돌지 않도록 하는 Redis 락
+// - SET key token NX PX ttl 로 획득, 해제는 토큰이 같을 때만 삭제 (다른 노드 락을 지우지 않도록)
+// - TTL이 지나면 자동 해제 -> 노드가 죽어도 다음 실행이 막히지 않음
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    /* Redis 키 네이밍 컨벤션 */
+    private static final String KEY_PREFIX = "lock:job:";
+
+    // 토큰이 일치할 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 락 획득 시 토큰 반환 (이미 다른 노드가 잡고 있으면 empty)
+    public Optional<String> tryLock(String jobName, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + jobName, token, ttl);
+        return Boolean.TRUE.equals(ok) ? Optional.of(token) : Optional.empty();
+    }
+
+    // 락 해제 (내 토큰일 때만)
+    public void unlock(String jobName, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + jobName), token);
+    }
+}
@@ -0,0 +1,36 @@
+package me.swudam.jangbo.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 상품 카탈로그 증분 동기화 워터마크 (불투명 문자열)
+// - 상품 변경 위치 (updatedAt, productId) + 삭제 기록 위치 (deletedAt, tombstoneId)
+// - "sync|productsAt|productId|deletionsAt|tombstoneId" 를 Base64URL 인코딩
+public record SyncWatermark(LocalDateTime productsAt, long productId, LocalDateTime deletionsAt, long tombstoneId) {
+
+    private static final String PREFIX = "sync";
+    private static final String SEP = "|";
+
+    public String encode() {
+        String raw = String.join(SEP, PREFIX, productsAt.toString(), String.valueOf(productId),
+                deletionsAt.toString(), String.valueOf(tombstoneId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 워터마크 해석 (없으면 null = 처음 동기화)
+    public static SyncWatermark decode(String watermark) {
+        if (watermark == null || watermark.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !parts[0].equals(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 워터마크입니다.");
+            }
+            return new SyncWatermark(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 워터마크입니다.");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package me.swudam.jangbo.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * BK-tree (편집 거리 검색 트리)
+ * ---------------------------------------------------------
+ *  - 각 자식은 부모와의 거리로 구분 -> 삼각 부등식으로 |d - k| > max 인 가지는 건너뜀
+ *  - 거리: HangulJamo.distance (자모 문자열 기준)
+ *  - 삭제는 지원하지 않음 (호출 측이 죽은 항목을 걸러내고 주기적으로 새로 구성)
+ *  - 자식 맵은 ConcurrentHashMap -> 단일 쓰기 스레드 + 다중 읽기 허용
+ */
+public class BkTree {
+
+    private volatile Node root;
+    private int size;
+
+    private static final class Node {
+        final String term;
+        final Map<Integer, Node> children = new ConcurrentHashMap<>();
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+
+    // 추가 (이미 있으면 false)
+    public boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int d = exactDistance(term, node.term);
+            if (d == 0) return false;
+            Node child = node.children.get(d);
+            if (child == null) {
+                node.children.put(d, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    // 거리 max 이내 항목 방문 (항목, 거리)
+    public void search(String query, int max, ObjIntConsumer<String> visitor) {
+        Node start = root;
+        if (start == null) return;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int d = exactDistance(query, node.term);
+            if (d <= max) visitor.accept(node.term, d);
+            for (Map.Entry<Integer, Node> e : node.children.entrySet()) {
+                int k = e.getKey();
+                if (k >= d - max && k <= d + max) stack.push(e.getValue());
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 가지치기가 정확하려면 상한 없는 거리가 필요 (상한 = 긴 쪽 길이 -> 항상 실제 거리)
+    private static int exactDistance(String a, String b) {
+        return HangulJamo.distance(a, b, Math.max(a.length(), b.length()));
+    }
+}
@@ -0,0 +1,96 @@
+package me.swudam.jangbo.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 스트리밍 리더/이스케이프 유틸리티 (RFC 4180)
+ * ---------------------------------------------------------
+ *  - 한 번에 한 레코드씩 읽음 -> 파일 크기와 무관하게 메모리는 레코드 하나 분량
+ *  - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈/"" 처리, 줄바꿈은 \n, \r\n 모두 허용
+ *  - 파일 앞의 UTF-8 BOM은 무시 (엑셀 저장 파일)
+ *  - Reader는 호출 측이 닫음 (버퍼링된 Reader 전달 권장)
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2; // -2: 미사용
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드 (더 없으면 null)
+    public List<String> next() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') c = read();
+        }
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') unread(n);
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // 출력용 필드 이스케이프 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+    public static String escape(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        peeked = c;
+    }
+}
@@ -0,0 +1,111 @@
+package me.swudam.jangbo.util;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * ---------------------------------------------------------
+ * [용도]
+ *  - 초성 검색: "ㄷㅂ" -> "두부"
+ *  - 오타 허용 검색: 음절이 아닌 자모 단위 편집 거리 ("두뷰" -> "두부" 거리 1)
+ * [규칙]
+ *  - 완성형 음절(가~힣)은 초성/중성/종성 호환 자모로 분해 (겹받침/이중모음은 한 글자로 유지)
+ *  - 그 외 문자는 소문자로 바꿔 그대로 유지
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+            'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final char[] JONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ',
+            'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulJamo() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    // 호환 자모 자음(ㄱ~ㅎ) 여부
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 자모 분해: "두부" -> "ㄷㅜㅂㅜ"
+    public static String decompose(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_BASE;
+                sb.append(CHO[code / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(code % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                char jong = JONG[code % JONG_COUNT];
+                if (jong != 0) sb.append(jong);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 초성 추출: "국산 두부" -> "ㄱㅅ ㄷㅂ"
+    public static String choseong(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 초성만으로 된 검색어인지 (공백 허용, 자음 1개 이상)
+    public static boolean isChoseongQuery(String q) {
+        if (q == null || q.isBlank()) return false;
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (!isConsonant(c) && !Character.isWhitespace(c)) return false;
+        }
+        return true;
+    }
+
+    // 편집 거리 (max를 넘으면 max + 1 반환 -> 대각선 띠만 계산)
+    public static int distance(String a, String b, int max) {
+        int n = a.length(), m = b.length();
+        if (Math.abs(n - m) > max) return max + 1;
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+        for (int i = 1; i <= n; i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            int from = Math.max(1, i - max), to = Math.min(m, i + max);
+            if (from > 1) curr[from - 1] = max + 1;
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (to < m) curr[to + 1] = max + 1;
+            if (rowMin > max) return max + 1;
+            int[] t = prev; prev = curr; curr = t;
+        }
+        return Math.min(prev[m], max + 1);
+    }
+}
@@ -0,0 +1,68 @@
+package me.swudam.jangbo.util;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가격 변경 이력 압축 인코딩 (상품별 월 단위 행의 data 열)
+ * ---------------------------------------------------------
+ *  - 항목 = [월 시작부터 지난 초: varint] [직전 가격 대비 차이: zigzag varint]
+ *    -> 한 달 안의 초는 최대 3~4바이트, 가격 차이는 보통 2~3바이트 (항목당 4~7바이트)
+ *  - 첫 항목의 직전 가격은 행의 base_price -> 월 단위로 독립적으로 복원 가능
+ *  - 항목을 뒤에 이어 붙이기만 하면 되므로 DB에서 concat으로 추가 (읽기 없이 append)
+ */
+public final class PriceDeltaCodec {
+
+    private PriceDeltaCodec() {
+    }
+
+    public record Point(LocalDateTime at, int price) {
+    }
+
+    // 항목 하나 인코딩
+    public static byte[] encode(long offsetSeconds, int delta) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8);
+        writeVarint(out, offsetSeconds);
+        writeVarint(out, (delta << 1) ^ (delta >> 31)); // zigzag: 음수도 작은 값으로
+        return out.toByteArray();
+    }
+
+    // 월 데이터 복원 (시간 순서)
+    public static List<Point> decode(LocalDateTime monthStart, int basePrice, byte[] data) {
+        List<Point> points = new ArrayList<>();
+        int price = basePrice;
+        int[] pos = {0};
+        while (pos[0] < data.length) {
+            long offset = readVarint(data, pos);
+            int zigzag = (int) readVarint(data, pos);
+            price += (zigzag >>> 1) ^ -(zigzag & 1);
+            points.add(new Point(monthStart.plusSeconds(offset), price));
+        }
+        return points;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long v = value & 0xFFFFFFFFL;
+        while (v >= 0x80) {
+            out.write((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= data.length) {
+                throw new IllegalStateException("가격 이력 데이터가 손상되었습니다.");
+            }
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package me.swudam.jangbo.service;
+
+import me.swudam.jangbo.dto.cart.CartDeltaResponseDto;
+import me.swudam.jangbo.dto.cart.CartSyncRequestDto;
+import me.swudam.jangbo.entity.Cart;
+import me.swudam.jangbo.entity.CartChange;
+import me.swudam.jangbo.entity.CartChangeType;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.Store;
+import me.swudam.jangbo.repository.CartItemRepository;
+import me.swudam.jangbo.repository.CartRepository;
+import me.swudam.jangbo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 동기화 병합 규칙 (증감 합산, 삭제 add-wins, 자기 기기 변경 제외) 단위 테스트
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CartServiceSyncTest {
+
+    private static final Long CUSTOMER_ID = 1L;
+    private static final Long CART_ID = 10L;
+    private static final long BASE = 3L;
+    private static final long CURRENT = 5L;
+
+    @Mock CartRepository cartRepository;
+    @Mock CartItemRepository cartItemRepository;
+    @Mock CartChangeLogService cartChangeLogService;
+    @Mock ProductRepository productRepository;
+
+    @InjectMocks CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        when(cartRepository.findForUpdateByCustomerId(CUSTOMER_ID))
+                .thenReturn(Optional.of(Cart.builder().id(CART_ID).build()));
+        when(cartChangeLogService.currentRevision(CART_ID)).thenReturn(CURRENT);
+        when(cartChangeLogService.isRetained(eq(CART_ID), anyLong(), anyLong())).thenReturn(true);
+        when(cartChangeLogService.productsTouchedSince(eq(CART_ID), anyLong(), any())).thenReturn(Set.of());
+        when(cartChangeLogService.record(eq(CART_ID), anyList())).thenReturn(CURRENT + 1);
+        when(cartChangeLogService.changesBetween(eq(CART_ID), anyLong(), anyLong())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("삭제: 기준 revision 이후 다른 기기가 건드리지 않은 상품이면 삭제")
+    void removeUntouched() {
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+
+        cartService.sync(CUSTOMER_ID, request("ios-1", remove(7L)));
+
+        verify(cartItemRepository).deleteLines(CART_ID, List.of(100L));
+        assertThat(recorded()).singleElement()
+                .satisfies(c -> {
+                    assertThat(c.getType()).isEqualTo(CartChangeType.REMOVED);
+                    assertThat(c.getItemId()).isEqualTo(100L);
+                });
+    }
+
+    @Test
+    @DisplayName("삭제 add-wins: 다른 기기가 그 사이 담거나 수량을 바꾼 상품은 삭제하지 않음")
+    void removeLosesToConcurrentAdd() {
+        when(cartChangeLogService.productsTouchedSince(CART_ID, BASE, "ios-1")).thenReturn(Set.of(7L));
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+
+        cartService.sync(CUSTOMER_ID, request("ios-1", remove(7L)));
+
+        verify(cartItemRepository, never()).deleteLines(anyLong(), anyCollection());
+        assertThat(recorded()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 revision이 보관 구간 밖이면 판단할 수 없어 삭제 보류")
+    void removeDeferredWhenBaseNotRetained() {
+        when(cartChangeLogService.isRetained(CART_ID, BASE, CURRENT)).thenReturn(false);
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+
+        cartService.sync(CUSTOMER_ID, request("ios-1", remove(7L)));
+
+        verify(cartItemRepository, never()).deleteLines(anyLong(), anyCollection());
+        verify(cartChangeLogService, never()).productsTouchedSince(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("자기 기기 변경은 충돌에서 제외: deviceId를 정리해 전달하고 기록에도 남김")
+    void ownChangesExcluded() {
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+
+        cartService.sync(CUSTOMER_ID, request("  ios-1 ", remove(7L)));
+
+        verify(cartChangeLogService).productsTouchedSince(CART_ID, BASE, "ios-1");
+        assertThat(recorded()).extracting(CartChange::getDeviceId).containsExactly("ios-1");
+    }
+
+    @Test
+    @DisplayName("deviceId가 비어 있으면 모든 변경을 다른 기기 변경으로 봄 (null)")
+    void blankDeviceId() {
+        cartService.sync(CUSTOMER_ID, request(" ", remove(7L)));
+
+        verify(cartChangeLogService).productsTouchedSince(CART_ID, BASE, null);
+    }
+
+    @Test
+    @DisplayName("증가: upsert가 새 줄을 만들면 ADDED, 기존 줄 수량 합산이면 UPDATED")
+    void positiveDeltaClassifiedByUpsertResult() {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(50L);
+        when(productRepository.findById(7L)).thenReturn(Optional.of(product(7L, store)));
+        when(productRepository.findById(8L)).thenReturn(Optional.of(product(8L, store)));
+        when(cartItemRepository.upsertQuantity(eq(CART_ID), eq(7L), eq(50L), eq(2), anyInt(), anyLong(), any()))
+                .thenReturn(1); // INSERT
+        when(cartItemRepository.upsertQuantity(eq(CART_ID), eq(8L), eq(50L), eq(1), anyInt(), anyLong(), any()))
+                .thenReturn(2); // ON DUPLICATE KEY UPDATE
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+        when(cartItemRepository.findLineByProduct(CART_ID, 8L)).thenReturn(Optional.of(new Line(101L, 8L, 1)));
+
+        cartService.sync(CUSTOMER_ID, request("ios-1", delta(7L, 2), delta(8L, 1)));
+
+        assertThat(recorded()).extracting(CartChange::getType, CartChange::getItemId)
+                .containsExactly(
+                        tuple(CartChangeType.ADDED, 100L),
+                        tuple(CartChangeType.UPDATED, 101L));
+    }
+
+    @Test
+    @DisplayName("감소: 하한 1로 합산 후 최종 수량을 UPDATED로 기록, 없는 줄은 무시")
+    void negativeDeltaFloorsAtOne() {
+        when(cartItemRepository.findLineByProduct(CART_ID, 7L)).thenReturn(Optional.of(new Line(100L, 7L, 2)));
+        when(cartItemRepository.findLine(CART_ID, 100L)).thenReturn(Optional.of(new Line(100L, 7L, 1)));
+        when(cartItemRepository.findLineByProduct(CART_ID, 9L)).thenReturn(Optional.empty());
+
+        cartService.sync(CUSTOMER_ID, request("ios-1", delta(7L, -5), delta(9L, -1)));
+
+        verify(cartItemRepository).addQuantityFloorOne(eq(CART_ID), eq(100L), eq(-5), any());
+        assertThat(recorded()).singleElement()
+                .satisfies(c -> {
+                    assertThat(c.getType()).isEqualTo(CartChangeType.UPDATED);
+                    assertThat(c.getQuantity()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("증가: 그 사이 삭제된 상품은 건너뛰고 응답에 알림, 나머지 변경은 반영")
+    void positiveDeltaSkipsDeletedProduct() {
+        Store store = mock(Store.class);
+        when(store.getId()).thenReturn(50L);
+        when(productRepository.findById(7L)).thenReturn(Optional.empty());
+        when(productRepository.findById(8L)).thenReturn(Optional.of(product(8L, store)));
+        when(cartItemRepository.upsertQuantity(eq(CART_ID), eq(8L), eq(50L), eq(1), anyInt(), anyLong(), any()))
+                .thenReturn(1);
+        when(cartItemRepository.findLineByProduct(CART_ID, 8L)).thenReturn(Optional.of(new Line(101L, 8L, 1)));
+
+        CartDeltaResponseDto res = cartService.sync(CUSTOMER_ID, request("ios-1", delta(7L, 2), delta(8L, 1)));
+
+        assertThat(res.getSkippedProductIds()).containsExactly(7L);
+        assertThat(recorded()).extracting(CartChange::getItemId).containsExactly(101L);
+    }
+
+    /* 테스트 유틸 */
+    private record Line(Long itemId, Long productId, Integer quantity) implements CartItemRepository.CartLine {
+        @Override public Long getItemId() { return itemId; }
+        @Override public Long getProductId() { return productId; }
+        @Override public Integer getQuantity() { return quantity; }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CartChange> recorded() {
+        ArgumentCaptor<List<CartChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cartChangeLogService).record(eq(CART_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Product product(Long id, Store store) {
+        return Product.builder().id(id).store(store).name("상품" + id).price(1000).version(0L).build();
+    }
+
+    private static CartSyncRequestDto request(String deviceId, CartSyncRequestDto.Op... ops) {
+        CartSyncRequestDto req = new CartSyncRequestDto();
+        req.setBaseRevision(BASE);
+        req.setDeviceId(deviceId);
+        req.setOps(new ArrayList<>(List.of(ops)));
+        return req;
+    }
+
+    private static CartSyncRequestDto.Op remove(Long productId) {
+        CartSyncRequestDto.Op op = new CartSyncRequestDto.Op();
+        op.setProductId(productId);
+        op.setRemove(true);
+        return op;
+    }
+
+    private static CartSyncRequestDto.Op delta(Long productId, int delta) {
+        CartSyncRequestDto.Op op = new CartSyncRequestDto.Op();
+        op.setProductId(productId);
+        op.setDelta(delta);
+        return op;
+    }
+}
@@ -0,0 +1,155 @@
+package me.swudam.jangbo.service;
+
+import me.swudam.jangbo.entity.Merchant;
+import me.swudam.jangbo.entity.Product;
+import me.swudam.jangbo.entity.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+    private Merchant merchant;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(true);
+        merchant = mock(Merchant.class);
+        when(merchant.getId()).thenReturn(1L);
+        store = mock(Store.class);
+        when(store.getId()).thenReturn(10L);
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색은 LIKE와 같이 이름에 포함된 상품만 반환")
+    void substringSearch() {
+        index.upsert(product(1L, "국산 두부", 1000, 3, 0L));
+        index.upsert(product(2L, "순두부", 1500, 3, 0L));
+        index.upsert(product(3L, "부두 두유", 2000, 3, 0L)); // 같은 글자지만 "두부"로 이어지지 않음
+
+        assertThat(index.search("두부", "cheap", null, false)).containsExactly(1L, 2L);
+        assertThat(index.search("DUBU", "cheap", null, false)).isEmpty();
+        assertThat(index.search("두유", "cheap", null, false)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌면 이전 이름의 포스팅에서 빠짐")
+    void renameRemovesOldPostings() {
+        index.upsert(product(1L, "감자", 1000, 3, 0L));
+        index.upsert(product(1L, "고구마", 1000, 3, 1L));
+
+        assertThat(index.search("감자", "recent", null, false)).isEmpty();
+        assertThat(index.search("고구", "recent", null, false)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제하면 검색되지 않음")
+    void removeDropsPostings() {
+        index.upsert(product(1L, "사과", 1000, 3, 0L));
+        index.remove(1L);
+
+        assertThat(index.search("사과", "recent", null, false)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("더 낮은 버전은 무시 (이벤트/재구성 반영 순서가 뒤바뀌어도 최신 유지)")
+    void versionGuard() {
+        index.upsert(product(1L, "양파", 3000, 3, 5L));
+        index.upsert(product(1L, "대파", 1000, 3, 4L)); // 늦게 도착한 옛 스냅샷
+
+        assertThat(index.search("양파", "recent", null, false)).containsExactly(1L);
+        assertThat(index.search("대파", "recent", null, false)).isEmpty();
+
+        index.upsert(product(1L, "쪽파", 1000, 3, 6L));
+        assertThat(index.search("쪽파", "recent", null, false)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("판매 가능 필터: 품절/재고 0 제외")
+    void sellableOnly() {
+        index.upsert(product(1L, "우유", 1000, 0, 0L));
+        index.upsert(product(2L, "저지방 우유", 1200, 5, 0L));
+
+        assertThat(index.search("우유", "cheap", null, true)).containsExactly(2L);
+        assertThat(index.search("우유", "cheap", null, false)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 삭제된 상품은 재구성 스냅샷으로 되살아나지 않고, 보지 못한 문서는 정리")
+    void rebuildKeepsRemovals() {
+        index.upsert(product(1L, "배추", 1000, 3, 0L));
+        index.upsert(product(2L, "양배추", 1000, 3, 0L));
+
+        index.beginRebuild();
+        index.remove(1L);
+        index.upsert(product(1L, "배추", 1000, 3, 0L)); // 삭제 전에 읽은 재구성 청크
+        index.finishRebuild();
+
+        assertThat(index.search("배추", "recent", null, false)).isEmpty();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 스캔이 놓친 상품도 재구성 중 이벤트로 반영됐으면 유지")
+    void rebuildKeepsUpsertsFromEvents() {
+        index.upsert(product(1L, "배추", 1000, 3, 0L));
+
+        index.beginRebuild();
+        index.upsert(product(1L, "배추", 1000, 3, 0L));   // 재구성 청크
+        index.upsert(product(51L, "알배추", 1000, 3, 0L)); // 이미 읽은 구간에 다른 노드가 만든 상품 (이벤트)
+        index.finishRebuild();
+
+        assertThat(index.search("배추", "recent", null, false)).containsExactlyInAnyOrder(1L, 51L);
+    }
+
+    @Test
+    @DisplayName("커서 페이지: 정렬 키 + id 다음부터 이어서, 커서 상품이 삭제돼도 위치 유지")
+    void searchAfterContinuesFromCursor() {
+        index.upsert(product(1L, "두부", 1000, 3, 0L));
+        index.upsert(product(2L, "순두부", 1000, 3, 0L));
+        index.upsert(product(3L, "연두부", 1500, 3, 0L));
+        index.upsert(product(4L, "두부조림", 2000, 3, 0L));
+
+        List<ProductSearchIndex.Doc> first = index.searchAfter(List.of("두부"), "cheap", null, LocalDate.now(), null, 2);
+        assertThat(first).extracting(ProductSearchIndex.Doc::id).containsExactly(1L, 2L);
+
+        index.remove(2L);
+        ProductSearchIndex.Doc after = ProductSearchIndex.Doc.cursor(2L, 1000, null, null, 0L, 0d);
+        assertThat(index.searchAfter(List.of("두부"), "cheap", null, LocalDate.now(), after, 2))
+                .extracting(ProductSearchIndex.Doc::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("초성 검색과 자모 오타 허용 검색")
+    void choseongAndFuzzy() {
+        index.upsert(product(1L, "두부", 1000, 3, 0L));
+        index.upsert(product(2L, "감자", 1000, 3, 0L));
+
+        assertThat(index.searchFuzzy("ㄷㅂ", false, 10)).extracting(ProductSearchIndex.Doc::id).containsExactly(1L);
+        assertThat(index.searchFuzzy("두뷰", false, 10)).extracting(ProductSearchIndex.Doc::id).containsExactly(1L);
+    }
+
+    private Product product(Long id, String name, int price, int stock, long version) {
+        return Product.builder()
+                .id(id)
+                .merchant(merchant)
+                .store(store)
+                .name(name)
+                .price(price)
+                .stock(stock)
+                .soldOut(stock == 0)
+                .expiryDate(LocalDate.now().plusDays(3))
+                .version(version)
+                .build();
+    }
+}
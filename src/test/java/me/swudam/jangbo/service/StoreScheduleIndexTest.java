@@ -0,0 +1,128 @@
+package me.swudam.jangbo.service;
+
+import me.swudam.jangbo.entity.DayOff;
+import me.swudam.jangbo.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StoreScheduleIndexTest {
+
+    // 2025-03-03은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 3, 3, 0, 0);
+
+    private StoreScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreScheduleIndex(mock(StoreRepository.class));
+    }
+
+    @Test
+    @DisplayName("오픈 시각은 포함, 마감 시각은 제외 [오픈, 마감)")
+    void openInclusiveCloseExclusive() {
+        index.upsert(1L, LocalTime.of(9, 0), LocalTime.of(18, 0), Set.of(DayOff.ALWAYS_OPEN));
+
+        assertThat(index.openStoreIds(at(0, 8, 59))).isEmpty();
+        assertThat(index.openStoreIds(at(0, 9, 0))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(0, 17, 59))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(0, 18, 0))).isEmpty();
+        assertThat(index.isClosed(1L, at(0, 18, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘겨 마감하는 상점은 다음 날 새벽까지 영업")
+    void overnightClose() {
+        index.upsert(1L, LocalTime.of(22, 0), LocalTime.of(2, 0), Set.of());
+
+        assertThat(index.openStoreIds(at(2, 23, 30))).containsExactly(1L);  // 수 23:30
+        assertThat(index.openStoreIds(at(3, 1, 59))).containsExactly(1L);   // 목 01:59 (수요일 영업분)
+        assertThat(index.openStoreIds(at(3, 2, 0))).isEmpty();
+        assertThat(index.openStoreIds(at(3, 21, 59))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일요일 밤 영업은 월요일 새벽으로 이어짐 (주 경계)")
+    void sundayWrapsToMonday() {
+        index.upsert(1L, LocalTime.of(20, 0), LocalTime.of(3, 0), Set.of());
+
+        assertThat(index.openStoreIds(at(6, 23, 59))).containsExactly(1L); // 일 23:59
+        assertThat(index.openStoreIds(at(0, 0, 0))).containsExactly(1L);   // 월 00:00
+        assertThat(index.openStoreIds(at(0, 2, 59))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(0, 3, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오픈 = 마감이면 24시간 영업")
+    void twentyFourHours() {
+        index.upsert(1L, LocalTime.of(0, 0), LocalTime.of(0, 0), Set.of());
+
+        for (int day = 0; day < 7; day++) {
+            assertThat(index.openStoreIds(at(day, 0, 0))).containsExactly(1L);
+            assertThat(index.openStoreIds(at(day, 12, 0))).containsExactly(1L);
+            assertThat(index.openStoreIds(at(day, 23, 59))).containsExactly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("휴무 요일은 닫힘, 전날 밤 영업분은 휴무일 새벽에도 유지")
+    void dayOff() {
+        index.upsert(1L, LocalTime.of(9, 0), LocalTime.of(18, 0), Set.of(DayOff.TUESDAY));
+        index.upsert(2L, LocalTime.of(22, 0), LocalTime.of(2, 0), Set.of(DayOff.TUESDAY));
+
+        assertThat(index.openStoreIds(at(1, 12, 0))).isEmpty();               // 화 12:00
+        assertThat(index.openStoreIds(at(1, 1, 0))).containsExactly(2L);      // 화 01:00 (월요일 영업분)
+        assertThat(index.openStoreIds(at(1, 23, 0))).isEmpty();               // 화요일 밤 영업 없음
+        assertThat(index.openStoreIds(at(2, 1, 0))).isEmpty();                // 수 01:00
+        assertThat(index.openStoreIds(at(2, 12, 0))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("시간 미등록 상점은 색인에서 제외 (닫힘으로 판단하지 않음)")
+    void unscheduledStore() {
+        index.upsert(1L, null, LocalTime.of(18, 0), Set.of());
+
+        assertThat(index.openStoreIds(at(0, 12, 0))).isEmpty();
+        assertThat(index.isClosed(1L, at(0, 12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 스냅샷에 반영됨")
+    void upsertAndRemove() {
+        index.upsert(1L, LocalTime.of(9, 0), LocalTime.of(18, 0), Set.of());
+        index.upsert(2L, LocalTime.of(10, 0), LocalTime.of(20, 0), Set.of());
+        assertThat(index.openStoreIds(at(4, 9, 30))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(4, 12, 0))).containsExactlyInAnyOrder(1L, 2L);
+
+        index.upsert(1L, LocalTime.of(13, 0), LocalTime.of(18, 0), Set.of());
+        assertThat(index.openStoreIds(at(4, 12, 0))).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(index.openStoreIds(at(4, 12, 0))).isEmpty();
+        assertThat(index.isClosed(2L, at(4, 12, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 시간 칸 안에서도 분 단위로 판단")
+    void minutePrecisionWithinHour() {
+        index.upsert(1L, LocalTime.of(9, 30), LocalTime.of(10, 15), Set.of());
+
+        assertThat(index.openStoreIds(at(0, 9, 29))).isEmpty();
+        assertThat(index.openStoreIds(at(0, 9, 30))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(0, 10, 14))).containsExactly(1L);
+        assertThat(index.openStoreIds(at(0, 10, 15))).isEmpty();
+        assertThat(index.isClosed(1L, at(0, 9, 29))).isTrue();
+    }
+
+    // 월요일 기준 day일 뒤 hour:minute
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return MONDAY.plusDays(day).withHour(hour).withMinute(minute);
+    }
+}
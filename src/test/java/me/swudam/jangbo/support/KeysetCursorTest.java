@@ -0,0 +1,88 @@
+package me.swudam.jangbo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final List<Function<String, ?>> POPULAR = List.of(Long::valueOf, LocalDateTime::parse);
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 해석하면 정렬 키 값이 원래 타입으로 돌아온다")
+    void roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15);
+        String encoded = KeysetCursor.of("popular", 42L, 7L, createdAt).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(encoded, "popular", POPULAR);
+
+        assertThat(decoded.sort()).isEqualTo("popular");
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(decoded.value(0, Long.class)).isEqualTo(7L);
+        assertThat(decoded.value(1, LocalDateTime.class)).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("날짜/가격 단일 키 커서도 왕복된다")
+    void roundTripSingleKey() {
+        KeysetCursor fresh = KeysetCursor.decode(
+                KeysetCursor.of("fresh", 3L, LocalDate.of(2025, 12, 31)).encode(), "fresh", List.of(LocalDate::parse));
+        KeysetCursor cheap = KeysetCursor.decode(
+                KeysetCursor.of("cheap", 4L, 1500).encode(), "cheap", List.of(Integer::valueOf));
+
+        assertThat(fresh.value(0, LocalDate.class)).isEqualTo(LocalDate.of(2025, 12, 31));
+        assertThat(cheap.value(0, Integer.class)).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void blankIsFirstPage() {
+        assertThat(KeysetCursor.decode(null, "recent", List.of(LocalDateTime::parse))).isNull();
+        assertThat(KeysetCursor.decode("  ", "recent", List.of(LocalDateTime::parse))).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서는 거절")
+    void rejectsOtherSort() {
+        String encoded = KeysetCursor.of("cheap", 1L, 1000).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded, "recent", List.of(LocalDateTime::parse)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 값 개수가 다르면 거절")
+    void rejectsMalformed() {
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%not-base64", "recent", List.of(LocalDateTime::parse)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("popular|7|42"), "popular", POPULAR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("날짜/숫자/id 형식이 틀리면 쿼리 전에 IllegalArgumentException")
+    void rejectsUnparsableValues() {
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("recent|yesterday|1"), "recent", List.of(LocalDateTime::parse)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("fresh|2025-13-01|1"), "fresh", List.of(LocalDate::parse)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("cheap|abc|1"), "cheap", List.of(Integer::valueOf)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("cheap|100|x"), "cheap", List.of(Integer::valueOf)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String raw(String s) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
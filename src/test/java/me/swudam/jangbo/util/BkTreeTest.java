@@ -0,0 +1,72 @@
+package me.swudam.jangbo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    private static final List<String> TERMS = List.of(
+            "두부", "두유", "순두부", "연두부", "감자", "고구마", "감귤", "귤", "사과", "배추", "양배추",
+            "대파", "쪽파", "양파", "우유", "요거트", "달걀", "닭가슴살", "오이", "호박");
+
+    @Test
+    @DisplayName("중복 항목은 추가하지 않음")
+    void addIgnoresDuplicates() {
+        BkTree tree = new BkTree();
+
+        assertThat(tree.add("ㄷㅜㅂㅜ")).isTrue();
+        assertThat(tree.add("ㄷㅜㅇㅠ")).isTrue();
+        assertThat(tree.add("ㄷㅜㅂㅜ")).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빈 트리 검색은 아무것도 방문하지 않음")
+    void emptyTree() {
+        Map<String, Integer> found = new HashMap<>();
+        new BkTree().search("ㄷㅜㅂㅜ", 2, found::put);
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가지치기 결과가 전체 비교(브루트 포스)와 같음")
+    void searchMatchesBruteForce() {
+        BkTree tree = new BkTree();
+        TERMS.forEach(t -> tree.add(HangulJamo.decompose(t)));
+
+        for (String q : List.of("두뷰", "감쟈", "양퍄", "우유", "닭", "오이", "고구마")) {
+            String query = HangulJamo.decompose(q);
+            for (int max = 0; max <= 3; max++) {
+                Map<String, Integer> found = new HashMap<>();
+                tree.search(query, max, found::put);
+
+                Map<String, Integer> expected = new HashMap<>();
+                for (String t : TERMS) {
+                    String term = HangulJamo.decompose(t);
+                    int d = HangulJamo.distance(query, term, Math.max(query.length(), term.length()));
+                    if (d <= max) expected.put(term, d);
+                }
+                assertThat(found).as("%s (max %d)", q, max).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("자모 오타 한 글자는 거리 1로 찾음")
+    void findsJamoTypo() {
+        BkTree tree = new BkTree();
+        TERMS.forEach(t -> tree.add(HangulJamo.decompose(t)));
+
+        Map<String, Integer> found = new HashMap<>();
+        tree.search(HangulJamo.decompose("두뷰"), 1, found::put);
+
+        assertThat(found).containsEntry(HangulJamo.decompose("두부"), 1)
+                .doesNotContainKey(HangulJamo.decompose("순두부"));
+    }
+}
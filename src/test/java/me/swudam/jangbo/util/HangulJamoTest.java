@@ -0,0 +1,85 @@
+package me.swudam.jangbo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("음절을 초성/중성/종성 호환 자모로 분해 (겹받침/이중모음은 한 글자)")
+    void decompose() {
+        assertThat(HangulJamo.decompose("두부")).isEqualTo("ㄷㅜㅂㅜ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄺ");
+        assertThat(HangulJamo.decompose("과일")).isEqualTo("ㄱㅘㅇㅣㄹ");
+        assertThat(HangulJamo.decompose("CJ 햇반")).isEqualTo("cj ㅎㅐㅅㅂㅏㄴ");
+        assertThat(HangulJamo.decompose(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초성 추출: 음절만 초성으로, 나머지 문자는 소문자로 유지")
+    void choseong() {
+        assertThat(HangulJamo.choseong("국산 두부")).isEqualTo("ㄱㅅ ㄷㅂ");
+        assertThat(HangulJamo.choseong("쌀 10kg")).isEqualTo("ㅆ 10kg");
+        assertThat(HangulJamo.choseong("Apple망고")).isEqualTo("appleㅁㄱ");
+    }
+
+    @Test
+    @DisplayName("초성 검색어 판별: 자음과 공백만")
+    void isChoseongQuery() {
+        assertThat(HangulJamo.isChoseongQuery("ㄷㅂ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("ㄱㅅ ㄷㅂ")).isTrue();
+        assertThat(HangulJamo.isChoseongQuery("ㄷ부")).isFalse();
+        assertThat(HangulJamo.isChoseongQuery("ㅏ")).isFalse();
+        assertThat(HangulJamo.isChoseongQuery("  ")).isFalse();
+        assertThat(HangulJamo.isChoseongQuery(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("자모 단위 편집 거리: 음절 하나의 받침/모음 오타는 거리 1")
+    void distanceOnJamo() {
+        assertThat(jamoDistance("두뷰", "두부", 2)).isEqualTo(1);   // ㅜ -> ㅠ
+        assertThat(jamoDistance("감쟈", "감자", 2)).isEqualTo(1);   // ㅏ -> ㅑ
+        assertThat(jamoDistance("닭", "달", 2)).isEqualTo(1);       // ㄺ -> ㄹ
+        assertThat(jamoDistance("두부", "두부", 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("편집 거리: 삽입/삭제/치환")
+    void distanceBasics() {
+        assertThat(HangulJamo.distance("kitten", "sitting", 5)).isEqualTo(3);
+        assertThat(HangulJamo.distance("", "abc", 5)).isEqualTo(3);
+        assertThat(HangulJamo.distance("abc", "", 5)).isEqualTo(3);
+        assertThat(HangulJamo.distance("abcd", "abd", 5)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 max + 1 (길이 차이만으로도 조기 종료)")
+    void distanceCappedAtMaxPlusOne() {
+        assertThat(HangulJamo.distance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(HangulJamo.distance("abcdef", "uvwxyz", 1)).isEqualTo(2);
+        assertThat(HangulJamo.distance("a", "abcdef", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대각선 띠만 계산해도 상한 이내 거리는 전체 계산과 같음")
+    void bandedMatchesFull() {
+        String[] words = {"두부", "두유", "순두부", "연두부", "감자", "고구마", "감귤", "귤", "사과", "배추", "양배추"};
+        for (String a : words) {
+            for (String b : words) {
+                String ja = HangulJamo.decompose(a), jb = HangulJamo.decompose(b);
+                int full = HangulJamo.distance(ja, jb, Math.max(ja.length(), jb.length()));
+                for (int max = 0; max <= 3; max++) {
+                    assertThat(HangulJamo.distance(ja, jb, max))
+                            .as("%s / %s (max %d)", a, b, max)
+                            .isEqualTo(Math.min(full, max + 1));
+                }
+            }
+        }
+    }
+
+    private static int jamoDistance(String a, String b, int max) {
+        return HangulJamo.distance(HangulJamo.decompose(a), HangulJamo.decompose(b), max);
+    }
+}
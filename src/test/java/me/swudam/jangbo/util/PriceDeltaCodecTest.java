@@ -0,0 +1,77 @@
+package me.swudam.jangbo.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceDeltaCodecTest {
+
+    private static final LocalDateTime MONTH = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    @DisplayName("이어 붙인 항목들을 월 시작 시각 + 기준 가격으로 순서대로 복원")
+    void appendAndDecode() {
+        byte[] data = concat(
+                PriceDeltaCodec.encode(60, 500),                // 03-01 00:01 -> 3500
+                PriceDeltaCodec.encode(86_400 * 10, -1_200),    // 03-11 00:00 -> 2300
+                PriceDeltaCodec.encode(86_400 * 31 - 1, 0));    // 03-31 23:59:59 -> 2300
+
+        List<PriceDeltaCodec.Point> points = PriceDeltaCodec.decode(MONTH, 3000, data);
+
+        assertThat(points).containsExactly(
+                new PriceDeltaCodec.Point(MONTH.plusMinutes(1), 3500),
+                new PriceDeltaCodec.Point(MONTH.plusDays(10), 2300),
+                new PriceDeltaCodec.Point(MONTH.plusDays(31).minusSeconds(1), 2300));
+    }
+
+    @Test
+    @DisplayName("작은 차이는 짧게 인코딩 (zigzag: 음수도 1바이트)")
+    void smallDeltasAreCompact() {
+        assertThat(PriceDeltaCodec.encode(0, 0)).hasSize(2);
+        assertThat(PriceDeltaCodec.encode(0, -1)).hasSize(2);
+        assertThat(PriceDeltaCodec.encode(0, 63)).hasSize(2);
+        assertThat(PriceDeltaCodec.encode(0, -64)).hasSize(2);
+        assertThat(PriceDeltaCodec.encode(0, 64)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("큰 가격 변동도 그대로 복원")
+    void largeDeltas() {
+        byte[] data = concat(
+                PriceDeltaCodec.encode(1, 10_000_000),
+                PriceDeltaCodec.encode(2, -10_000_000 - 100));
+
+        List<PriceDeltaCodec.Point> points = PriceDeltaCodec.decode(MONTH, 100, data);
+
+        assertThat(points).extracting(PriceDeltaCodec.Point::price).containsExactly(10_000_100, 0);
+    }
+
+    @Test
+    @DisplayName("빈 데이터는 빈 목록")
+    void emptyData() {
+        assertThat(PriceDeltaCodec.decode(MONTH, 1000, new byte[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 데이터는 손상으로 거절")
+    void truncatedData() {
+        byte[] entry = PriceDeltaCodec.encode(86_400 * 20, 300);
+        byte[] truncated = Arrays.copyOf(entry, entry.length - 1);
+
+        assertThatThrownBy(() -> PriceDeltaCodec.decode(MONTH, 1000, truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static byte[] concat(byte[]... entries) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] e : entries) out.writeBytes(e);
+        return out.toByteArray();
+    }
+}